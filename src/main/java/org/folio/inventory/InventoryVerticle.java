@@ -5,27 +5,54 @@ import io.vertx.core.AsyncResult;
 import io.vertx.core.Future;
 import io.vertx.core.Handler;
 import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
 import io.vertx.core.http.HttpServer;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
+import io.vertx.core.shareddata.LocalMap;
 import io.vertx.ext.web.Router;
 import org.folio.inventory.common.WebRequestDiagnostics;
+import org.folio.inventory.common.WebRequestMetrics;
+import org.folio.inventory.dataimport.DataImportEventHandling;
 import org.folio.inventory.domain.ingest.IngestMessageProcessor;
 import org.folio.inventory.resources.EventHandlers;
 import org.folio.inventory.resources.Instances;
 import org.folio.inventory.resources.InstancesBatch;
 import org.folio.inventory.resources.IsbnUtilsApi;
 import org.folio.inventory.resources.Items;
+import org.folio.inventory.resources.MetricsApi;
 import org.folio.inventory.resources.MoveApi;
 import org.folio.inventory.resources.TenantApi;
 import org.folio.inventory.resources.ingest.ModsIngestion;
+import org.folio.inventory.services.ChunkedMoveService;
+import org.folio.inventory.services.MoveJobs;
+import org.folio.inventory.services.SuppressFromDiscoveryOutbox;
 import org.folio.inventory.storage.Storage;
+import org.folio.inventory.storage.external.ReferenceDataCache;
+import org.folio.inventory.support.AsyncWorkLimiter;
+import org.folio.inventory.support.http.JsonEncoder;
+import org.folio.inventory.support.http.client.ConnectionPoolMetrics;
+import org.folio.inventory.support.http.client.StorageHttpClientOptions;
 
 import java.lang.invoke.MethodHandles;
+import java.util.concurrent.TimeUnit;
 
 public class InventoryVerticle extends AbstractVerticle {
+  private static final String SHARED_STATE_MAP_NAME = "mod-inventory";
+  private static final String REFERENCE_DATA_CACHE_KEY = "reference-data-cache";
+  private static final String MOVE_JOBS_KEY = "move-jobs";
+  private static final String DATA_IMPORT_EVENT_HANDLING_KEY = "data-import-event-handling";
+
+  public static final String POOL_METRICS_LOG_INTERVAL_CONFIG_KEY
+    = "http.client.pool.metrics.log.interval.seconds";
+
+  private static final long DEFAULT_POOL_METRICS_LOG_INTERVAL_SECONDS = 60;
+
   private HttpServer server;
+  private HttpClient client;
+  private SuppressFromDiscoveryOutbox suppressFromDiscoveryOutbox;
+  private DataImportEventHandling dataImportEventHandling;
 
   @Override
   public void start(Future<Void> started) {
@@ -44,22 +71,48 @@ public class InventoryVerticle extends AbstractVerticle {
     config.fieldNames().stream().forEach(key ->
       log.info(String.format("%s:%s", key, config.getValue(key).toString())));
 
-    HttpClient client = vertx.createHttpClient();
+    JsonEncoder.usePrettyPrinting(
+      config.getBoolean(JsonEncoder.PRETTY_PRINT_CONFIG_KEY, false));
+
+    HttpClientOptions clientOptions = StorageHttpClientOptions.fromConfig(config);
+
+    client = vertx.createHttpClient(clientOptions);
+
+    ConnectionPoolMetrics poolMetrics = ConnectionPoolMetrics.register(
+      client, clientOptions);
+
+    vertx.setPeriodic(TimeUnit.SECONDS.toMillis(config.getLong(
+      POOL_METRICS_LOG_INTERVAL_CONFIG_KEY, DEFAULT_POOL_METRICS_LOG_INTERVAL_SECONDS)),
+      id -> poolMetrics.logUtilisation());
 
     Storage storage = Storage.basedUpon(vertx, config, client);
 
+    ReferenceDataCache referenceDataCache = sharedReferenceDataCache(config);
+
+    AsyncWorkLimiter relatedRecordsLimiter = AsyncWorkLimiter.fromConfig(config);
+
+    suppressFromDiscoveryOutbox = SuppressFromDiscoveryOutbox.register(
+      vertx, client, config);
+
+    dataImportEventHandling = sharedDataImportEventHandling(config);
+
     new IngestMessageProcessor(storage).register(vertx.eventBus());
 
+    router.route().handler(WebRequestMetrics::recordMetrics);
     router.route().handler(WebRequestDiagnostics::outputDiagnostics);
 
     new ModsIngestion(storage, client).register(router);
-    new Items(storage, client).register(router);
-    new MoveApi(storage, client).register(router);
-    new Instances(storage, client).register(router);
-    new InstancesBatch(storage, client).register(router);
+    new Items(storage, client, referenceDataCache).register(router);
+    new MoveApi(storage, client, ChunkedMoveService.fromConfig(config),
+      sharedMoveJobs(config)).register(router);
+    // Batches are registered first, as streamed batches must not be read by a body handler
+    new InstancesBatch(storage, client, relatedRecordsLimiter).register(router);
+    new Instances(storage, client, relatedRecordsLimiter, suppressFromDiscoveryOutbox)
+      .register(router);
     new IsbnUtilsApi().register(router);
     new TenantApi().register(router);
-    new EventHandlers(storage, client).register(router);
+    new MetricsApi().register(router);
+    new EventHandlers(storage, dataImportEventHandling).register(router);
 
     Handler<AsyncResult<HttpServer>> onHttpServerStart = result -> {
       if (result.succeeded()) {
@@ -79,6 +132,9 @@ public class InventoryVerticle extends AbstractVerticle {
     final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
     log.info("Stopping inventory module");
+    ConnectionPoolMetrics.unregister(client);
+    SuppressFromDiscoveryOutbox.unregister(suppressFromDiscoveryOutbox);
+    releaseDataImportEventHandling();
     server.close(result -> {
       if (result.succeeded()) {
         log.info("Inventory module stopped");
@@ -88,4 +144,72 @@ public class InventoryVerticle extends AbstractVerticle {
       }
     });
   }
+
+  /**
+   * Many instances of this verticle may be deployed, they should all share
+   * the same cache rather than each fetching the same records
+   */
+  private ReferenceDataCache sharedReferenceDataCache(JsonObject config) {
+    LocalMap<String, ReferenceDataCache> sharedState =
+      vertx.sharedData().getLocalMap(SHARED_STATE_MAP_NAME);
+
+    ReferenceDataCache cache = ReferenceDataCache.fromConfig(config);
+
+    ReferenceDataCache existingCache = sharedState.putIfAbsent(
+      REFERENCE_DATA_CACHE_KEY, cache);
+
+    return existingCache != null ? existingCache : cache;
+  }
+
+  /**
+   * The status of a move may be requested via a different instance of this
+   * verticle to the one carrying out the move
+   */
+  private MoveJobs sharedMoveJobs(JsonObject config) {
+    LocalMap<String, MoveJobs> sharedState =
+      vertx.sharedData().getLocalMap(SHARED_STATE_MAP_NAME);
+
+    MoveJobs moveJobs = MoveJobs.fromConfig(config);
+
+    MoveJobs existingMoveJobs = sharedState.putIfAbsent(MOVE_JOBS_KEY, moveJobs);
+
+    return existingMoveJobs != null ? existingMoveJobs : moveJobs;
+  }
+
+  /**
+   * Data import loaders and handlers are registered globally, so all instances
+   * of this verticle share them, until the last instance stops
+   */
+  private DataImportEventHandling sharedDataImportEventHandling(JsonObject config) {
+    LocalMap<String, DataImportEventHandling> sharedState =
+      vertx.sharedData().getLocalMap(SHARED_STATE_MAP_NAME);
+
+    synchronized (sharedState) {
+      DataImportEventHandling handling = sharedState.get(DATA_IMPORT_EVENT_HANDLING_KEY);
+
+      if (handling == null) {
+        handling = DataImportEventHandling.create(vertx, config);
+        sharedState.put(DATA_IMPORT_EVENT_HANDLING_KEY, handling);
+      }
+
+      handling.acquire();
+
+      return handling;
+    }
+  }
+
+  private void releaseDataImportEventHandling() {
+    if (dataImportEventHandling == null) {
+      return;
+    }
+
+    LocalMap<String, DataImportEventHandling> sharedState =
+      vertx.sharedData().getLocalMap(SHARED_STATE_MAP_NAME);
+
+    synchronized (sharedState) {
+      if (dataImportEventHandling.release()) {
+        sharedState.remove(DATA_IMPORT_EVENT_HANDLING_KEY);
+      }
+    }
+  }
 }
@@ -3,6 +3,14 @@ package org.folio.inventory;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import org.folio.inventory.common.VertxAssistant;
+import org.folio.inventory.dataimport.DataImportWorkerPool;
+import org.folio.inventory.services.ChunkedMoveService;
+import org.folio.inventory.services.MoveJobs;
+import org.folio.inventory.services.SuppressFromDiscoveryOutbox;
+import org.folio.inventory.storage.external.ReferenceDataCache;
+import org.folio.inventory.support.AsyncWorkLimiter;
+import org.folio.inventory.support.http.JsonEncoder;
+import org.folio.inventory.support.http.client.StorageHttpClientOptions;
 
 import java.lang.invoke.MethodHandles;
 import java.util.HashMap;
@@ -33,14 +41,121 @@ public class Launcher {
     String storageLocation = System.getProperty(
       "org.folio.metadata.inventory.storage.location", null);
 
+    Long referenceDataCacheSize = Long.getLong(
+      "org.folio.inventory.reference.data.cache.size", null);
+
+    Long referenceDataCacheTimeToLive = Long.getLong(
+      "org.folio.inventory.reference.data.cache.ttl.seconds", null);
+
+    Integer verticleInstances = Integer.getInteger(
+      "org.folio.inventory.verticle.instances",
+      Runtime.getRuntime().availableProcessors());
+
+    String prettyPrintJson = System.getProperty(
+      "org.folio.inventory.json.pretty.print", null);
+
+    Integer httpClientMaximumPoolSize = Integer.getInteger(
+      "org.folio.inventory.http.client.max.pool.size", null);
+
+    String httpClientKeepAlive = System.getProperty(
+      "org.folio.inventory.http.client.keep.alive", null);
+
+    String httpClientPipelining = System.getProperty(
+      "org.folio.inventory.http.client.pipelining", null);
+
+    Integer httpClientPipeliningLimit = Integer.getInteger(
+      "org.folio.inventory.http.client.pipelining.limit", null);
+
+    Integer httpClientIdleTimeout = Integer.getInteger(
+      "org.folio.inventory.http.client.idle.timeout.seconds", null);
+
+    Integer httpClientMaximumWaitQueueSize = Integer.getInteger(
+      "org.folio.inventory.http.client.max.wait.queue.size", null);
+
+    Long poolMetricsLogInterval = Long.getLong(
+      "org.folio.inventory.http.client.pool.metrics.log.interval.seconds", null);
+
+    Integer relatedRecordsMaximumInFlight = Integer.getInteger(
+      "org.folio.inventory.related.records.max.in.flight", null);
+
+    Integer relatedRecordsMaximumInFlightPerRequest = Integer.getInteger(
+      "org.folio.inventory.related.records.max.in.flight.per.request", null);
+
+    Integer suppressOutboxMaximumInFlight = Integer.getInteger(
+      "org.folio.inventory.srs.suppress.outbox.max.in.flight", null);
+
+    Integer suppressOutboxMaximumAttempts = Integer.getInteger(
+      "org.folio.inventory.srs.suppress.outbox.max.attempts", null);
+
+    Long suppressOutboxInitialBackoff = Long.getLong(
+      "org.folio.inventory.srs.suppress.outbox.initial.backoff.milliseconds", null);
+
+    Integer moveChunkSize = Integer.getInteger(
+      "org.folio.inventory.move.chunk.size", null);
+
+    Integer moveMaximumInFlight = Integer.getInteger(
+      "org.folio.inventory.move.max.in.flight", null);
+
+    Integer moveMaximumInFlightPerMove = Integer.getInteger(
+      "org.folio.inventory.move.max.in.flight.per.move", null);
+
+    Integer moveJobsMaximumCompleted = Integer.getInteger(
+      "org.folio.inventory.move.jobs.max.completed", null);
+
+    Integer dataImportWorkerPoolSize = Integer.getInteger(
+      "org.folio.inventory.data.import.worker.pool.size", null);
+
+    Long dataImportWorkerMaximumExecuteTime = Long.getLong(
+      "org.folio.inventory.data.import.worker.max.execute.time.seconds", null);
+
     putNonNullConfig("storage.type", storageType, config);
     putNonNullConfig("storage.location", storageLocation, config);
     putNonNullConfig("port", port, config);
-
-    start(config);
+    putNonNullConfig(ReferenceDataCache.MAXIMUM_SIZE_CONFIG_KEY, referenceDataCacheSize, config);
+    putNonNullConfig(ReferenceDataCache.TIME_TO_LIVE_CONFIG_KEY, referenceDataCacheTimeToLive, config);
+    putNonNullConfig(JsonEncoder.PRETTY_PRINT_CONFIG_KEY,
+      prettyPrintJson != null ? Boolean.valueOf(prettyPrintJson) : null, config);
+    putNonNullConfig(StorageHttpClientOptions.MAXIMUM_POOL_SIZE_CONFIG_KEY,
+      httpClientMaximumPoolSize, config);
+    putNonNullConfig(StorageHttpClientOptions.KEEP_ALIVE_CONFIG_KEY,
+      httpClientKeepAlive != null ? Boolean.valueOf(httpClientKeepAlive) : null, config);
+    putNonNullConfig(StorageHttpClientOptions.PIPELINING_CONFIG_KEY,
+      httpClientPipelining != null ? Boolean.valueOf(httpClientPipelining) : null, config);
+    putNonNullConfig(StorageHttpClientOptions.PIPELINING_LIMIT_CONFIG_KEY,
+      httpClientPipeliningLimit, config);
+    putNonNullConfig(StorageHttpClientOptions.IDLE_TIMEOUT_CONFIG_KEY,
+      httpClientIdleTimeout, config);
+    putNonNullConfig(StorageHttpClientOptions.MAXIMUM_WAIT_QUEUE_SIZE_CONFIG_KEY,
+      httpClientMaximumWaitQueueSize, config);
+    putNonNullConfig(InventoryVerticle.POOL_METRICS_LOG_INTERVAL_CONFIG_KEY,
+      poolMetricsLogInterval, config);
+    putNonNullConfig(AsyncWorkLimiter.MAXIMUM_IN_FLIGHT_CONFIG_KEY,
+      relatedRecordsMaximumInFlight, config);
+    putNonNullConfig(AsyncWorkLimiter.MAXIMUM_IN_FLIGHT_PER_REQUEST_CONFIG_KEY,
+      relatedRecordsMaximumInFlightPerRequest, config);
+    putNonNullConfig(SuppressFromDiscoveryOutbox.MAXIMUM_IN_FLIGHT_CONFIG_KEY,
+      suppressOutboxMaximumInFlight, config);
+    putNonNullConfig(SuppressFromDiscoveryOutbox.MAXIMUM_ATTEMPTS_CONFIG_KEY,
+      suppressOutboxMaximumAttempts, config);
+    putNonNullConfig(SuppressFromDiscoveryOutbox.INITIAL_BACKOFF_CONFIG_KEY,
+      suppressOutboxInitialBackoff, config);
+    putNonNullConfig(ChunkedMoveService.CHUNK_SIZE_CONFIG_KEY,
+      moveChunkSize, config);
+    putNonNullConfig(ChunkedMoveService.MAXIMUM_IN_FLIGHT_CONFIG_KEY,
+      moveMaximumInFlight, config);
+    putNonNullConfig(ChunkedMoveService.MAXIMUM_IN_FLIGHT_PER_MOVE_CONFIG_KEY,
+      moveMaximumInFlightPerMove, config);
+    putNonNullConfig(MoveJobs.MAXIMUM_COMPLETED_JOBS_CONFIG_KEY,
+      moveJobsMaximumCompleted, config);
+    putNonNullConfig(DataImportWorkerPool.POOL_SIZE_CONFIG_KEY,
+      dataImportWorkerPoolSize, config);
+    putNonNullConfig(DataImportWorkerPool.MAXIMUM_EXECUTE_TIME_CONFIG_KEY,
+      dataImportWorkerMaximumExecuteTime, config);
+
+    start(config, verticleInstances);
   }
 
-  private static void start(Map<String, Object> config)
+  private static void start(Map<String, Object> config, int verticleInstances)
     throws InterruptedException, ExecutionException, TimeoutException {
 
     final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
@@ -52,7 +167,7 @@ public class Launcher {
     CompletableFuture<String> deployed = new CompletableFuture<>();
 
     vertxAssistant.deployVerticle(InventoryVerticle.class.getName(),
-      config, deployed);
+      config, verticleInstances, deployed);
 
     deployed.thenAccept(v -> log.info("Server Started"));
 
@@ -52,19 +52,48 @@ public class VertxAssistant {
                              Map<String, Object> config,
                              CompletableFuture<String> deployed) {
 
-    long startTime = System.currentTimeMillis();
-
     DeploymentOptions options = new DeploymentOptions();
 
     options.setConfig(new JsonObject(config));
     options.setWorker(true);
 
+    deployVerticle(verticleClass, options, deployed);
+  }
+
+  /**
+   * Deploys many instances of a verticle, each running on an event loop
+   *
+   * @param verticleClass name of the verticle class
+   * @param config        configuration given to every instance
+   * @param instances     how many instances to deploy
+   * @param deployed      completed with the deployment id once all instances are deployed
+   */
+  public void deployVerticle(String verticleClass,
+                             Map<String, Object> config,
+                             int instances,
+                             CompletableFuture<String> deployed) {
+
+    DeploymentOptions options = new DeploymentOptions();
+
+    options.setConfig(new JsonObject(config));
+    options.setInstances(instances);
+
+    deployVerticle(verticleClass, options, deployed);
+  }
+
+  private void deployVerticle(String verticleClass,
+                              DeploymentOptions options,
+                              CompletableFuture<String> deployed) {
+
+    long startTime = System.currentTimeMillis();
+
     vertx.deployVerticle(verticleClass, options, result -> {
       if (result.succeeded()) {
         long elapsedTime = System.currentTimeMillis() - startTime;
 
         log.info(String.format(
-          "%s deployed in %s milliseconds", verticleClass, elapsedTime));
+          "%s instance(s) of %s deployed in %s milliseconds",
+          options.getInstances(), verticleClass, elapsedTime));
 
         deployed.complete(result.result());
       } else {
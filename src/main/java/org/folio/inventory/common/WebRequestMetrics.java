@@ -0,0 +1,24 @@
+package org.folio.inventory.common;
+
+import org.folio.inventory.support.metrics.MetricsRegistry;
+
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.RoutingContext;
+
+public class WebRequestMetrics {
+  private WebRequestMetrics() {
+
+  }
+
+  public static void recordMetrics(RoutingContext routingContext) {
+    final long startTime = System.nanoTime();
+    final HttpServerRequest request = routingContext.request();
+
+    routingContext.addBodyEndHandler(v ->
+      MetricsRegistry.getInstance().recordInboundRequest(request.rawMethod(),
+        request.path(), routingContext.response().getStatusCode(),
+        System.nanoTime() - startTime));
+
+    routingContext.next();
+  }
+}
@@ -0,0 +1,88 @@
+package org.folio.inventory.common.api.request;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+import io.vertx.core.json.DecodeException;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Position in a collection sorted by id, used to fetch the next page of
+ * records that come after the last record of the previous page, rather than
+ * skipping an offset, so each page costs the same no matter how deep it is.
+ *
+ * Clients start with {@link #FIRST_PAGE} and then pass back the next cursor
+ * from each page, which is opaque to them.
+ */
+public class PagingCursor {
+  public static final String FIRST_PAGE = "*";
+
+  private static final String SORT_BY_KEY = "sortBy";
+  private static final String LAST_ID_KEY = "id";
+  private static final String SORT_BY_ID = "id";
+
+  // The last id is included in a CQL query, so must not contain any quotes
+  private static final Pattern ID_PATTERN = Pattern.compile("[0-9a-zA-Z-]+");
+
+  private final String lastId;
+
+  private PagingCursor(String lastId) {
+    this.lastId = lastId;
+  }
+
+  public static PagingCursor firstPage() {
+    return new PagingCursor(null);
+  }
+
+  public static PagingCursor after(String lastId) {
+    return new PagingCursor(lastId);
+  }
+
+  /**
+   * @return the decoded cursor, or null when it is not valid
+   */
+  public static PagingCursor parse(String cursor) {
+    if (FIRST_PAGE.equals(cursor)) {
+      return firstPage();
+    }
+
+    try {
+      final JsonObject decoded = new JsonObject(new String(
+        Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+
+      final String lastId = decoded.getString(LAST_ID_KEY);
+
+      if (!SORT_BY_ID.equals(decoded.getString(SORT_BY_KEY))
+        || lastId == null || !ID_PATTERN.matcher(lastId).matches()) {
+
+        return null;
+      }
+
+      return after(lastId);
+    } catch (IllegalArgumentException | DecodeException | ClassCastException e) {
+      return null;
+    }
+  }
+
+  public boolean isFirstPage() {
+    return lastId == null;
+  }
+
+  public String getLastId() {
+    return lastId;
+  }
+
+  public String encode() {
+    if (isFirstPage()) {
+      return FIRST_PAGE;
+    }
+
+    final JsonObject cursor = new JsonObject()
+      .put(SORT_BY_KEY, SORT_BY_ID)
+      .put(LAST_ID_KEY, lastId);
+
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(
+      cursor.encode().getBytes(StandardCharsets.UTF_8));
+  }
+}
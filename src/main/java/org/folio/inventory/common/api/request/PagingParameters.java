@@ -1,31 +1,86 @@
 package org.folio.inventory.common.api.request;
 
+import java.util.List;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
 import org.apache.commons.lang3.StringUtils;
 import org.folio.inventory.common.WebContext;
 
+import io.vertx.core.json.JsonObject;
+
 public class PagingParameters {
+  public static final String CURSOR_PARAMETER = "cursor";
+  public static final String NEXT_CURSOR_KEY = "nextCursor";
+
+  private static final Pattern QUOTED_TERM = Pattern.compile("\"(?:[^\"\\\\]|\\\\.)*\"");
+  private static final Pattern SORT_CLAUSE = Pattern.compile("(^|[\\s)])sortBy\\s",
+    Pattern.CASE_INSENSITIVE);
+
   public final Integer limit;
   public final Integer offset;
+  /**
+   * When present, the page is the records after the cursor (sorted by id)
+   * and the offset is ignored
+   */
+  public final PagingCursor cursor;
 
   public PagingParameters(Integer limit, Integer offset) {
+    this(limit, offset, null);
+  }
+
+  public PagingParameters(Integer limit, Integer offset, PagingCursor cursor) {
     this.offset = offset;
     this.limit = limit;
+    this.cursor = cursor;
   }
 
   public static PagingParameters defaults() {
     return new PagingParameters(10, 0);
   }
 
+  /**
+   * @return the paging parameters, or null when any of them are not valid,
+   * see {@link #invalidReason(WebContext)}
+   */
   public static PagingParameters from(WebContext context) {
+    if (invalidReason(context) != null) {
+      return null;
+    }
+
     String limit = context.getStringParameter("limit", "10");
     String offset = context.getStringParameter("offset", "0");
+    String cursor = context.getStringParameter(CURSOR_PARAMETER, null);
 
-    if (valid(limit, offset)) {
-      return new PagingParameters(Integer.parseInt(limit), Integer.parseInt(offset));
-    } else {
+    return new PagingParameters(Integer.parseInt(limit), Integer.parseInt(offset),
+      cursor != null ? PagingCursor.parse(cursor) : null);
+  }
+
+  /**
+   * @return why the paging parameters are not valid, or null when they are
+   */
+  public static String invalidReason(WebContext context) {
+    String limit = context.getStringParameter("limit", "10");
+    String offset = context.getStringParameter("offset", "0");
+    String cursor = context.getStringParameter(CURSOR_PARAMETER, null);
+
+    if (!valid(limit, offset)) {
+      return "limit and offset must be numeric when supplied";
+    }
+
+    if (cursor == null) {
       return null;
     }
 
+    if (PagingCursor.parse(cursor) == null) {
+      return "cursor is not valid";
+    }
+
+    if (hasSortClause(context.getStringParameter("query", null))) {
+      return "cursor cannot be used with a sorted query, records are sorted by id";
+    }
+
+    return null;
   }
 
   public static boolean valid(String limit, String offset) {
@@ -35,4 +90,36 @@ public class PagingParameters {
       return StringUtils.isNumeric(limit) && StringUtils.isNumeric(offset);
     }
   }
+
+  /**
+   * Quoted search terms are removed first, so that a term containing
+   * sortBy is not mistaken for the sort clause
+   */
+  static boolean hasSortClause(String cqlQuery) {
+    if (cqlQuery == null) {
+      return false;
+    }
+
+    return SORT_CLAUSE.matcher(QUOTED_TERM.matcher(cqlQuery).replaceAll("\"\""))
+      .find();
+  }
+
+  /**
+   * Properties describing the page after this one, only when paging by cursor
+   * and this page was full (the next page might still be empty)
+   *
+   * @param records records in this page
+   * @param getId   gets the id of a record
+   * @return next cursor property, or no properties when there are no more records
+   */
+  public <T> JsonObject nextPage(List<T> records, Function<T, String> getId) {
+    final JsonObject nextPage = new JsonObject();
+
+    if (cursor != null && !records.isEmpty() && records.size() >= limit) {
+      nextPage.put(NEXT_CURSOR_KEY, PagingCursor.after(
+        getId.apply(records.get(records.size() - 1))).encode());
+    }
+
+    return nextPage;
+  }
 }
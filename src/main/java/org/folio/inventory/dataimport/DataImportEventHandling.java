@@ -0,0 +1,133 @@
+package org.folio.inventory.dataimport;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.folio.inventory.dataimport.handlers.actions.CreateHoldingEventHandler;
+import org.folio.inventory.dataimport.handlers.actions.CreateInstanceEventHandler;
+import org.folio.inventory.dataimport.handlers.actions.CreateItemEventHandler;
+import org.folio.inventory.dataimport.handlers.actions.ReplaceInstanceEventHandler;
+import org.folio.inventory.dataimport.handlers.actions.UpdateHoldingEventHandler;
+import org.folio.inventory.dataimport.handlers.actions.UpdateItemEventHandler;
+import org.folio.inventory.dataimport.handlers.matching.MatchHoldingEventHandler;
+import org.folio.inventory.dataimport.handlers.matching.MatchInstanceEventHandler;
+import org.folio.inventory.dataimport.handlers.matching.MatchItemEventHandler;
+import org.folio.inventory.dataimport.handlers.matching.loaders.HoldingLoader;
+import org.folio.inventory.dataimport.handlers.matching.loaders.InstanceLoader;
+import org.folio.inventory.dataimport.handlers.matching.loaders.ItemLoader;
+import org.folio.inventory.storage.Storage;
+import org.folio.inventory.support.http.client.StorageHttpClientOptions;
+import org.folio.processing.events.EventManager;
+import org.folio.processing.mapping.MappingManager;
+import org.folio.processing.mapping.mapper.reader.record.MarcBibReaderFactory;
+import org.folio.processing.matching.loader.MatchValueLoaderFactory;
+import org.folio.processing.matching.reader.MarcValueReaderImpl;
+import org.folio.processing.matching.reader.MatchValueReaderFactory;
+import org.folio.processing.matching.reader.StaticValueReaderImpl;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.shareddata.Shareable;
+
+/**
+ * Matching loaders, mappers and event handlers are registered globally, so
+ * a single set of them, and the worker pool events are handled on, is shared
+ * by all instances of the inventory verticle.
+ *
+ * Vert.x closes an HTTP client or worker pool when the verticle instance
+ * that created it is undeployed, so these are created outside of any
+ * instance, and are closed once the last instance stops using them.
+ */
+public class DataImportEventHandling implements Shareable {
+  private final HttpClient client;
+  private final DataImportWorkerPool workerPool;
+  private int users = 0;
+
+  private DataImportEventHandling(HttpClient client, DataImportWorkerPool workerPool) {
+    this.client = client;
+    this.workerPool = workerPool;
+  }
+
+  /**
+   * Creates the client and worker pool, and registers the loaders and
+   * handlers that use them, on the module's Vert.x instance
+   */
+  public static DataImportEventHandling create(Vertx vertx, JsonObject config) {
+    final HttpClientOptions clientOptions = StorageHttpClientOptions.fromConfig(config);
+
+    final HttpClient client = outsideOfVerticle(
+      () -> vertx.createHttpClient(clientOptions));
+
+    final DataImportWorkerPool workerPool = outsideOfVerticle(
+      () -> DataImportWorkerPool.create(vertx, config));
+
+    registerEventHandlers(Storage.basedUpon(vertx, config, client), client, vertx);
+
+    return new DataImportEventHandling(client, workerPool);
+  }
+
+  public DataImportWorkerPool getWorkerPool() {
+    return workerPool;
+  }
+
+  /**
+   * Records that another verticle instance uses the shared handling
+   */
+  public synchronized void acquire() {
+    users++;
+  }
+
+  /**
+   * Closes the client and worker pool when no verticle instance uses them
+   *
+   * @return whether the handling has been closed
+   */
+  public synchronized boolean release() {
+    users--;
+
+    if (users > 0) {
+      return false;
+    }
+
+    workerPool.close();
+    client.close();
+
+    return true;
+  }
+
+  private static void registerEventHandlers(Storage storage, HttpClient client,
+    Vertx vertx) {
+
+    MatchValueLoaderFactory.register(new InstanceLoader(storage, vertx));
+    MatchValueLoaderFactory.register(new ItemLoader(storage, vertx));
+    MatchValueLoaderFactory.register(new HoldingLoader(storage, vertx));
+
+    MatchValueReaderFactory.register(new MarcValueReaderImpl());
+    MatchValueReaderFactory.register(new StaticValueReaderImpl());
+
+    MappingManager.registerReaderFactory(new MarcBibReaderFactory());
+    MappingManager.registerWriterFactory(new ItemWriterFactory());
+    MappingManager.registerWriterFactory(new HoldingWriterFactory());
+    MappingManager.registerWriterFactory(new InstanceWriterFactory());
+
+    EventManager.registerEventHandler(new MatchInstanceEventHandler());
+    EventManager.registerEventHandler(new MatchItemEventHandler());
+    EventManager.registerEventHandler(new MatchHoldingEventHandler());
+    EventManager.registerEventHandler(new CreateItemEventHandler(storage));
+    EventManager.registerEventHandler(new CreateHoldingEventHandler(storage));
+    EventManager.registerEventHandler(new CreateInstanceEventHandler(storage, client));
+    EventManager.registerEventHandler(new UpdateItemEventHandler(storage));
+    EventManager.registerEventHandler(new UpdateHoldingEventHandler(storage));
+    EventManager.registerEventHandler(new ReplaceInstanceEventHandler(storage, client));
+  }
+
+  /**
+   * Vert.x only ties what is created to a verticle instance when it is
+   * created on that instance's context, which a pool thread does not have
+   */
+  private static <T> T outsideOfVerticle(Supplier<T> factory) {
+    return CompletableFuture.supplyAsync(factory).join();
+  }
+}
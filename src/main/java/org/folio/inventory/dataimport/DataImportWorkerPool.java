@@ -0,0 +1,162 @@
+package org.folio.inventory.dataimport;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.folio.inventory.support.metrics.Metric;
+import org.folio.inventory.support.metrics.MetricsRegistry;
+import org.folio.inventory.support.metrics.MetricsSource;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.WorkerExecutor;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Worker threads that data import events are handled on, as handling an
+ * event may block whilst waiting for storage.
+ *
+ * Counts how many events are being handled and how many are waiting for a
+ * thread, so saturation of the pool can be observed. An event is being
+ * handled until the future for handling it completes, which can be after
+ * the thread it started on has been returned to the pool.
+ */
+public class DataImportWorkerPool implements MetricsSource {
+  public static final String POOL_SIZE_CONFIG_KEY = "data.import.worker.pool.size";
+  public static final String MAXIMUM_EXECUTE_TIME_CONFIG_KEY
+    = "data.import.worker.max.execute.time.seconds";
+
+  private static final String POOL_NAME = "di-event-handling-thread-pool";
+
+  private static final int DEFAULT_POOL_SIZE = 20;
+  private static final long DEFAULT_MAXIMUM_EXECUTE_TIME_SECONDS = 60;
+
+  private final WorkerExecutor executor;
+  private final int poolSize;
+  private final AtomicInteger active = new AtomicInteger();
+  private final AtomicInteger occupiedThreads = new AtomicInteger();
+  private final AtomicInteger waiting = new AtomicInteger();
+  private final LongAdder executed = new LongAdder();
+  private final LongAdder queued = new LongAdder();
+  private final LongAdder waitNanos = new LongAdder();
+
+  DataImportWorkerPool(WorkerExecutor executor, int poolSize) {
+    this.executor = executor;
+    this.poolSize = poolSize;
+  }
+
+  /**
+   * Creates the pool on the module's Vert.x instance, and registers it so
+   * the saturation of the pool is included in the metrics
+   */
+  public static DataImportWorkerPool create(Vertx vertx, JsonObject config) {
+    final int poolSize = Math.max(
+      config.getInteger(POOL_SIZE_CONFIG_KEY, DEFAULT_POOL_SIZE), 1);
+
+    final long maximumExecuteTime = config.getLong(MAXIMUM_EXECUTE_TIME_CONFIG_KEY,
+      DEFAULT_MAXIMUM_EXECUTE_TIME_SECONDS);
+
+    final DataImportWorkerPool pool = new DataImportWorkerPool(
+      vertx.createSharedWorkerExecutor(POOL_NAME, poolSize,
+        TimeUnit.SECONDS.toNanos(maximumExecuteTime)),
+      poolSize);
+
+    MetricsRegistry.getInstance().register(pool);
+
+    return pool;
+  }
+
+  /**
+   * Runs the task on a worker thread, events are independent of each other,
+   * so tasks are not ordered and as many run at once as there are threads
+   *
+   * @param task  starts handling an event, the event is being handled until
+   *              the returned future completes
+   */
+  public void execute(Supplier<CompletableFuture<?>> task) {
+    final long submittedTime = System.nanoTime();
+
+    if (waiting.incrementAndGet() + occupiedThreads.get() > poolSize) {
+      queued.increment();
+    }
+
+    executor.executeBlocking(future -> {
+      waiting.decrementAndGet();
+      occupiedThreads.incrementAndGet();
+      active.incrementAndGet();
+      waitNanos.add(System.nanoTime() - submittedTime);
+
+      try {
+        task.get().whenComplete((result, failure) -> finished());
+        future.complete();
+      } catch (RuntimeException e) {
+        finished();
+        throw e;
+      } finally {
+        occupiedThreads.decrementAndGet();
+      }
+    }, false, null);
+  }
+
+  private void finished() {
+    active.decrementAndGet();
+    executed.increment();
+  }
+
+  public void close() {
+    MetricsRegistry.getInstance().unregister(this);
+    executor.close();
+  }
+
+  public int getPoolSize() {
+    return poolSize;
+  }
+
+  /**
+   * @return number of events being handled, including those waiting for
+   * storage without holding a thread
+   */
+  public int getActive() {
+    return active.get();
+  }
+
+  public int getWaiting() {
+    return waiting.get();
+  }
+
+  public long getExecuted() {
+    return executed.sum();
+  }
+
+  /**
+   * @return number of tasks that had to wait for a thread to become free
+   */
+  public long getQueued() {
+    return queued.sum();
+  }
+
+  public double getWaitSeconds() {
+    return waitNanos.sum() / (double) TimeUnit.SECONDS.toNanos(1);
+  }
+
+  @Override
+  public List<Metric> getMetrics() {
+    return Arrays.asList(
+      Metric.gauge("inventory_data_import_worker_pool_size",
+        "Threads available for handling data import events", getPoolSize()),
+      Metric.gauge("inventory_data_import_worker_pool_active",
+        "Data import events being handled, including those waiting for storage", getActive()),
+      Metric.gauge("inventory_data_import_worker_pool_waiting",
+        "Data import events waiting for a thread", getWaiting()),
+      Metric.counter("inventory_data_import_worker_pool_executed_total",
+        "Data import events handled", getExecuted()),
+      Metric.counter("inventory_data_import_worker_pool_queued_total",
+        "Data import events that had to wait for a thread", getQueued()),
+      Metric.counter("inventory_data_import_worker_pool_wait_seconds_total",
+        "Time data import events spent waiting for a thread", getWaitSeconds()));
+  }
+}
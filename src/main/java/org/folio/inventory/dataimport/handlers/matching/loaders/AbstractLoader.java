@@ -14,7 +14,6 @@ import org.folio.processing.matching.loader.MatchValueLoader;
 import org.folio.processing.matching.loader.query.LoadQuery;
 import org.folio.rest.jaxrs.model.EntityType;
 
-import java.io.UnsupportedEncodingException;
 import java.util.concurrent.CompletableFuture;
 
 import static org.folio.inventory.dataimport.handlers.matching.util.EventHandlingUtil.constructContext;
@@ -29,42 +28,71 @@ public abstract class AbstractLoader<T> implements MatchValueLoader {
     this.vertx = vertx;
   }
 
+  /**
+   * MatchingManager only supports loaders that return the result, so this
+   * waits for the search, which is started on the Vert.x context, to complete
+   */
   @Override
   public LoadResult loadEntity(LoadQuery loadQuery, DataImportEventPayload eventPayload) {
     if (loadQuery == null) {
       return new LoadResult();
     }
     CompletableFuture<LoadResult> future = new CompletableFuture<>();
+
+    vertx.runOnContext(v -> loadEntityAsync(loadQuery, eventPayload)
+      .whenComplete((loadResult, failure) -> {
+        if (failure != null) {
+          future.completeExceptionally(failure);
+        } else {
+          future.complete(loadResult);
+        }
+      }));
+
+    return future.join();
+  }
+
+  /**
+   * Searches for the entity without waiting for storage to respond
+   *
+   * @return result with the matched entity (or without a value when none matched),
+   * fails when more than one entity matched or the search failed
+   */
+  public CompletableFuture<LoadResult> loadEntityAsync(LoadQuery loadQuery,
+    DataImportEventPayload eventPayload) {
+
+    if (loadQuery == null) {
+      return CompletableFuture.completedFuture(new LoadResult());
+    }
+    CompletableFuture<LoadResult> future = new CompletableFuture<>();
     LoadResult loadResult = new LoadResult();
     loadResult.setEntityType(getEntityType().value());
     Context context = constructContext(eventPayload.getTenant(), eventPayload.getToken(), eventPayload.getOkapiUrl());
 
-    vertx.runOnContext(v -> {
-      try {
-        String cql = loadQuery.getCql() + addCqlSubMatchCondition(eventPayload);
-        getSearchableCollection(context).findByCql(cql, PagingParameters.defaults(),
-          success -> {
-            MultipleRecords<T> collection = success.getResult();
-            if (collection.totalRecords == 1) {
-              loadResult.setValue(mapEntityToJsonString(collection.records.get(0)));
-            } else if (collection.totalRecords > 1) {
-              String errorMessage = "Found multiple records matching specified conditions";
-              LOG.error(errorMessage);
-              future.completeExceptionally(new MatchingException(errorMessage));
-            }
-            future.complete(loadResult);
-          },
-          failure -> {
-            LOG.error(failure.getReason());
-            future.completeExceptionally(new MatchingException(failure.getReason()));
-          });
-      } catch (UnsupportedEncodingException e) {
-        LOG.error("Failed to retrieve records");
-        future.completeExceptionally(e);
-      }
-    });
+    try {
+      String cql = loadQuery.getCql() + addCqlSubMatchCondition(eventPayload);
+      getSearchableCollection(context).findByCql(cql, PagingParameters.defaults(),
+        success -> {
+          MultipleRecords<T> collection = success.getResult();
+          if (collection.totalRecords == 1) {
+            loadResult.setValue(mapEntityToJsonString(collection.records.get(0)));
+          } else if (collection.totalRecords > 1) {
+            String errorMessage = "Found multiple records matching specified conditions";
+            LOG.error(errorMessage);
+            future.completeExceptionally(new MatchingException(errorMessage));
+            return;
+          }
+          future.complete(loadResult);
+        },
+        failure -> {
+          LOG.error(failure.getReason());
+          future.completeExceptionally(new MatchingException(failure.getReason()));
+        });
+    } catch (Exception e) {
+      LOG.error("Failed to retrieve records", e);
+      future.completeExceptionally(e);
+    }
 
-    return future.join();
+    return future;
   }
 
   @Override
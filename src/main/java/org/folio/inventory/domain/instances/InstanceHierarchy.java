@@ -0,0 +1,129 @@
+package org.folio.inventory.domain.instances;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Instances related to an instance (through parent / child relationships),
+ * up to a limited depth in either direction.
+ *
+ * Each instance is only included once, so a relationship that leads back
+ * to an instance already in the hierarchy (e.g. a cycle) is recorded but
+ * not followed any further. Once the maximum number of instances has been
+ * reached, no more are added and the hierarchy is marked as truncated.
+ */
+public class InstanceHierarchy {
+  // JSON property names
+  public static final String INSTANCE_ID_KEY = "instanceId";
+  public static final String DEPTH_KEY = "depth";
+  public static final String ANCESTORS_KEY = "ancestors";
+  public static final String DESCENDANTS_KEY = "descendants";
+  public static final String INSTANCE_RELATIONSHIPS_KEY = "instanceRelationships";
+  public static final String TRUNCATED_KEY = "truncated";
+
+  private final String instanceId;
+  private final int maximumInstances;
+  private final Map<String, Integer> ancestorDepths = new LinkedHashMap<>();
+  private final Map<String, Integer> descendantDepths = new LinkedHashMap<>();
+  private final Map<String, InstanceRelationship> relationships = new LinkedHashMap<>();
+  private boolean truncated;
+
+  public InstanceHierarchy(String instanceId, int maximumInstances) {
+    this.instanceId = instanceId;
+    this.maximumInstances = maximumInstances;
+  }
+
+  /**
+   * Adds the parent (super instance) of an instance already in the hierarchy
+   *
+   * @return true when the parent was not already in the hierarchy and should be expanded
+   */
+  public boolean addAncestor(InstanceRelationship relationship, int depth) {
+    return add(relationship, relationship.superInstanceId, depth, ancestorDepths);
+  }
+
+  /**
+   * Adds the child (sub instance) of an instance already in the hierarchy
+   *
+   * @return true when the child was not already in the hierarchy and should be expanded
+   */
+  public boolean addDescendant(InstanceRelationship relationship, int depth) {
+    return add(relationship, relationship.subInstanceId, depth, descendantDepths);
+  }
+
+  public String getInstanceId() {
+    return instanceId;
+  }
+
+  public boolean isTruncated() {
+    return truncated;
+  }
+
+  public Map<String, Integer> getAncestorDepths() {
+    return ancestorDepths;
+  }
+
+  public Map<String, Integer> getDescendantDepths() {
+    return descendantDepths;
+  }
+
+  public JsonObject toJson() {
+    final JsonArray relationshipsJson = new JsonArray();
+
+    relationships.values().forEach(relationship -> relationshipsJson.add(new JsonObject()
+      .put("id", relationship.id)
+      .put(InstanceRelationship.SUPER_INSTANCE_ID_KEY, relationship.superInstanceId)
+      .put(InstanceRelationship.SUB_INSTANCE_ID_KEY, relationship.subInstanceId)
+      .put(InstanceRelationship.INSTANCE_RELATIONSHIP_TYPE_ID_KEY,
+        relationship.instanceRelationshipTypeId)));
+
+    return new JsonObject()
+      .put(INSTANCE_ID_KEY, instanceId)
+      .put(ANCESTORS_KEY, toJson(ancestorDepths))
+      .put(DESCENDANTS_KEY, toJson(descendantDepths))
+      .put(INSTANCE_RELATIONSHIPS_KEY, relationshipsJson)
+      .put(TRUNCATED_KEY, truncated);
+  }
+
+  private boolean add(InstanceRelationship relationship, String relatedInstanceId,
+    int depth, Map<String, Integer> depths) {
+
+    if (contains(relatedInstanceId)) {
+      relationships.putIfAbsent(relationship.id, relationship);
+      return false;
+    }
+
+    if (size() >= maximumInstances) {
+      truncated = true;
+      return false;
+    }
+
+    depths.put(relatedInstanceId, depth);
+    relationships.putIfAbsent(relationship.id, relationship);
+
+    return true;
+  }
+
+  private boolean contains(String id) {
+    return instanceId.equals(id)
+      || ancestorDepths.containsKey(id)
+      || descendantDepths.containsKey(id);
+  }
+
+  private int size() {
+    return 1 + ancestorDepths.size() + descendantDepths.size();
+  }
+
+  private static JsonArray toJson(Map<String, Integer> depths) {
+    final JsonArray instances = new JsonArray();
+
+    depths.forEach((id, depth) -> instances.add(new JsonObject()
+      .put(INSTANCE_ID_KEY, id)
+      .put(DEPTH_KEY, depth)));
+
+    return instances;
+  }
+}
@@ -17,7 +17,6 @@ import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import org.folio.inventory.common.WebContext;
-import org.folio.inventory.common.domain.MultipleRecords;
 import org.folio.inventory.config.InventoryConfiguration;
 import org.folio.inventory.config.InventoryConfigurationImpl;
 import org.folio.inventory.domain.instances.Instance;
@@ -25,17 +24,19 @@ import org.folio.inventory.domain.instances.InstanceRelationship;
 import org.folio.inventory.domain.instances.InstanceRelationshipToChild;
 import org.folio.inventory.domain.instances.InstanceRelationshipToParent;
 import org.folio.inventory.domain.instances.titles.PrecedingSucceedingTitle;
+import org.folio.inventory.services.InstanceRelationshipsService;
 import org.folio.inventory.storage.Storage;
 import org.folio.inventory.storage.external.CollectionResourceClient;
 import org.folio.inventory.storage.external.CollectionResourceRepository;
+import org.folio.inventory.support.AsyncWorkLimiter;
+import org.folio.inventory.support.AsyncWorkLimiter.Operation;
+import org.folio.inventory.support.InstanceRepresentation;
 import org.folio.inventory.support.JsonArrayHelper;
 import org.folio.inventory.support.http.client.OkapiHttpClient;
 import org.folio.inventory.support.http.client.Response;
 import org.folio.inventory.support.http.server.ServerErrorResponse;
 
 import io.vertx.core.http.HttpClient;
-import io.vertx.core.json.Json;
-import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
@@ -49,12 +50,16 @@ public abstract class AbstractInstances {
   protected final Storage storage;
   protected final HttpClient client;
   protected final InventoryConfiguration config;
+  protected final AsyncWorkLimiter relatedRecordsLimiter;
 
 
-  public AbstractInstances(final Storage storage, final HttpClient client) {
+  public AbstractInstances(final Storage storage, final HttpClient client,
+    final AsyncWorkLimiter relatedRecordsLimiter) {
+
     this.storage = storage;
     this.client = client;
     this.config = new InventoryConfigurationImpl();
+    this.relatedRecordsLimiter = relatedRecordsLimiter;
   }
 
   /**
@@ -85,9 +90,25 @@ public abstract class AbstractInstances {
 
     JsonObject json = result.getJson();
     List<JsonObject> relationsList = JsonArrayHelper.toList(json.getJsonArray("instanceRelationships"));
+    Map<String, InstanceRelationship> existingRelationships =
+      getExistingRelationships(relationsList);
+    Map<String, InstanceRelationship> updatingRelationships =
+      getUpdatingRelationships(instance);
+
+    return update(relatedInstancesClient, existingRelationships, updatingRelationships);
+  }
+
+  protected Map<String, InstanceRelationship> getExistingRelationships(
+    List<JsonObject> relationsList) {
+
     Map<String, InstanceRelationship> existingRelationships = new HashMap();
     relationsList.stream().map(rel -> new InstanceRelationship(rel)).forEachOrdered(relObj ->
       existingRelationships.put(relObj.id, relObj));
+
+    return existingRelationships;
+  }
+
+  protected Map<String, InstanceRelationship> getUpdatingRelationships(Instance instance) {
     Map<String, InstanceRelationship> updatingRelationships = new HashMap();
     if (instance.getParentInstances() != null) {
       instance.getParentInstances().forEach(parent -> {
@@ -112,10 +133,7 @@ public abstract class AbstractInstances {
       });
     }
 
-    List<CompletableFuture<Response>> allFutures = update(relatedInstancesClient,
-      existingRelationships, updatingRelationships);
-
-    return allResultsOf(allFutures);
+    return updatingRelationships;
   }
 
   protected CompletableFuture<List<Response>> updateRelatedRecords(
@@ -153,13 +171,11 @@ public abstract class AbstractInstances {
     Map<String, PrecedingSucceedingTitle> updatingPrecedingSucceedingTitles =
       getUpdatingPrecedingSucceedingTitles(instance);
 
-    List<CompletableFuture<Response>> allFutures = update(precedingSucceedingTitlesClient,
+    return update(precedingSucceedingTitlesClient,
       existingPrecedingSucceedingTitles, updatingPrecedingSucceedingTitles);
-
-    return allResultsOf(allFutures);
   }
 
-  private Map<String, PrecedingSucceedingTitle> getExistedPrecedingSucceedingTitles(
+  protected Map<String, PrecedingSucceedingTitle> getExistedPrecedingSucceedingTitles(
     List<JsonObject> relationsList) {
 
     Map<String, PrecedingSucceedingTitle> existingPrecedingSucceedingTitles = new HashMap();
@@ -169,43 +185,67 @@ public abstract class AbstractInstances {
     return existingPrecedingSucceedingTitles;
   }
 
-  private <T> List<CompletableFuture<Response>> update(CollectionResourceRepository resourceClient,
+  /**
+   * Makes the changes needed with a limited number in progress at once,
+   * shared with the changes for other requests
+   */
+  private <T> CompletableFuture<List<Response>> update(CollectionResourceRepository resourceClient,
    Map<String, T> existingObjects, Map<String, T> updatingObjects) {
 
-    List<CompletableFuture<Response>> createOrEdit = createOrEdit(resourceClient, existingObjects, updatingObjects);
-    List<CompletableFuture<Response>> delete = delete(resourceClient, existingObjects, updatingObjects);
+    return relatedRecordsLimiter.runAll(
+      changes(resourceClient, existingObjects, updatingObjects));
+  }
+
+  /**
+   * Changes needed to make the stored objects match the updated objects,
+   * each change is only made when the operation is started
+   */
+  protected <T> List<Operation<Response>> changes(
+    CollectionResourceRepository resourceClient, Map<String, T> existingObjects,
+    Map<String, T> updatingObjects) {
+
+    List<Operation<Response>> createOrEdit = createOrEdit(resourceClient, existingObjects, updatingObjects);
+    List<Operation<Response>> delete = delete(resourceClient, existingObjects, updatingObjects);
 
     createOrEdit.addAll(delete);
     return createOrEdit;
   }
 
-  private <T> List<CompletableFuture<Response>> delete(CollectionResourceRepository resourceClient,
+  private <T> List<Operation<Response>> delete(CollectionResourceRepository resourceClient,
    Map<String, T> existingObjects, Map<String, T> updatingObjects) {
 
-    return existingObjects.keySet().stream()
-      .filter(key -> !updatingObjects.containsKey(key))
-      .map(resourceClient::delete)
+    return existingObjects.entrySet().stream()
+      .filter(existing -> !updatingObjects.containsKey(existing.getKey()))
+      .map(existing -> new Operation<>(
+        describeChange("delete", existing.getValue(), existing.getKey()),
+        () -> resourceClient.delete(existing.getKey())))
       .collect(Collectors.toList());
   }
 
-  private <T> List<CompletableFuture<Response>> createOrEdit(
+  private <T> List<Operation<Response>> createOrEdit(
     CollectionResourceRepository resourceClient, Map<String, T> existingObjects,
     Map<String, T> updatingObjects) {
 
-    final List<CompletableFuture<Response>> allFutures = new ArrayList<>();
+    final List<Operation<Response>> allChanges = new ArrayList<>();
 
     updatingObjects.forEach((updatingKey, updatedObject) -> {
       if (!existingObjects.containsKey(updatingKey)) {
-        allFutures.add(resourceClient.post(updatedObject));
+        allChanges.add(new Operation<>(describeChange("create", updatedObject, updatingKey),
+          () -> resourceClient.post(updatedObject)));
       } else if (!Objects.equals(updatedObject, existingObjects.get(updatingKey))) {
-        allFutures.add(resourceClient.put(updatingKey, updatedObject));
+        allChanges.add(new Operation<>(describeChange("update", updatedObject, updatingKey),
+          () -> resourceClient.put(updatingKey, updatedObject)));
       }
     });
 
-    return allFutures;
+    return allChanges;
   }
 
-  private Map<String, PrecedingSucceedingTitle> getUpdatingPrecedingSucceedingTitles(Instance instance) {
+  private static String describeChange(String change, Object record, String id) {
+    return format("%s %s %s", change, record.getClass().getSimpleName(), id);
+  }
+
+  protected Map<String, PrecedingSucceedingTitle> getUpdatingPrecedingSucceedingTitles(Instance instance) {
     Map<String, PrecedingSucceedingTitle> updatingPrecedingSucceedingTitles = new HashMap();
 
     updatePrecedingTitles(instance, updatingPrecedingSucceedingTitles);
@@ -252,35 +292,22 @@ public abstract class AbstractInstances {
   }
 
   /**
-   * Populates multiple Instances representation (downwards)
+   * Populates an Instance record representation (downwards) from a set of Instances
    *
-   * @param instancesResponse Set of Instances to transform to representations
+   * @param instance          Instance result to transform to representation
+   * @param instancesResponse Set of Instances the instance is from, with their related records
    * @param context
    * @return
    */
-  protected JsonObject toRepresentation(InstancesResponse instancesResponse,
-    WebContext context) {
-
-    JsonObject representation = new JsonObject();
-
-    JsonArray results = new JsonArray();
-
-    MultipleRecords<Instance> wrappedInstances = instancesResponse.getSuccess().getResult();
-    List<Instance> instances = wrappedInstances.records;
-
-    instances.stream().forEach(instance -> {
-      List<InstanceRelationshipToParent> parentInstances = instancesResponse.getParentInstanceMap().get(instance.getId());
-      List<InstanceRelationshipToChild> childInstances = instancesResponse.getChildInstanceMap().get(instance.getId());
-      List<PrecedingSucceedingTitle> precedingTitles = instancesResponse.getPrecedingTitlesMap().get(instance.getId());
-      List<PrecedingSucceedingTitle> succeedingTitles = instancesResponse.getSucceedingTitlesMap().get(instance.getId());
-      results.add(toRepresentation(instance, parentInstances, childInstances, precedingTitles, succeedingTitles, context));
-    });
+  protected JsonObject toRepresentation(Instance instance,
+    InstancesResponse instancesResponse, WebContext context) {
 
-    representation
-      .put("instances", results)
-      .put("totalRecords", wrappedInstances.totalRecords);
+    List<InstanceRelationshipToParent> parentInstances = instancesResponse.getParentInstanceMap().get(instance.getId());
+    List<InstanceRelationshipToChild> childInstances = instancesResponse.getChildInstanceMap().get(instance.getId());
+    List<PrecedingSucceedingTitle> precedingTitles = instancesResponse.getPrecedingTitlesMap().get(instance.getId());
+    List<PrecedingSucceedingTitle> succeedingTitles = instancesResponse.getSucceedingTitlesMap().get(instance.getId());
 
-    return representation;
+    return toRepresentation(instance, parentInstances, childInstances, precedingTitles, succeedingTitles, context);
   }
 
   /**
@@ -306,53 +333,8 @@ public abstract class AbstractInstances {
         format("Failed to create context link for instance: %s", e.toString()));
     }
 
-    resp.put("id", instance.getId());
-    resp.put("hrid", instance.getHrid());
-    resp.put(Instance.SOURCE_KEY, instance.getSource());
-    resp.put(Instance.TITLE_KEY, instance.getTitle());
-    putIfNotNull(resp, Instance.INDEX_TITLE_KEY, instance.getIndexTitle());
-    putIfNotNull(resp, Instance.PARENT_INSTANCES_KEY, parentInstances);
-    putIfNotNull(resp, Instance.CHILD_INSTANCES_KEY, childInstances);
-    putIfNotNull(resp, Instance.ALTERNATIVE_TITLES_KEY, instance.getAlternativeTitles());
-    putIfNotNull(resp, Instance.EDITIONS_KEY, instance.getEditions());
-    putIfNotNull(resp, Instance.SERIES_KEY, instance.getSeries());
-    putIfNotNull(resp, Instance.IDENTIFIERS_KEY, instance.getIdentifiers());
-    putIfNotNull(resp, Instance.CONTRIBUTORS_KEY, instance.getContributors());
-    putIfNotNull(resp, Instance.SUBJECTS_KEY, instance.getSubjects());
-    putIfNotNull(resp, Instance.CLASSIFICATIONS_KEY, instance.getClassifications());
-    putIfNotNull(resp, Instance.PUBLICATION_KEY, instance.getPublication());
-    putIfNotNull(resp, Instance.PUBLICATION_FREQUENCY_KEY, instance.getPublicationFrequency());
-    putIfNotNull(resp, Instance.PUBLICATION_RANGE_KEY, instance.getPublicationRange());
-    putIfNotNull(resp, Instance.ELECTRONIC_ACCESS_KEY, instance.getElectronicAccess());
-    putIfNotNull(resp, Instance.INSTANCE_TYPE_ID_KEY, instance.getInstanceTypeId());
-    putIfNotNull(resp, Instance.INSTANCE_FORMAT_IDS_KEY, instance.getInstanceFormatIds());
-    putIfNotNull(resp, Instance.PHYSICAL_DESCRIPTIONS_KEY, instance.getPhysicalDescriptions());
-    putIfNotNull(resp, Instance.LANGUAGES_KEY, instance.getLanguages());
-    putIfNotNull(resp, Instance.NOTES_KEY, instance.getNotes());
-    putIfNotNull(resp, Instance.MODE_OF_ISSUANCE_ID_KEY, instance.getModeOfIssuanceId());
-    putIfNotNull(resp, Instance.CATALOGED_DATE_KEY, instance.getCatalogedDate());
-    putIfNotNull(resp, Instance.PREVIOUSLY_HELD_KEY, instance.getPreviouslyHeld());
-    putIfNotNull(resp, Instance.STAFF_SUPPRESS_KEY, instance.getStaffSuppress());
-    putIfNotNull(resp, Instance.DISCOVERY_SUPPRESS_KEY, instance.getDiscoverySuppress());
-    putIfNotNull(resp, Instance.STATISTICAL_CODE_IDS_KEY, instance.getStatisticalCodeIds());
-    putIfNotNull(resp, Instance.SOURCE_RECORD_FORMAT_KEY, instance.getSourceRecordFormat());
-    putIfNotNull(resp, Instance.STATUS_ID_KEY, instance.getStatusId());
-    putIfNotNull(resp, Instance.STATUS_UPDATED_DATE_KEY, instance.getStatusUpdatedDate());
-    putIfNotNull(resp, Instance.METADATA_KEY, instance.getMetadata());
-    putIfNotNull(resp, Instance.TAGS_KEY, new JsonObject().put(Instance.TAG_LIST_KEY, new JsonArray(instance.getTags())));
-    putIfNotNull(resp, Instance.NATURE_OF_CONTENT_TERM_IDS_KEY, instance.getNatureOfContentIds());
-
-    if (precedingTitles != null) {
-      JsonArray precedingTitlesJsonArray = new JsonArray();
-      precedingTitles.forEach(title -> precedingTitlesJsonArray .add(title.toPrecedingTitleJson()));
-      resp.put(Instance.PRECEDING_TITLES_KEY, precedingTitlesJsonArray );
-    }
-
-    if (succeedingTitles != null) {
-      JsonArray succeedingTitlesJsonArray = new JsonArray();
-      succeedingTitles.forEach(title -> succeedingTitlesJsonArray .add(title.toSucceedingTitleJson()));
-      resp.put(Instance.SUCCEEDING_TITLES_KEY, succeedingTitlesJsonArray );
-    }
+    InstanceRepresentation.writeInto(resp, instance, parentInstances,
+      childInstances, precedingTitles, succeedingTitles);
 
     try {
       URL selfUrl = context.absoluteUrl(format("%s/%s",
@@ -383,6 +365,23 @@ public abstract class AbstractInstances {
       "/preceding-succeeding-titles");
   }
 
+  protected InstanceRelationshipsService createInstanceRelationshipsService(
+    RoutingContext routingContext) {
+
+    final WebContext webContext = new WebContext(routingContext);
+
+    return new InstanceRelationshipsService(
+      createInstanceRelationshipsClient(routingContext, webContext),
+      createPrecedingSucceedingTitlesClient(routingContext, webContext));
+  }
+
+  protected CollectionResourceClient createInstanceStorageClient(
+    RoutingContext routingContext, WebContext context) {
+
+    return getCollectionResourceRepository(routingContext, context,
+      "/instance-storage/instances");
+  }
+
   private CollectionResourceClient getCollectionResourceRepository(
     RoutingContext routingContext, WebContext context, String path) {
     CollectionResourceClient collectionResourceClient = null;
@@ -417,30 +416,6 @@ public abstract class AbstractInstances {
     return query;
   }
 
-  private void putIfNotNull(JsonObject target, String propertyName, String value) {
-    if (value != null) {
-      target.put(propertyName, value);
-    }
-  }
-
-  private void putIfNotNull(JsonObject target, String propertyName, List<String> value) {
-    if (value != null) {
-      target.put(propertyName, value);
-    }
-  }
-
-  private void putIfNotNull(JsonObject target, String propertyName, Object value) {
-    if (value != null) {
-      if (value instanceof List) {
-        target.put(propertyName, value);
-      } else if (value instanceof Boolean) {
-        target.put(propertyName, value);
-      } else {
-        target.put(propertyName, new JsonObject(Json.encode(value)));
-      }
-    }
-  }
-
   protected OkapiHttpClient createHttpClient(
     RoutingContext routingContext,
     WebContext context)
@@ -22,10 +22,9 @@ import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.folio.HttpStatus;
 import org.folio.inventory.common.WebContext;
 import org.folio.inventory.common.api.request.PagingParameters;
 import org.folio.inventory.common.domain.MultipleRecords;
@@ -36,9 +35,12 @@ import org.folio.inventory.domain.instances.InstanceRelationship;
 import org.folio.inventory.domain.instances.InstanceRelationshipToChild;
 import org.folio.inventory.domain.instances.InstanceRelationshipToParent;
 import org.folio.inventory.domain.instances.titles.PrecedingSucceedingTitle;
-import org.folio.inventory.services.InstanceRelationshipsService;
+import org.folio.inventory.services.SuppressFromDiscoveryOutbox;
 import org.folio.inventory.storage.Storage;
 import org.folio.inventory.storage.external.CollectionResourceClient;
+import org.folio.inventory.storage.external.CqlQuery;
+import org.folio.inventory.storage.external.MultipleRecordsFetchClient;
+import org.folio.inventory.support.AsyncWorkLimiter;
 import org.folio.inventory.support.InstanceUtil;
 import org.folio.inventory.support.JsonArrayHelper;
 import org.folio.inventory.support.http.client.Response;
@@ -47,10 +49,11 @@ import org.folio.inventory.support.http.server.FailureResponseConsumer;
 import org.folio.inventory.support.http.server.JsonResponse;
 import org.folio.inventory.support.http.server.RedirectResponse;
 import org.folio.inventory.support.http.server.ServerErrorResponse;
+import org.folio.inventory.support.http.server.StreamingJsonResponse;
+import org.folio.inventory.validation.InstanceBlockedFieldsComparator;
 import org.folio.inventory.validation.InstancePrecedingSucceedingTitleValidators;
 import org.folio.inventory.validation.InstancesValidators;
 import org.folio.inventory.exceptions.UnprocessableEntityException;
-import org.folio.rest.client.SourceStorageRecordsClient;
 
 import io.vertx.core.http.HttpClient;
 import io.vertx.core.json.Json;
@@ -65,9 +68,24 @@ public class Instances extends AbstractInstances {
   private static final String BLOCKED_FIELDS_CONFIG_PATH = INVENTORY_PATH + "/config/instances/blocked-fields";
   private static final String BLOCKED_FIELDS_UPDATE_ERROR_MESSAGE = "Instance is controlled by MARC record, "
     + "these fields are blocked and can not be updated: ";
+  public static final String HIERARCHY_DEPTH_PARAMETER = "depth";
+  private static final int DEFAULT_HIERARCHY_DEPTH = 1;
+  private static final int MAXIMUM_HIERARCHY_DEPTH = 10;
+  private static final int MAXIMUM_HIERARCHY_INSTANCES = 1000;
 
-  public Instances(final Storage storage, final HttpClient client) {
-    super(storage, client);
+  private final InstanceBlockedFieldsComparator blockedFieldsComparator;
+  private final SuppressFromDiscoveryOutbox suppressFromDiscoveryOutbox;
+
+  public Instances(final Storage storage, final HttpClient client,
+    final AsyncWorkLimiter relatedRecordsLimiter,
+    final SuppressFromDiscoveryOutbox suppressFromDiscoveryOutbox) {
+
+    super(storage, client, relatedRecordsLimiter);
+
+    this.suppressFromDiscoveryOutbox = suppressFromDiscoveryOutbox;
+
+    this.blockedFieldsComparator = new InstanceBlockedFieldsComparator(
+      config.getInstanceBlockedFields());
   }
 
   public void register(Router router) {
@@ -84,6 +102,8 @@ public class Instances extends AbstractInstances {
     router.get(INSTANCES_PATH + "/:id").handler(this::getById);
     router.put(INSTANCES_PATH + "/:id").handler(this::update);
     router.delete(INSTANCES_PATH + "/:id").handler(this::deleteById);
+
+    router.get(INSTANCES_PATH + "/:id/hierarchy").handler(this::getHierarchy);
   }
 
   private void getMetadataContext(RoutingContext routingContext) {
@@ -111,7 +131,7 @@ public class Instances extends AbstractInstances {
 
     if (pagingParameters == null) {
       ClientErrorResponse.badRequest(routingContext.response(),
-        "limit and offset must be numeric when supplied");
+        PagingParameters.invalidReason(context));
       return;
     }
 
@@ -119,7 +139,7 @@ public class Instances extends AbstractInstances {
       storage.getInstanceCollection(context).findAll(
         pagingParameters,
         (Success<MultipleRecords<Instance>> success) -> {
-          makeInstancesResponse(success, routingContext, context);
+          makeInstancesResponse(success, pagingParameters, routingContext, context);
         },
         FailureResponseConsumer.serverError(routingContext.response())
       );
@@ -129,7 +149,7 @@ public class Instances extends AbstractInstances {
           search,
           pagingParameters,
           success -> {
-            makeInstancesResponse(success, routingContext, context);
+            makeInstancesResponse(success, pagingParameters, routingContext, context);
           },
           FailureResponseConsumer.serverError(routingContext.response()));
       } catch (UnsupportedEncodingException e) {
@@ -139,18 +159,30 @@ public class Instances extends AbstractInstances {
   }
 
   private void makeInstancesResponse(Success<MultipleRecords<Instance>> success,
-    RoutingContext routingContext, WebContext context) {
+    PagingParameters pagingParameters, RoutingContext routingContext,
+    WebContext context) {
 
     InstancesResponse instancesResponse = new InstancesResponse();
     instancesResponse.setSuccess(success);
 
-    completedFuture(instancesResponse)
-      .thenCompose(response -> fetchRelationships(response, routingContext))
-      .thenCompose(response -> fetchPrecedingSucceedingTitles(response, routingContext, context))
+    // Relationships and titles are independent, so are fetched at the same time
+    final CompletableFuture<InstancesResponse> relationshipsFetched =
+      fetchRelationships(instancesResponse, routingContext);
+
+    final CompletableFuture<InstancesResponse> titlesFetched =
+      fetchPrecedingSucceedingTitles(instancesResponse, routingContext, context);
+
+    relationshipsFetched
+      .thenCombine(titlesFetched, (relationships, titles) -> instancesResponse)
       .whenComplete((result, ex) -> {
         if (ex == null) {
-          JsonResponse.success(routingContext.response(),
-            toRepresentation(result, context));
+          MultipleRecords<Instance> wrappedInstances = result.getSuccess().getResult();
+
+          StreamingJsonResponse.success(routingContext.response(), "instances",
+            wrappedInstances.records,
+            instance -> toRepresentation(instance, result, context),
+            wrappedInstances.totalRecords,
+            pagingParameters.nextPage(wrappedInstances.records, Instance::getId));
         } else {
           log.warn("Exception occurred", ex);
           handleFailure(getKnownException(ex), routingContext);
@@ -210,27 +242,15 @@ public class Instances extends AbstractInstances {
   }
 
   /**
-   * Call Source record storage to update suppress from discovery flag in underlying record
+   * Queue a change to the suppress from discovery flag in the underlying record
+   * in Source record storage, it is sent in the background
    *
    * @param wContext        - webContext
    * @param updatedInstance - Updated instance entity
    */
   private void updateSuppressFromDiscoveryFlag(WebContext wContext, Instance updatedInstance) {
-    try {
-      SourceStorageRecordsClient client = new SourceStorageRecordsClient(wContext.getOkapiLocation(),
-        wContext.getTenantId(), wContext.getToken());
-      client.putSourceStorageRecordsSuppressFromDiscoveryById(updatedInstance.getId(), "INSTANCE", updatedInstance.getDiscoverySuppress(), httpClientResponse -> {
-        if (httpClientResponse.statusCode() == HttpStatus.HTTP_OK.toInt()) {
-          log.info(format("Suppress from discovery flag was successfully updated for record in SRS. InstanceID: %s",
-            updatedInstance.getId()));
-        } else {
-          log.error(format("Suppress from discovery wasn't changed for SRS record. InstanceID: %s StatusCode: %s",
-            updatedInstance.getId(), httpClientResponse.statusCode()));
-        }
-      });
-    } catch (Exception e) {
-      log.error("Error during updating suppress from discovery flag for record in SRS", e);
-    }
+    suppressFromDiscoveryOutbox.enqueue(wContext, updatedInstance.getId(),
+      Boolean.TRUE.equals(updatedInstance.getDiscoverySuppress()));
   }
 
   /**
@@ -280,15 +300,7 @@ public class Instances extends AbstractInstances {
    * @return boolean
    */
   private boolean areInstanceBlockedFieldsChanged(Instance existingInstance, Instance updatedInstance) {
-    JsonObject existingInstanceJson = JsonObject.mapFrom(existingInstance);
-    JsonObject updatedInstanceJson = JsonObject.mapFrom(updatedInstance);
-    Map<String, Object> existingBlockedFields = new HashMap<>();
-    Map<String, Object> updatedBlockedFields = new HashMap<>();
-    for (String blockedFieldCode : config.getInstanceBlockedFields()) {
-      existingBlockedFields.put(blockedFieldCode, existingInstanceJson.getValue(blockedFieldCode));
-      updatedBlockedFields.put(blockedFieldCode, updatedInstanceJson.getValue(blockedFieldCode));
-    }
-    return ObjectUtils.notEqual(existingBlockedFields, updatedBlockedFields);
+    return blockedFieldsComparator.anyChanged(existingInstance, updatedInstance);
   }
 
   private void deleteAll(RoutingContext routingContext) {
@@ -316,10 +328,16 @@ public class Instances extends AbstractInstances {
       it -> {
         Instance instance = it.getResult();
         if (instance != null) {
-          completedFuture(instance)
-            .thenCompose(response -> fetchInstanceRelationships(it, routingContext, context))
-            .thenCompose(response -> fetchPrecedingSucceedingTitles(it, routingContext, context))
-            .thenAccept(response -> successResponse(routingContext, context, response));
+          final CompletableFuture<Instance> relationshipsFetched =
+            fetchInstanceRelationships(it, routingContext, context);
+
+          final CompletableFuture<Instance> titlesFetched =
+            fetchPrecedingSucceedingTitles(it, routingContext, context);
+
+          relationshipsFetched
+            .thenCombine(titlesFetched, (relationships, titles) -> instance)
+            .thenAccept(response -> successResponse(routingContext, context, response))
+            .exceptionally(doExceptionally(routingContext));
         } else {
           ClientErrorResponse.notFound(routingContext.response());
         }
@@ -327,6 +345,47 @@ public class Instances extends AbstractInstances {
   }
 
 
+  /**
+   * Responds with the instances related to an instance up to the requested depth,
+   * fetching the relationships for each level of the hierarchy together,
+   * rather than the client fetching each instance in turn
+   */
+  private void getHierarchy(RoutingContext routingContext) {
+    WebContext context = new WebContext(routingContext);
+    String instanceId = routingContext.request().getParam("id");
+
+    final int depth;
+
+    try {
+      depth = context.getIntegerParameter(HIERARCHY_DEPTH_PARAMETER,
+        DEFAULT_HIERARCHY_DEPTH);
+    } catch (NumberFormatException e) {
+      ClientErrorResponse.badRequest(routingContext.response(),
+        format("%s must be a number", HIERARCHY_DEPTH_PARAMETER));
+      return;
+    }
+
+    if (depth < 1 || depth > MAXIMUM_HIERARCHY_DEPTH) {
+      ClientErrorResponse.badRequest(routingContext.response(),
+        format("%s must be between 1 and %d", HIERARCHY_DEPTH_PARAMETER,
+          MAXIMUM_HIERARCHY_DEPTH));
+      return;
+    }
+
+    storage.getInstanceCollection(context).findById(instanceId,
+      it -> {
+        if (it.getResult() != null) {
+          createInstanceRelationshipsService(routingContext)
+            .fetchInstanceHierarchy(instanceId, depth, MAXIMUM_HIERARCHY_INSTANCES)
+            .thenAccept(hierarchy ->
+              JsonResponse.success(routingContext.response(), hierarchy.toJson()))
+            .exceptionally(doExceptionally(routingContext));
+        } else {
+          ClientErrorResponse.notFound(routingContext.response());
+        }
+      }, FailureResponseConsumer.serverError(routingContext.response()));
+  }
+
   /**
    * Fetches instance relationships for multiple Instance records, populates, responds
    *
@@ -485,25 +544,28 @@ public class Instances extends AbstractInstances {
     RoutingContext routingContext, WebContext context,
     InstancesResponse instancesResponse, List<JsonObject> relationsList) {
 
-    Map<String, List<CompletableFuture<PrecedingSucceedingTitle>>> precedingTitlesMap = new HashMap<>();
-    Map<String, List<CompletableFuture<PrecedingSucceedingTitle>>> succeedingTitlesMap = new HashMap<>();
-
-    relationsList.forEach(rel -> {
-      final String precedingInstanceId = rel.getString(PrecedingSucceedingTitle.SUCCEEDING_INSTANCE_ID_KEY);
-      if (StringUtils.isNotBlank(precedingInstanceId)) {
-        addToList(precedingTitlesMap, precedingInstanceId, getPrecedingSucceedingTitle(routingContext, context, rel,
-          PrecedingSucceedingTitle.PRECEDING_INSTANCE_ID_KEY));
-      }
-      final String succeedingInstanceId = rel.getString(PrecedingSucceedingTitle.PRECEDING_INSTANCE_ID_KEY);
-      if (StringUtils.isNotBlank(succeedingInstanceId)) {
-        addToList(succeedingTitlesMap, succeedingInstanceId, getPrecedingSucceedingTitle(routingContext, context, rel,
-          PrecedingSucceedingTitle.SUCCEEDING_INSTANCE_ID_KEY));
-      }
-    });
-
-    return completedFuture(instancesResponse)
-      .thenCompose(r -> withPrecedingTitles(instancesResponse, precedingTitlesMap))
-      .thenCompose(r -> withSucceedingTitles(instancesResponse, succeedingTitlesMap));
+    return fetchConnectedInstances(routingContext, context, relationsList)
+      .thenApply(connectedInstances -> {
+        Map<String, List<PrecedingSucceedingTitle>> precedingTitlesMap = new HashMap<>();
+        Map<String, List<PrecedingSucceedingTitle>> succeedingTitlesMap = new HashMap<>();
+
+        relationsList.forEach(rel -> {
+          final String precedingInstanceId = rel.getString(PrecedingSucceedingTitle.SUCCEEDING_INSTANCE_ID_KEY);
+          if (StringUtils.isNotBlank(precedingInstanceId)) {
+            addToList(precedingTitlesMap, precedingInstanceId, toPrecedingSucceedingTitle(rel,
+              PrecedingSucceedingTitle.PRECEDING_INSTANCE_ID_KEY, connectedInstances));
+          }
+          final String succeedingInstanceId = rel.getString(PrecedingSucceedingTitle.PRECEDING_INSTANCE_ID_KEY);
+          if (StringUtils.isNotBlank(succeedingInstanceId)) {
+            addToList(succeedingTitlesMap, succeedingInstanceId, toPrecedingSucceedingTitle(rel,
+              PrecedingSucceedingTitle.SUCCEEDING_INSTANCE_ID_KEY, connectedInstances));
+          }
+        });
+
+        return instancesResponse
+          .setPrecedingTitlesMap(precedingTitlesMap)
+          .setSucceedingTitlesMap(succeedingTitlesMap);
+      });
   }
 
   private CompletableFuture<Instance> withPrecedingSucceedingTitles(
@@ -514,19 +576,18 @@ public class Instances extends AbstractInstances {
       JsonObject json = result.getJson();
       List<JsonObject> relationsList = JsonArrayHelper.toList(json.getJsonArray("precedingSucceedingTitles"));
 
-      List<CompletableFuture<PrecedingSucceedingTitle>> precedingTitleCompletableFutures =
-        relationsList.stream().filter(rel -> isPrecedingTitle(instance, rel))
-          .map(rel -> getPrecedingSucceedingTitle(routingContext, context, rel,
-            PrecedingSucceedingTitle.PRECEDING_INSTANCE_ID_KEY)).collect(Collectors.toList());
-
-      List<CompletableFuture<PrecedingSucceedingTitle>> succeedingTitleCompletableFutures =
-        relationsList.stream().filter(rel -> isSucceedingTitle(instance, rel))
-          .map(rel -> getPrecedingSucceedingTitle(routingContext, context, rel,
-            PrecedingSucceedingTitle.SUCCEEDING_INSTANCE_ID_KEY)).collect(Collectors.toList());
-
-      return completedFuture(instance)
-        .thenCompose(r -> withPrecedingTitles(instance, precedingTitleCompletableFutures))
-        .thenCompose(r -> withSucceedingTitles(instance, succeedingTitleCompletableFutures));
+      return fetchConnectedInstances(routingContext, context, relationsList)
+        .thenApply(connectedInstances -> instance
+          .setPrecedingTitles(relationsList.stream()
+            .filter(rel -> isPrecedingTitle(instance, rel))
+            .map(rel -> toPrecedingSucceedingTitle(rel,
+              PrecedingSucceedingTitle.PRECEDING_INSTANCE_ID_KEY, connectedInstances))
+            .collect(Collectors.toList()))
+          .setSucceedingTitles(relationsList.stream()
+            .filter(rel -> isSucceedingTitle(instance, rel))
+            .map(rel -> toPrecedingSucceedingTitle(rel,
+              PrecedingSucceedingTitle.SUCCEEDING_INSTANCE_ID_KEY, connectedInstances))
+            .collect(Collectors.toList())));
     }
     return completedFuture(null);
   }
@@ -541,81 +602,59 @@ public class Instances extends AbstractInstances {
       rel.getString(PrecedingSucceedingTitle.PRECEDING_INSTANCE_ID_KEY));
   }
 
-  private CompletionStage<Instance> withSucceedingTitles(Instance instance,
-    List<CompletableFuture<PrecedingSucceedingTitle>> succeedingTitleCompletableFutures) {
-
-    return allResultsOf(succeedingTitleCompletableFutures)
-      .thenApply(instance::setSucceedingTitles);
-  }
-
-  private CompletableFuture<Instance> withPrecedingTitles(Instance instance,
-    List<CompletableFuture<PrecedingSucceedingTitle>> precedingTitleCompletableFutures) {
-
-    return allResultsOf(precedingTitleCompletableFutures)
-      .thenApply(instance::setPrecedingTitles);
-  }
-
-  private CompletableFuture<InstancesResponse> withPrecedingTitles(
-    InstancesResponse instance,
-    Map<String, List<CompletableFuture<PrecedingSucceedingTitle>>> precedingTitles) {
-
-    return mapToCompletableFutureMap(precedingTitles)
-      .thenApply(instance::setPrecedingTitlesMap);
-  }
+  /**
+   * Fetches all of the instances connected by preceding or succeeding titles
+   * using as few requests as possible, rather than one request for each title
+   *
+   * @return connected instances by id
+   */
+  private CompletableFuture<Map<String, JsonObject>> fetchConnectedInstances(
+    RoutingContext routingContext, WebContext context, List<JsonObject> relationsList) {
+
+    final List<String> connectedInstanceIds = relationsList.stream()
+      .flatMap(rel -> Stream.of(
+        rel.getString(PrecedingSucceedingTitle.PRECEDING_INSTANCE_ID_KEY),
+        rel.getString(PrecedingSucceedingTitle.SUCCEEDING_INSTANCE_ID_KEY)))
+      .filter(StringUtils::isNotBlank)
+      .distinct()
+      .collect(Collectors.toList());
+
+    if (connectedInstanceIds.isEmpty()) {
+      return completedFuture(Collections.emptyMap());
+    }
 
-  private CompletableFuture<InstancesResponse> withSucceedingTitles(
-    InstancesResponse instance,
-    Map<String, List<CompletableFuture<PrecedingSucceedingTitle>>> precedingTitles) {
+    final Map<String, JsonObject> connectedInstances = new HashMap<>();
 
-    return mapToCompletableFutureMap(precedingTitles)
-      .thenApply(instance::setSucceedingTitlesMap);
+    // Each partition is indexed as soon as it arrives
+    return MultipleRecordsFetchClient.builder()
+      .withCollectionPropertyName("instances")
+      .withExpectedStatus(200)
+      .withCollectionResourceClient(createInstanceStorageClient(routingContext, context))
+      .build()
+      .find(connectedInstanceIds, ids -> CqlQuery.exactMatchAny("id", ids),
+        instances -> JsonArrayHelper.indexById(instances)
+          .forEach(connectedInstances::putIfAbsent))
+      .thenApply(notUsed -> connectedInstances);
   }
 
-  private CompletableFuture<Map<String, List<PrecedingSucceedingTitle>>> mapToCompletableFutureMap(
-    Map<String, List<CompletableFuture<PrecedingSucceedingTitle>>> precedingTitles) {
+  private PrecedingSucceedingTitle toPrecedingSucceedingTitle(JsonObject rel,
+    String precedingSucceedingKey, Map<String, JsonObject> connectedInstances) {
 
-    Map<String, CompletableFuture<List<PrecedingSucceedingTitle>>> map =
-      precedingTitles.entrySet().stream()
-        .collect(Collectors.toMap(Map.Entry::getKey, e -> allResultsOf(e.getValue())));
+    if (StringUtils.isBlank(rel.getString(precedingSucceedingKey))) {
+      return PrecedingSucceedingTitle.from(rel);
+    }
 
-    return CompletableFuture.allOf(map.values().toArray(new CompletableFuture[0]))
-      .thenApply(r -> map.entrySet().stream()
-        .collect(Collectors.toMap(Map.Entry::getKey, e -> e.getValue().join())));
-  }
+    final JsonObject connectedInstance = connectedInstances.get(
+      rel.getString(precedingSucceedingKey));
 
-  private CompletableFuture<PrecedingSucceedingTitle> getPrecedingSucceedingTitle(
-    RoutingContext routingContext, WebContext context,
-    JsonObject rel, String precedingSucceedingKey) {
-
-    if (!StringUtils.isBlank(rel.getString(precedingSucceedingKey))) {
-      String precedingInstanceId = rel.getString(precedingSucceedingKey);
-      CompletableFuture<Success<Instance>> getInstanceFuture = new CompletableFuture<>();
-      storage
-        .getInstanceCollection(context).findById(precedingInstanceId, getInstanceFuture::complete,
-        FailureResponseConsumer.serverError(routingContext.response()));
-
-      return getInstanceFuture.thenApply(response -> {
-        Instance precedingInstance = response.getResult();
-        if (precedingInstance != null) {
-          return PrecedingSucceedingTitle.from(rel,
-            precedingInstance.getTitle(),
-            precedingInstance.getHrid(),
-            new JsonArray(precedingInstance.getIdentifiers()));
-        } else {
-          return null;
-        }
-      });
-    } else {
-      return completedFuture(PrecedingSucceedingTitle.from(rel));
+    if (connectedInstance == null) {
+      return null;
     }
-  }
-
-  private InstanceRelationshipsService createInstanceRelationshipsService(RoutingContext routingContext) {
-    final WebContext webContext = new WebContext(routingContext);
 
-    return new InstanceRelationshipsService(
-      createInstanceRelationshipsClient(routingContext, webContext),
-      createPrecedingSucceedingTitlesClient(routingContext, webContext));
+    return PrecedingSucceedingTitle.from(rel,
+      connectedInstance.getString(Instance.TITLE_KEY),
+      connectedInstance.getString(Instance.HRID_KEY),
+      connectedInstance.getJsonArray(Instance.IDENTIFIERS_KEY, new JsonArray()));
   }
 
   private CompletionStage<Instance> refuseWhenBlockedFieldsChanged(
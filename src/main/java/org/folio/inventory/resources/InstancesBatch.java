@@ -7,12 +7,15 @@ import static org.folio.inventory.support.EndpointFailureHandler.handleFailure;
 import static org.folio.inventory.support.JsonArrayHelper.toList;
 import static org.folio.inventory.validation.InstancePrecedingSucceedingTitleValidators.isTitleMissingForUnconnectedPrecedingSucceeding;
 
-import io.vertx.core.CompositeFuture;
-import io.vertx.core.Future;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.DecodeException;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.parsetools.RecordParser;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.handler.BodyHandler;
@@ -21,29 +24,52 @@ import org.apache.commons.lang3.tuple.Pair;
 import org.folio.inventory.common.WebContext;
 import org.folio.inventory.domain.BatchResult;
 import org.folio.inventory.domain.instances.Instance;
+import org.folio.inventory.domain.instances.InstanceRelationship;
 import org.folio.inventory.domain.instances.titles.PrecedingSucceedingTitle;
+import org.folio.inventory.services.InstanceRelationshipsService;
 import org.folio.inventory.storage.Storage;
+import org.folio.inventory.storage.external.CollectionResourceRepository;
+import org.folio.inventory.support.AsyncWorkLimiter;
+import org.folio.inventory.support.AsyncWorkLimiter.Operation;
 import org.folio.inventory.support.InstanceUtil;
+import org.folio.inventory.support.http.ContentType;
+import org.folio.inventory.support.http.JsonEncoder;
+import org.folio.inventory.support.http.client.Response;
+import org.folio.inventory.support.http.server.ClientErrorResponse;
 import org.folio.inventory.support.http.server.RedirectResponse;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 public class InstancesBatch extends AbstractInstances {
 
   private static final String INSTANCES_BATCH_PATH = INSTANCES_PATH + "/batch";
+  private static final String INSTANCES_BATCH_STREAM_PATH = INSTANCES_BATCH_PATH + "/stream";
   public static final String BATCH_RESPONSE_FIELD_INSTANCES = "instances";
   public static final String BATCH_RESPONSE_FIELD_ERROR_MESSAGES = "errorMessages";
   public static final String BATCH_RESPONSE_FIELD_TOTAL_RECORDS = "totalRecords";
+  public static final String BATCH_RESPONSE_FIELD_CHUNK = "chunk";
+  public static final String CHUNK_SIZE_PARAMETER = "chunkSize";
+  private static final int DEFAULT_STREAM_CHUNK_SIZE = 100;
+  private static final int MAXIMUM_STREAM_CHUNK_SIZE = 1000;
+  private static final int MAXIMUM_STREAM_LINE_LENGTH = 1024 * 1024;
 
-  public InstancesBatch(final Storage storage, final HttpClient client) {
-    super(storage, client);
+  public InstancesBatch(final Storage storage, final HttpClient client,
+    final AsyncWorkLimiter relatedRecordsLimiter) {
+
+    super(storage, client, relatedRecordsLimiter);
   }
 
   public void register(Router router) {
+    // The streamed batch is read from the request as it arrives,
+    // so needs to be routed before any body handler for instances
+    router.post(INSTANCES_BATCH_STREAM_PATH).handler(this::createStreamedBatch);
+
     router.post(INSTANCES_PATH + "*").handler(BodyHandler.create());
     router.put(INSTANCES_PATH + "*").handler(BodyHandler.create());
 
@@ -82,14 +108,19 @@ public class InstancesBatch extends AbstractInstances {
             requestBody.getInteger(BATCH_RESPONSE_FIELD_TOTAL_RECORDS)));
 
           if (!createdInstances.isEmpty()) {
-            updateRelatedRecords(validInstances, createdInstances, routingContext, webContext).
-              setHandler(ar -> {
-                JsonObject responseBody = getBatchResponse(createdInstances, errorMessages, webContext);
-                RedirectResponse.created(routingContext.response(), Buffer.buffer(responseBody.encodePrettily()));
+            updateRelatedRecords(validInstances, createdInstances, routingContext, webContext)
+              .whenComplete((result, ex) -> {
+                if (ex == null) {
+                  JsonObject responseBody = getBatchResponse(createdInstances, errorMessages, webContext);
+                  RedirectResponse.created(routingContext.response(), JsonEncoder.encode(responseBody));
+                } else {
+                  log.warn("Exception occurred", ex);
+                  handleFailure(getKnownException(ex), routingContext);
+                }
               });
           } else {
             JsonObject responseBody = getBatchResponse(createdInstances, errorMessages, webContext);
-            RedirectResponse.serverError(routingContext.response(), Buffer.buffer(responseBody.encodePrettily()));
+            RedirectResponse.serverError(routingContext.response(), JsonEncoder.encode(responseBody));
           }
         },
         failure -> {
@@ -99,6 +130,102 @@ public class InstancesBatch extends AbstractInstances {
     }
   }
 
+  /**
+   * Creates instances from newline delimited JSON (one instance per line),
+   * which is parsed as it is read from the request, rather than
+   * holding the whole request in memory.
+   *
+   * Instances are created in chunks (of a size that can be chosen using
+   * the chunkSize parameter), reading from the request is paused whilst
+   * a chunk is being created. The outcome of each chunk is written to the
+   * response as a line of JSON as soon as it is known.
+   *
+   * @param routingContext context for the handling of a request in Vert.x-Web
+   */
+  private void createStreamedBatch(RoutingContext routingContext) {
+    WebContext webContext = new WebContext(routingContext);
+
+    final int chunkSize;
+
+    try {
+      chunkSize = webContext.getIntegerParameter(CHUNK_SIZE_PARAMETER,
+        DEFAULT_STREAM_CHUNK_SIZE);
+    } catch (NumberFormatException e) {
+      ClientErrorResponse.badRequest(routingContext.response(),
+        format("%s must be a number", CHUNK_SIZE_PARAMETER));
+      return;
+    }
+
+    if (chunkSize < 1 || chunkSize > MAXIMUM_STREAM_CHUNK_SIZE) {
+      ClientErrorResponse.badRequest(routingContext.response(),
+        format("%s must be between 1 and %d", CHUNK_SIZE_PARAMETER,
+          MAXIMUM_STREAM_CHUNK_SIZE));
+      return;
+    }
+
+    new StreamedBatch(routingContext, webContext, chunkSize).start();
+  }
+
+  /**
+   * Creates a chunk of a streamed batch, the outcome is always the batch response
+   * for the chunk, with any failures included in the error messages
+   *
+   * @param instances valid instances to create
+   * @param errorMessages error messages from validating the chunk
+   * @param routingContext routingContext
+   * @param webContext webContext
+   */
+  private CompletableFuture<JsonObject> createChunk(List<JsonObject> instances,
+    List<String> errorMessages, RoutingContext routingContext, WebContext webContext) {
+
+    final CompletableFuture<JsonObject> chunkCreated = new CompletableFuture<>();
+
+    if (instances.isEmpty()) {
+      chunkCreated.complete(getBatchResponse(new ArrayList<>(), errorMessages, webContext));
+      return chunkCreated;
+    }
+
+    try {
+      setInstancesIdIfNecessary(instances);
+
+      List<Instance> instancesToCreate = instances.stream()
+        .map(InstanceUtil::jsonToInstance)
+        .collect(Collectors.toList());
+
+      storage.getInstanceCollection(webContext).addBatch(instancesToCreate, success -> {
+          BatchResult<Instance> batchResult = success.getResult();
+          List<Instance> createdInstances = batchResult.getBatchItems();
+          errorMessages.addAll(batchResult.getErrorMessages());
+
+          if (createdInstances.isEmpty()) {
+            chunkCreated.complete(getBatchResponse(createdInstances, errorMessages, webContext));
+            return;
+          }
+
+          updateRelatedRecords(instances, createdInstances, routingContext, webContext)
+            .whenComplete((result, ex) -> {
+              if (ex != null) {
+                log.warn("Failed to update related records for chunk of instances", ex);
+                errorMessages.add("Related records were not updated: " + ex.getMessage());
+              }
+
+              chunkCreated.complete(getBatchResponse(createdInstances, errorMessages, webContext));
+            });
+        },
+        failure -> {
+          log.error("Instances from chunk were not created, cause:" + failure.getReason());
+          errorMessages.add(failure.getReason());
+          chunkCreated.complete(getBatchResponse(new ArrayList<>(), errorMessages, webContext));
+        });
+    } catch (Exception e) {
+      log.error("Instances from chunk were not created", e);
+      errorMessages.add(e.getMessage());
+      chunkCreated.complete(getBatchResponse(new ArrayList<>(), errorMessages, webContext));
+    }
+
+    return chunkCreated;
+  }
+
   /**
    * Performs instances validation and returns pair (tuple) of valid instances list
    * and list of error messages.
@@ -162,7 +289,7 @@ public class InstancesBatch extends AbstractInstances {
       .put(BATCH_RESPONSE_FIELD_ERROR_MESSAGES, new JsonArray(errorMessages))
       .put(BATCH_RESPONSE_FIELD_INSTANCES, new JsonArray())
       .put(BATCH_RESPONSE_FIELD_TOTAL_RECORDS, 0);
-    RedirectResponse.serverError(routingContext.response(), Buffer.buffer(responseBody.encodePrettily()));
+    RedirectResponse.serverError(routingContext.response(), JsonEncoder.encode(responseBody));
   }
 
   private JsonObject getBatchResponse(List<Instance> createdInstances, List<String> errorMessages, WebContext webContext) {
@@ -197,15 +324,14 @@ public class InstancesBatch extends AbstractInstances {
    * @param routingContext routingContext
    * @param webContext webContext
    */
-  private Future<CompositeFuture> updateRelatedRecords(List<JsonObject> newInstances, List<Instance> createdInstances,
+  private CompletableFuture<Void> updateRelatedRecords(List<JsonObject> newInstances, List<Instance> createdInstances,
     RoutingContext routingContext, WebContext webContext) {
 
-    Future<CompositeFuture> resultFuture = Future.future();
     try {
       Map<String, Instance> mapInstanceById = newInstances.stream()
         .collect(Collectors.toMap(instance -> instance.getString("id"), InstanceUtil::jsonToInstance));
 
-      List<Future> updateRelationshipsFutures = new ArrayList<>();
+      List<Instance> instancesToUpdate = new ArrayList<>();
       for (Instance createdInstance : createdInstances) {
         Instance newInstance = mapInstanceById.get(createdInstance.getId());
         if (newInstance != null) {
@@ -213,24 +339,259 @@ public class InstancesBatch extends AbstractInstances {
           createdInstance.setChildInstances(newInstance.getChildInstances());
           createdInstance.setPrecedingTitles(newInstance.getPrecedingTitles());
           createdInstance.setSucceedingTitles(newInstance.getSucceedingTitles());
-          Future updateFuture = Future.future();
-          updateRelationshipsFutures.add(updateFuture);
-          updateRelatedRecords(routingContext, webContext, createdInstance)
-            .whenComplete((result, ex) -> {
-              if (ex == null) {
-                updateFuture.complete();
-              } else {
-                log.warn("Exception occurred", ex);
-                handleFailure(getKnownException(ex), routingContext);
-              }
-            });
+          instancesToUpdate.add(createdInstance);
         }
       }
-      CompositeFuture.join(updateRelationshipsFutures).setHandler(resultFuture);
+      return updateBatchRelatedRecords(instancesToUpdate, routingContext, webContext);
     } catch (IllegalStateException e) {
       log.error("Can not update instances relationships cause: " + e);
-      resultFuture.fail(e);
+      return CompletableFuture.completedFuture(null);
+    }
+  }
+
+  /**
+   * Updates relationships and preceding / succeeding titles for all of the instances at once.
+   * Existing records for the whole batch are fetched with a few multi-id queries,
+   * and the changes needed are made with limited concurrency,
+   * rather than fetching and changing the records for each instance separately.
+   *
+   * @param instances instances whose relationships will be updated.
+   * @param routingContext routingContext
+   * @param webContext webContext
+   */
+  private CompletableFuture<Void> updateBatchRelatedRecords(List<Instance> instances,
+    RoutingContext routingContext, WebContext webContext) {
+
+    if (instances.isEmpty()) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    List<String> instanceIds = instances.stream()
+      .map(Instance::getId)
+      .collect(Collectors.toList());
+
+    InstanceRelationshipsService relationshipsService =
+      createInstanceRelationshipsService(routingContext);
+
+    CompletableFuture<List<JsonObject>> relationshipsFetched =
+      relationshipsService.fetchInstanceRelationships(instanceIds);
+
+    CompletableFuture<List<JsonObject>> titlesFetched =
+      relationshipsService.fetchInstancePrecedingSucceedingTitles(instanceIds);
+
+    return relationshipsFetched
+      .thenCombine(titlesFetched, (existingRelationships, existingTitles) -> {
+        Map<String, InstanceRelationship> updatingRelationships = new HashMap<>();
+        Map<String, PrecedingSucceedingTitle> updatingTitles = new HashMap<>();
+
+        instances.forEach(instance -> {
+          updatingRelationships.putAll(getUpdatingRelationships(instance));
+          updatingTitles.putAll(getUpdatingPrecedingSucceedingTitles(instance));
+        });
+
+        List<Operation<Response>> allChanges = changes(
+          new CollectionResourceRepository(createInstanceRelationshipsClient(routingContext, webContext)),
+          getExistingRelationships(existingRelationships), updatingRelationships);
+
+        allChanges.addAll(changes(
+          new CollectionResourceRepository(createPrecedingSucceedingTitlesClient(routingContext, webContext)),
+          getExistedPrecedingSucceedingTitles(existingTitles), updatingTitles));
+
+        log.info(format("Making %d changes to related records for batch of %d instances",
+          allChanges.size(), instances.size()));
+
+        return allChanges;
+      })
+      .thenCompose(relatedRecordsLimiter::runAll)
+      .thenApply(responses -> null);
+  }
+
+  /**
+   * Reads newline delimited instances from a request, creating them in chunks.
+   *
+   * All of the handlers run on the same event loop, so the state is not shared
+   * between threads. A single buffer from the request can contain many lines,
+   * so instances received whilst a chunk is being created are held until
+   * the next chunk.
+   */
+  private class StreamedBatch {
+    private final RoutingContext routingContext;
+    private final WebContext webContext;
+    private final HttpServerRequest request;
+    private final HttpServerResponse response;
+    private final int chunkSize;
+    private final List<JsonObject> pendingInstances = new ArrayList<>();
+    private final List<String> pendingErrorMessages = new ArrayList<>();
+    private int lineNumber = 0;
+    private int chunkNumber = 0;
+    private int totalCreated = 0;
+    private boolean chunkInProgress = false;
+    private boolean requestEnded = false;
+    private boolean stopped = false;
+
+    private StreamedBatch(RoutingContext routingContext, WebContext webContext,
+      int chunkSize) {
+
+      this.routingContext = routingContext;
+      this.webContext = webContext;
+      this.request = routingContext.request();
+      this.response = routingContext.response();
+      this.chunkSize = chunkSize;
+    }
+
+    private void start() {
+      response.setStatusCode(200);
+      response.putHeader(HttpHeaders.CONTENT_TYPE, format("%s; charset=utf-8",
+        ContentType.APPLICATION_X_NDJSON));
+      response.setChunked(true);
+
+      response.closeHandler(notUsed -> {
+        log.warn("Response closed before streamed batch of instances was completed");
+        stopped = true;
+      });
+
+      request.exceptionHandler(ex -> {
+        log.error("Failed to read streamed batch of instances", ex);
+        stopped = true;
+        response.close();
+      });
+
+      final RecordParser parser = RecordParser.newDelimited("\n", this::lineReceived);
+
+      // Limits how much of a line is held whilst waiting for the newline
+      parser.maxRecordSize(MAXIMUM_STREAM_LINE_LENGTH);
+
+      request.handler(buffer -> parse(parser, buffer));
+
+      request.endHandler(notUsed -> {
+        requestEnded = true;
+
+        // The parser only emits a line once the newline is received, and
+        // the last line does not have to end with one
+        parse(parser, Buffer.buffer("\n"));
+
+        createNextChunk();
+      });
+    }
+
+    private void parse(RecordParser parser, Buffer buffer) {
+      if (stopped) {
+        return;
+      }
+
+      try {
+        parser.handle(buffer);
+      } catch (IllegalStateException e) {
+        lineTooLong();
+      }
+    }
+
+    /**
+     * A line that is too long cannot be parsed, and the rest of the request
+     * cannot be read reliably, so no further instances are created
+     */
+    private void lineTooLong() {
+      final String message = format("Line %d is longer than the maximum of %d bytes",
+        lineNumber + 1, MAXIMUM_STREAM_LINE_LENGTH);
+
+      log.warn(format("Stopped reading streamed batch of instances: %s", message));
+
+      stopped = true;
+
+      if (!response.headWritten()) {
+        ClientErrorResponse.badRequest(response, message);
+      } else {
+        response.close();
+      }
+    }
+
+    private void lineReceived(Buffer line) {
+      lineNumber++;
+
+      final String text = line.toString("UTF-8").trim();
+
+      if (text.isEmpty()) {
+        return;
+      }
+
+      try {
+        final JsonObject instance = new JsonObject(text);
+        final List<String> validationMessages = validateInstance(instance);
+
+        if (validationMessages.isEmpty()) {
+          pendingInstances.add(instance);
+        } else {
+          pendingErrorMessages.add(format(
+            "Instance on line %d is not valid for further processing: %s",
+            lineNumber, validationMessages));
+        }
+      } catch (DecodeException e) {
+        pendingErrorMessages.add(format("Line %d is not valid JSON: %s",
+          lineNumber, e.getMessage()));
+      }
+
+      if (chunkIsFull()) {
+        request.pause();
+        createNextChunk();
+      }
+    }
+
+    /**
+     * Invalid lines also start a chunk, so that their error messages are
+     * not all held until the request ends
+     */
+    private boolean chunkIsFull() {
+      return pendingInstances.size() >= chunkSize
+        || pendingErrorMessages.size() >= chunkSize;
+    }
+
+    private void createNextChunk() {
+      if (chunkInProgress || stopped) {
+        return;
+      }
+
+      if (!requestEnded && !chunkIsFull()) {
+        request.resume();
+        return;
+      }
+
+      if (pendingInstances.isEmpty() && pendingErrorMessages.isEmpty()) {
+        log.info(format("Created %d instances from streamed batch in %d chunks",
+          totalCreated, chunkNumber));
+
+        response.end();
+        return;
+      }
+
+      final List<JsonObject> chunk = new ArrayList<>(pendingInstances.subList(0,
+        Math.min(chunkSize, pendingInstances.size())));
+      final List<String> errorMessages = new ArrayList<>(pendingErrorMessages.subList(0,
+        Math.min(chunkSize, pendingErrorMessages.size())));
+
+      pendingInstances.subList(0, chunk.size()).clear();
+      pendingErrorMessages.subList(0, errorMessages.size()).clear();
+
+      chunkInProgress = true;
+      final int currentChunk = ++chunkNumber;
+
+      createChunk(chunk, errorMessages, routingContext, webContext)
+        .thenAccept(chunkResponse -> {
+          chunkInProgress = false;
+          totalCreated += chunkResponse.getInteger(BATCH_RESPONSE_FIELD_TOTAL_RECORDS, 0);
+
+          if (stopped) {
+            return;
+          }
+
+          response.write(JsonEncoder.encode(chunkResponse
+            .put(BATCH_RESPONSE_FIELD_CHUNK, currentChunk)).appendString("\n"));
+
+          if (response.writeQueueFull()) {
+            response.drainHandler(notUsed -> createNextChunk());
+          } else {
+            createNextChunk();
+          }
+        });
     }
-    return resultFuture;
   }
 }
@@ -3,6 +3,7 @@ package org.folio.inventory.resources;
 import static org.folio.inventory.domain.converters.EntityConverters.converterForClass;
 import static org.folio.inventory.support.HoldingsSupport.holdingForItem;
 import static org.folio.inventory.support.HoldingsSupport.instanceForHolding;
+import static org.folio.inventory.support.JsonArrayHelper.indexById;
 
 import java.lang.invoke.MethodHandles;
 import java.net.MalformedURLException;
@@ -193,30 +194,49 @@ class ItemRepresentation {
 
     JsonArray results = new JsonArray();
 
-    List<Item> items = wrappedItems.records;
+    Function<Item, JsonObject> toRepresentation = representationFor(holdings,
+      instances, materialTypes, loanTypes, locations, context);
 
-    items.forEach(item -> {
+    wrappedItems.records.forEach(item -> results.add(toRepresentation.apply(item)));
+
+    representation
+      .put("items", results)
+      .put("totalRecords", wrappedItems.totalRecords);
+
+    return representation;
+  }
+
+  /**
+   * Creates a function for representing each item from a page of items,
+   * so that the representations do not need to all be created at once
+   */
+  Function<Item, JsonObject> representationFor(
+    Collection<JsonObject> holdings,
+    Collection<JsonObject> instances,
+    Map<String, JsonObject> materialTypes,
+    Map<String, JsonObject> loanTypes,
+    Map<String, JsonObject> locations,
+    WebContext context) {
+
+    Map<String, JsonObject> holdingsById = indexById(holdings);
+    Map<String, JsonObject> instancesById = indexById(instances);
+
+    return item -> {
       JsonObject materialType = materialTypes.get(item.getMaterialTypeId());
       JsonObject permanentLoanType = loanTypes.get(item.getPermanentLoanTypeId());
       JsonObject temporaryLoanType = loanTypes.get(item.getTemporaryLoanTypeId());
 
-      JsonObject holding = holdingForItem(item, holdings).orElse(null);
+      JsonObject holding = holdingForItem(item, holdingsById).orElse(null);
 
-      JsonObject instance = instanceForHolding(holding, instances).orElse(null);
+      JsonObject instance = instanceForHolding(holding, instancesById).orElse(null);
 
       JsonObject effectiveLocation = locations.get(item.getEffectiveLocationId());
       JsonObject permanentLocation = locations.get(item.getPermanentLocationId());
       JsonObject temporaryLocation = locations.get(item.getTemporaryLocationId());
 
-      results.add(toJson(item, holding, instance, materialType, permanentLoanType,
-        temporaryLoanType, permanentLocation, temporaryLocation, effectiveLocation, context));
-    });
-
-    representation
-      .put("items", results)
-      .put("totalRecords", wrappedItems.totalRecords);
-
-    return representation;
+      return toJson(item, holding, instance, materialType, permanentLoanType,
+        temporaryLoanType, permanentLocation, temporaryLocation, effectiveLocation, context);
+    };
   }
 
   private void includeReferenceIfPresent(
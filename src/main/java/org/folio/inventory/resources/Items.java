@@ -40,6 +40,9 @@ import org.folio.inventory.services.MoveItemIntoStatusService;
 import org.folio.inventory.storage.Storage;
 import org.folio.inventory.storage.external.Clients;
 import org.folio.inventory.storage.external.CollectionResourceClient;
+import org.folio.inventory.storage.external.CqlQuery;
+import org.folio.inventory.storage.external.MultipleRecordsFetchClient;
+import org.folio.inventory.storage.external.ReferenceDataCache;
 import org.folio.inventory.support.CqlHelper;
 import org.folio.inventory.support.ItemUtil;
 import org.folio.inventory.support.JsonArrayHelper;
@@ -50,6 +53,7 @@ import org.folio.inventory.support.http.server.FailureResponseConsumer;
 import org.folio.inventory.support.http.server.ForwardResponse;
 import org.folio.inventory.support.http.server.JsonResponse;
 import org.folio.inventory.support.http.server.ServerErrorResponse;
+import org.folio.inventory.support.http.server.StreamingJsonResponse;
 import org.folio.inventory.support.http.server.SuccessResponse;
 import org.folio.inventory.support.http.server.ValidationError;
 import org.folio.inventory.validation.ItemsValidator;
@@ -66,6 +70,9 @@ public class Items extends AbstractInventoryResource {
   private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
   private static final String RELATIVE_ITEMS_PATH = "/inventory/items";
+  private static final String MATERIAL_TYPES_PATH = "/material-types";
+  private static final String LOAN_TYPES_PATH = "/loan-types";
+  private static final String LOCATIONS_PATH = "/locations";
 
   private static final int STATUS_CREATED = 201;
   private static final int STATUS_SUCCESS = 200;
@@ -73,8 +80,13 @@ public class Items extends AbstractInventoryResource {
   private final DateTimeFormatter dateTimeFormatter =
     DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSSZ").withZone(ZoneOffset.UTC);
 
-  public Items(final Storage storage, final HttpClient client) {
+  private final ReferenceDataCache referenceDataCache;
+
+  public Items(final Storage storage, final HttpClient client,
+    final ReferenceDataCache referenceDataCache) {
+
     super(storage, client);
+    this.referenceDataCache = referenceDataCache;
   }
 
   @Override
@@ -127,7 +139,7 @@ public class Items extends AbstractInventoryResource {
 
     if(pagingParameters == null) {
       ClientErrorResponse.badRequest(routingContext.response(),
-        "limit and offset must be numeric when supplied");
+        PagingParameters.invalidReason(context));
 
       return;
     }
@@ -135,14 +147,16 @@ public class Items extends AbstractInventoryResource {
     if(search == null) {
       storage.getItemCollection(context).findAll(
         pagingParameters,
-        success -> respondWithManyItems(routingContext, context, success.getResult()),
+        success -> respondWithManyItems(routingContext, context, pagingParameters,
+          success.getResult()),
         FailureResponseConsumer.serverError(routingContext.response()));
     }
     else {
       try {
         storage.getItemCollection(context).findByCql(search,
           pagingParameters, success ->
-            respondWithManyItems(routingContext, context, success.getResult()),
+            respondWithManyItems(routingContext, context, pagingParameters,
+              success.getResult()),
           FailureResponseConsumer.serverError(routingContext.response()));
       } catch (UnsupportedEncodingException e) {
         ServerErrorResponse.internalError(routingContext.response(), e.toString());
@@ -283,6 +297,7 @@ public class Items extends AbstractInventoryResource {
   private void respondWithManyItems(
     RoutingContext routingContext,
     WebContext context,
+    PagingParameters pagingParameters,
     MultipleRecords<Item> wrappedItems) {
 
     CollectionResourceClient holdingsClient;
@@ -305,11 +320,6 @@ public class Items extends AbstractInventoryResource {
       return;
     }
 
-    ArrayList<CompletableFuture<Response>> allMaterialTypeFutures = new ArrayList<>();
-    ArrayList<CompletableFuture<Response>> allLoanTypeFutures = new ArrayList<>();
-    ArrayList<CompletableFuture<Response>> allLocationsFutures = new ArrayList<>();
-    ArrayList<CompletableFuture<Response>> allFutures = new ArrayList<>();
-
     List<String> holdingsIds = wrappedItems.records.stream()
       .map(Item::getHoldingId)
       .filter(Objects::nonNull)
@@ -366,104 +376,53 @@ public class Items extends AbstractInventoryResource {
           .distinct()
           .collect(Collectors.toList());
 
-        materialTypeIds.forEach(id -> {
-          CompletableFuture<Response> newFuture = new CompletableFuture<>();
-
-          allFutures.add(newFuture);
-          allMaterialTypeFutures.add(newFuture);
-
-          materialTypesClient.get(id, newFuture::complete);
-        });
-
-        List<String> permanentLoanTypeIds = wrappedItems.records.stream()
-          .map(Item::getPermanentLoanTypeId)
-          .filter(Objects::nonNull)
-          .distinct()
-          .collect(Collectors.toList());
-
-        List<String> temporaryLoanTypeIds = wrappedItems.records.stream()
-          .map(Item::getTemporaryLoanTypeId)
-          .filter(Objects::nonNull)
-          .distinct()
-          .collect(Collectors.toList());
-
-        Stream.concat(permanentLoanTypeIds.stream(), temporaryLoanTypeIds.stream())
-          .distinct()
-          .forEach(id -> {
-
-            CompletableFuture<Response> newFuture = new CompletableFuture<>();
-
-            allFutures.add(newFuture);
-            allLoanTypeFutures.add(newFuture);
-
-            loanTypesClient.get(id, newFuture::complete);
-          });
-
-        List<String> effectiveLocationIds = wrappedItems.records.stream()
-          .map(Item::getEffectiveLocationId)
-          .filter(Objects::nonNull)
-          .distinct()
-          .collect(Collectors.toList());
-
-        List<String> permanentLocationIds = wrappedItems.records.stream()
-          .map(Item::getPermanentLocationId)
+        List<String> loanTypeIds = wrappedItems.records.stream()
+          .flatMap(item -> Stream.of(item.getPermanentLoanTypeId(),
+            item.getTemporaryLoanTypeId()))
           .filter(Objects::nonNull)
           .distinct()
           .collect(Collectors.toList());
 
-        List<String> temporaryLocationIds = wrappedItems.records.stream()
-          .map(Item::getTemporaryLocationId)
+        List<String> locationIds = wrappedItems.records.stream()
+          .flatMap(item -> Stream.of(item.getPermanentLocationId(),
+            item.getTemporaryLocationId(), item.getEffectiveLocationId()))
           .filter(Objects::nonNull)
           .distinct()
           .collect(Collectors.toList());
 
-        Stream.concat(Stream.concat(permanentLocationIds.stream(), temporaryLocationIds.stream()), effectiveLocationIds.stream())
-          .distinct()
-          .forEach(id -> {
-
-            CompletableFuture<Response> newFuture = new CompletableFuture<>();
-
-            allFutures.add(newFuture);
-            allLocationsFutures.add(newFuture);
-
-            locationsClient.get(id, newFuture::complete);
+        CompletableFuture<Map<String, JsonObject>> materialTypesFuture =
+          getReferenceRecords(materialTypeIds, MATERIAL_TYPES_PATH,
+            "mtypes", materialTypesClient, context);
+
+        CompletableFuture<Map<String, JsonObject>> loanTypesFuture =
+          getReferenceRecords(loanTypeIds, LOAN_TYPES_PATH,
+            "loantypes", loanTypesClient, context);
+
+        CompletableFuture<Map<String, JsonObject>> locationsFuture =
+          getReferenceRecords(locationIds, LOCATIONS_PATH,
+            "locations", locationsClient, context);
+
+        CompletableFuture.allOf(materialTypesFuture, loanTypesFuture, locationsFuture)
+          .thenAccept(v -> {
+            log.info("GET all items: all futures completed");
+
+            try {
+              StreamingJsonResponse.success(routingContext.response(), "items",
+                wrappedItems.records,
+                new ItemRepresentation(RELATIVE_ITEMS_PATH)
+                  .representationFor(holdings, instances,
+                    materialTypesFuture.join(), loanTypesFuture.join(),
+                    locationsFuture.join(), context),
+                wrappedItems.totalRecords,
+                pagingParameters.nextPage(wrappedItems.records, Item::getId));
+            } catch (Exception e) {
+              ServerErrorResponse.internalError(routingContext.response(), e.toString());
+            }
+          })
+          .exceptionally(e -> {
+            ServerErrorResponse.internalError(routingContext.response(), e);
+            return null;
           });
-
-        CompletableFuture<Void> allDoneFuture = allOf(allFutures);
-
-        allDoneFuture.thenAccept(v -> {
-          log.info("GET all items: all futures completed");
-
-          try {
-            Map<String, JsonObject> foundMaterialTypes
-              = allMaterialTypeFutures.stream()
-              .map(CompletableFuture::join)
-              .filter(response -> response.getStatusCode() == 200)
-              .map(Response::getJson)
-              .collect(Collectors.toMap(r -> r.getString("id"), r -> r));
-
-            Map<String, JsonObject> foundLoanTypes
-              = allLoanTypeFutures.stream()
-              .map(CompletableFuture::join)
-              .filter(response -> response.getStatusCode() == 200)
-              .map(Response::getJson)
-              .collect(Collectors.toMap(r -> r.getString("id"), r -> r));
-
-            Map<String, JsonObject> foundLocations
-              = allLocationsFutures.stream()
-              .map(CompletableFuture::join)
-              .filter(response -> response.getStatusCode() == 200)
-              .map(Response::getJson)
-              .collect(Collectors.toMap(r -> r.getString("id"), r -> r));
-
-            JsonResponse.success(routingContext.response(),
-              new ItemRepresentation(RELATIVE_ITEMS_PATH)
-                .toJson(wrappedItems, holdings, instances, foundMaterialTypes,
-                  foundLoanTypes, foundLocations, context));
-          } catch (Exception e) {
-            ServerErrorResponse.internalError(routingContext.response(), e.toString());
-          }
-        });
       });
     });
   }
@@ -511,7 +470,7 @@ public class Items extends AbstractInventoryResource {
     WebContext context)
     throws MalformedURLException {
 
-    return createCollectionResourceClient(client, context, "/material-types");
+    return createCollectionResourceClient(client, context, MATERIAL_TYPES_PATH);
   }
 
   private CollectionResourceClient createLoanTypesClient(
@@ -519,7 +478,7 @@ public class Items extends AbstractInventoryResource {
     WebContext context)
     throws MalformedURLException {
 
-    return createCollectionResourceClient(client, context, "/loan-types");
+    return createCollectionResourceClient(client, context, LOAN_TYPES_PATH);
   }
 
   private CollectionResourceClient createLocationsClient(
@@ -527,7 +486,7 @@ public class Items extends AbstractInventoryResource {
     WebContext context)
     throws MalformedURLException {
 
-    return createCollectionResourceClient(client, context, "/locations");
+    return createCollectionResourceClient(client, context, LOCATIONS_PATH);
   }
 
   private CollectionResourceClient createCollectionResourceClient(
@@ -542,13 +501,10 @@ public class Items extends AbstractInventoryResource {
 
   private JsonObject referenceRecordFrom(
     String id,
-    CompletableFuture<Response> requestFuture) {
+    CompletableFuture<JsonObject> requestFuture) {
 
-    return id != null
-      && requestFuture != null
-      && requestFuture.join() != null
-      && requestFuture.join().getStatusCode() == 200
-      ? requestFuture.join().getJson()
+    return id != null && requestFuture != null
+      ? requestFuture.join()
       : null;
   }
 
@@ -606,72 +562,79 @@ public class Items extends AbstractInventoryResource {
       invalidOkapiUrlResponse(routingContext, webContext);
       return;
     }
-    holdingsClient.get(item.getHoldingId(), (Response holdingResponse) -> {
-      final JsonObject holding = holdingResponse.getStatusCode() == 200
-        ? holdingResponse.getJson()
-        : null;
-
-      String instanceId = holdingResponse.getStatusCode() == 200
-        ? holdingResponse.getJson().getString("instanceId")
-        : null;
-
-      instancesClient.get(instanceId, (Response instanceResponse) -> {
-        final JsonObject instance = instanceResponse.getStatusCode() == 200
-          ? instanceResponse.getJson()
-          : null;
-
-        ArrayList<CompletableFuture<Response>> allFutures = new ArrayList<>();
-
-        CompletableFuture<Response> materialTypeFuture = getReferenceRecord(
-          item.getMaterialTypeId(), materialTypesClient, allFutures);
-
-        CompletableFuture<Response> permanentLoanTypeFuture = getReferenceRecord(
-          item.getPermanentLoanTypeId(), loanTypesClient, allFutures);
 
-        CompletableFuture<Response> temporaryLoanTypeFuture = getReferenceRecord(
-          item.getTemporaryLoanTypeId(), loanTypesClient, allFutures);
-
-        CompletableFuture<Response> permanentLocationFuture = getReferenceRecord(
-          item.getPermanentLocationId(), locationsClient, allFutures);
-
-        CompletableFuture<Response> temporaryLocationFuture = getReferenceRecord(
-          item.getTemporaryLocationId(), locationsClient, allFutures);
-
-        CompletableFuture<Response> effectiveLocationFuture = getReferenceRecord(
-          item.getEffectiveLocationId(), locationsClient, allFutures);
-
-        CompletableFuture<Void> allDoneFuture = allOf(allFutures);
-
-        allDoneFuture.thenAccept(v -> {
-          try {
-            JsonObject representation = includeReferenceRecordInformationInItem(
-                      webContext, item, holding, instance,
-                      materialTypeFuture,
-                      permanentLoanTypeFuture,
-                      temporaryLoanTypeFuture,
-                      temporaryLocationFuture,
-                      permanentLocationFuture,
-                      effectiveLocationFuture);
-
-            switch (responseStatus) {
-              case STATUS_CREATED :
-                JsonResponse.created(routingContext.response(), representation);
-                break;
-              case STATUS_SUCCESS :
-                JsonResponse.success(routingContext.response(), representation);
-                break;
-              default:
-                ServerErrorResponse.internalError(routingContext.response(),
-                  "System specified invalid status code for Item response");
-                break;
-            }
-          } catch (Exception e) {
-            ServerErrorResponse.internalError(routingContext.response(),
-              String.format("Error responding with Item representation: %s", e));
+    ArrayList<CompletableFuture<JsonObject>> allFutures = new ArrayList<>();
+
+    // Reference records only depend upon the item, so are fetched at the same
+    // time as the holding, only the instance has to wait for the holding
+    CompletableFuture<JsonObject> holdingFuture = fetchRecord(
+      item.getHoldingId(), holdingsClient);
+
+    CompletableFuture<JsonObject> instanceFuture = holdingFuture.thenCompose(
+      holding -> holding != null
+        ? fetchRecord(holding.getString("instanceId"), instancesClient)
+        : CompletableFuture.completedFuture(null));
+
+    allFutures.add(holdingFuture);
+    allFutures.add(instanceFuture);
+
+    CompletableFuture<JsonObject> materialTypeFuture = getReferenceRecord(
+      item.getMaterialTypeId(), MATERIAL_TYPES_PATH, materialTypesClient,
+      webContext, allFutures);
+
+    CompletableFuture<JsonObject> permanentLoanTypeFuture = getReferenceRecord(
+      item.getPermanentLoanTypeId(), LOAN_TYPES_PATH, loanTypesClient,
+      webContext, allFutures);
+
+    CompletableFuture<JsonObject> temporaryLoanTypeFuture = getReferenceRecord(
+      item.getTemporaryLoanTypeId(), LOAN_TYPES_PATH, loanTypesClient,
+      webContext, allFutures);
+
+    CompletableFuture<JsonObject> permanentLocationFuture = getReferenceRecord(
+      item.getPermanentLocationId(), LOCATIONS_PATH, locationsClient,
+      webContext, allFutures);
+
+    CompletableFuture<JsonObject> temporaryLocationFuture = getReferenceRecord(
+      item.getTemporaryLocationId(), LOCATIONS_PATH, locationsClient,
+      webContext, allFutures);
+
+    CompletableFuture<JsonObject> effectiveLocationFuture = getReferenceRecord(
+      item.getEffectiveLocationId(), LOCATIONS_PATH, locationsClient,
+      webContext, allFutures);
+
+    allOf(allFutures)
+      .thenAccept(v -> {
+        try {
+          JsonObject representation = includeReferenceRecordInformationInItem(
+            webContext, item, holdingFuture.join(), instanceFuture.join(),
+            materialTypeFuture,
+            permanentLoanTypeFuture,
+            temporaryLoanTypeFuture,
+            temporaryLocationFuture,
+            permanentLocationFuture,
+            effectiveLocationFuture);
+
+          switch (responseStatus) {
+            case STATUS_CREATED :
+              JsonResponse.created(routingContext.response(), representation);
+              break;
+            case STATUS_SUCCESS :
+              JsonResponse.success(routingContext.response(), representation);
+              break;
+            default:
+              ServerErrorResponse.internalError(routingContext.response(),
+                "System specified invalid status code for Item response");
+              break;
           }
-        });
+        } catch (Exception e) {
+          ServerErrorResponse.internalError(routingContext.response(),
+            String.format("Error responding with Item representation: %s", e));
+        }
+      })
+      .exceptionally(e -> {
+        ServerErrorResponse.internalError(routingContext.response(), e);
+        return null;
       });
-    });
   }
 
   private void invalidOkapiUrlResponse(RoutingContext routingContext, WebContext context) {
@@ -679,16 +642,16 @@ public class Items extends AbstractInventoryResource {
       String.format("Invalid Okapi URL: %s", context.getOkapiLocation()));
   }
 
-  private CompletableFuture<Response> getReferenceRecord(
-    String id, CollectionResourceClient client,
-    ArrayList<CompletableFuture<Response>> allFutures) {
-
-    CompletableFuture<Response> newFuture = new CompletableFuture<>();
+  private CompletableFuture<JsonObject> getReferenceRecord(
+    String id, String recordType, CollectionResourceClient client,
+    WebContext context, ArrayList<CompletableFuture<JsonObject>> allFutures) {
 
     if(id != null) {
-      allFutures.add(newFuture);
+      CompletableFuture<JsonObject> newFuture = referenceDataCache.get(
+        context.getTenantId(), recordType, id,
+        recordId -> fetchRecord(recordId, client));
 
-      client.get(id, newFuture::complete);
+      allFutures.add(newFuture);
 
       return newFuture;
     }
@@ -697,17 +660,47 @@ public class Items extends AbstractInventoryResource {
     }
   }
 
+  private CompletableFuture<Map<String, JsonObject>> getReferenceRecords(
+    List<String> ids, String recordType, String collectionPropertyName,
+    CollectionResourceClient client, WebContext context) {
+
+    final MultipleRecordsFetchClient fetchClient = MultipleRecordsFetchClient.builder()
+      .withCollectionResourceClient(client)
+      .withCollectionPropertyName(collectionPropertyName)
+      .withExpectedStatus(200)
+      .build();
+
+    return referenceDataCache.getAll(context.getTenantId(), recordType, ids,
+      notCachedIds -> fetchClient.find(notCachedIds,
+        batch -> CqlQuery.exactMatchAny("id", batch)));
+  }
+
+  private CompletableFuture<JsonObject> fetchRecord(
+    String id, CollectionResourceClient client) {
+
+    if (id == null) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    CompletableFuture<Response> requestFuture = new CompletableFuture<>();
+
+    client.get(id, requestFuture::complete);
+
+    return requestFuture.thenApply(response ->
+      response.getStatusCode() == 200 ? response.getJson() : null);
+  }
+
   private JsonObject includeReferenceRecordInformationInItem(
     WebContext context,
     Item item,
     JsonObject holding,
     JsonObject instance,
-    CompletableFuture<Response> materialTypeFuture,
-    CompletableFuture<Response> permanentLoanTypeFuture,
-    CompletableFuture<Response> temporaryLoanTypeFuture,
-    CompletableFuture<Response> temporaryLocationFuture,
-    CompletableFuture<Response> permanentLocationFuture,
-    CompletableFuture<Response> effectiveLocationFuture) {
+    CompletableFuture<JsonObject> materialTypeFuture,
+    CompletableFuture<JsonObject> permanentLoanTypeFuture,
+    CompletableFuture<JsonObject> temporaryLoanTypeFuture,
+    CompletableFuture<JsonObject> temporaryLocationFuture,
+    CompletableFuture<JsonObject> permanentLocationFuture,
+    CompletableFuture<JsonObject> effectiveLocationFuture) {
 
     JsonObject foundMaterialType =
       referenceRecordFrom(item.getMaterialTypeId(), materialTypeFuture);
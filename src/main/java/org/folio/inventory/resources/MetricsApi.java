@@ -0,0 +1,29 @@
+package org.folio.inventory.resources;
+
+import org.folio.inventory.support.http.ContentType;
+import org.folio.inventory.support.metrics.MetricsRegistry;
+
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Exposes request metrics for scraping by Prometheus, this is intended to be
+ * requested directly from each instance of the module, rather than via Okapi
+ */
+public class MetricsApi {
+  private static final String METRICS_PATH = "/admin/metrics";
+  private static final String PROMETHEUS_TEXT_FORMAT
+    = ContentType.TEXT_PLAIN + "; version=0.0.4; charset=utf-8";
+
+  public void register(Router router) {
+    router.get(METRICS_PATH).handler(this::getMetrics);
+  }
+
+  private void getMetrics(RoutingContext routingContext) {
+    routingContext.response()
+      .setStatusCode(200)
+      .putHeader(HttpHeaders.CONTENT_TYPE, PROMETHEUS_TEXT_FORMAT)
+      .end(MetricsRegistry.getInstance().toPrometheusText());
+  }
+}
@@ -6,33 +6,42 @@ import static org.folio.inventory.support.http.server.JsonResponse.unprocessable
 import static org.folio.inventory.validation.MoveValidator.holdingsMoveHasRequiredFields;
 import static org.folio.inventory.validation.MoveValidator.itemsMoveHasRequiredFields;
 
+import java.lang.invoke.MethodHandles;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
-import org.apache.commons.collections15.ListUtils;
 import org.folio.HoldingsRecord;
 import org.folio.inventory.common.WebContext;
 import org.folio.inventory.domain.HoldingsRecordCollection;
 import org.folio.inventory.domain.items.Item;
 import org.folio.inventory.domain.items.ItemCollection;
+import org.folio.inventory.services.ChunkedMoveService;
+import org.folio.inventory.services.ChunkedMoveService.Move;
+import org.folio.inventory.services.MoveJob;
+import org.folio.inventory.services.MoveJobs;
 import org.folio.inventory.storage.Storage;
 import org.folio.inventory.storage.external.CollectionResourceClient;
 import org.folio.inventory.storage.external.CqlQuery;
 import org.folio.inventory.storage.external.MultipleRecordsFetchClient;
+import org.folio.inventory.support.CompletableFutures;
 import org.folio.inventory.support.ItemUtil;
 import org.folio.inventory.support.http.client.OkapiHttpClient;
+import org.folio.inventory.support.http.server.ClientErrorResponse;
 import org.folio.inventory.support.http.server.JsonResponse;
+import org.folio.inventory.support.http.server.RedirectResponse;
 import org.folio.inventory.support.http.server.ServerErrorResponse;
 import org.folio.inventory.support.http.server.ValidationError;
 
 import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
 import io.vertx.ext.web.Router;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.handler.BodyHandler;
@@ -47,19 +56,37 @@ public class MoveApi extends AbstractInventoryResource {
   public static final String ITEMS_PROPERTY = "items";
   public static final String HOLDINGS_RECORDS_PROPERTY = "holdingsRecords";
   public static final String HOLDINGS_STORAGE = "/holdings-storage/holdings";
+  public static final String ASYNC_PARAMETER = "async";
+
+  private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final String ITEMS_MOVE_PATH = "/inventory/items/move";
+  private static final String HOLDINGS_MOVE_PATH = "/inventory/holdings/move";
+
+  private final ChunkedMoveService moveService;
+  private final MoveJobs moveJobs;
+
+  public MoveApi(final Storage storage, final HttpClient client,
+    final ChunkedMoveService moveService, final MoveJobs moveJobs) {
 
-  public MoveApi(final Storage storage, final HttpClient client) {
     super(storage, client);
+
+    this.moveService = moveService;
+    this.moveJobs = moveJobs;
   }
 
   @Override
   public void register(Router router) {
     router.post("/inventory/holdings*")
       .handler(BodyHandler.create());
-    router.post("/inventory/items/move")
+    router.post(ITEMS_MOVE_PATH)
       .handler(this::moveItems);
-    router.post("/inventory/holdings/move")
+    router.post(HOLDINGS_MOVE_PATH)
       .handler(this::moveHoldings);
+    router.get(ITEMS_MOVE_PATH + "/status/:id")
+      .handler(routingContext -> status(routingContext, ITEMS_PROPERTY));
+    router.get(HOLDINGS_MOVE_PATH + "/status/:id")
+      .handler(routingContext -> status(routingContext, HOLDINGS_RECORDS_PROPERTY));
   }
 
   private void moveItems(RoutingContext routingContext) {
@@ -78,23 +105,13 @@ public class MoveApi extends AbstractInventoryResource {
       .findById(toHoldingsRecordId)
       .thenAccept(holding -> {
         if (Objects.nonNull(holding)) {
-          try {
-            CollectionResourceClient itemsStorageClient = createItemStorageClient(createHttpClient(routingContext, context),
-                context);
-            MultipleRecordsFetchClient itemsFetchClient = createItemsFetchClient(itemsStorageClient);
-
-            itemsFetchClient.find(itemIdsToUpdate, this::fetchByIdCql)
-              .thenAccept(jsons -> {
-                List<Item> itemsToUpdate = updateHoldingsRecordIdForItems(toHoldingsRecordId, jsons);
-                updateItems(routingContext, context, itemIdsToUpdate, itemsToUpdate);
-              })
-              .exceptionally(e -> {
-                ServerErrorResponse.internalError(routingContext.response(), e);
-                return null;
-              });
-          } catch (Exception e) {
-            ServerErrorResponse.internalError(routingContext.response(), e);
-          }
+          ItemCollection storageItemCollection = storage.getItemCollection(context);
+
+          move(routingContext, context, ITEMS_PROPERTY, ITEMS_MOVE_PATH,
+            itemIdsToUpdate, Move.of(
+              ids -> fetchRecords(context, ITEM_STORAGE, ITEMS_PROPERTY, ids)
+                .thenApply(jsons -> updateHoldingsRecordIdForItems(toHoldingsRecordId, jsons)),
+              Item::getId, storageItemCollection::update));
         } else {
           JsonResponse.unprocessableEntity(routingContext.response(),
               String.format("Holding with id=%s not found", toHoldingsRecordId));
@@ -121,23 +138,14 @@ public class MoveApi extends AbstractInventoryResource {
           JsonResponse.unprocessableEntity(routingContext.response(), String.format("Instance with id=%s not found", toInstanceId));
           return;
         }
-        try {
-          CollectionResourceClient holdingsStorageClient = createHoldingsStorageClient(createHttpClient(routingContext, context),
-              context);
-          MultipleRecordsFetchClient holdingsRecordFetchClient = createHoldingsRecordsFetchClient(holdingsStorageClient);
-
-          holdingsRecordFetchClient.find(holdingsRecordsIdsToUpdate, this::fetchByIdCql)
-            .thenAccept(jsons -> {
-              List<HoldingsRecord> holdingsRecordsToUpdate = updateInstanceIdForHoldings(toInstanceId, jsons);
-              updateHoldings(routingContext, context, holdingsRecordsIdsToUpdate, holdingsRecordsToUpdate);
-            })
-            .exceptionally(e -> {
-              ServerErrorResponse.internalError(routingContext.response(), e);
-              return null;
-            });
-        } catch (Exception e) {
-          ServerErrorResponse.internalError(routingContext.response(), e);
-        }
+        HoldingsRecordCollection storageHoldingsRecordsCollection =
+          storage.getHoldingsRecordCollection(context);
+
+        move(routingContext, context, HOLDINGS_RECORDS_PROPERTY, HOLDINGS_MOVE_PATH,
+          holdingsRecordsIdsToUpdate, Move.of(
+            ids -> fetchRecords(context, HOLDINGS_STORAGE, HOLDINGS_RECORDS_PROPERTY, ids)
+              .thenApply(jsons -> updateInstanceIdForHoldings(toInstanceId, jsons)),
+            HoldingsRecord::getId, storageHoldingsRecordsCollection::update));
       });
   }
 
@@ -148,22 +156,6 @@ public class MoveApi extends AbstractInventoryResource {
       .collect(toList());
   }
 
-  private void updateItems(RoutingContext routingContext, WebContext context, List<String> idsToUpdate, List<Item> itemsToUpdate) {
-    ItemCollection storageItemCollection = storage.getItemCollection(context);
-
-    List<CompletableFuture<Item>> updates = itemsToUpdate.stream()
-      .map(storageItemCollection::update)
-      .collect(Collectors.toList());
-
-    CompletableFuture.allOf(updates.toArray(new CompletableFuture[0]))
-      .handle((vVoid, throwable) -> updates.stream()
-        .filter(future -> !future.isCompletedExceptionally())
-        .map(CompletableFuture::join)
-        .map(Item::getId)
-        .collect(toList()))
-      .thenAccept(updatedIds -> respond(routingContext, idsToUpdate, updatedIds));
-  }
-
   private List<HoldingsRecord> updateInstanceIdForHoldings(String toInstanceId, List<JsonObject> jsons) {
     return jsons.stream()
       .map(json -> json.mapTo(HoldingsRecord.class))
@@ -171,25 +163,64 @@ public class MoveApi extends AbstractInventoryResource {
       .collect(toList());
   }
 
-  private void updateHoldings(RoutingContext routingContext, WebContext context, List<String> idsToUpdate,
-      List<HoldingsRecord> holdingsToUpdate) {
-    HoldingsRecordCollection storageHoldingsRecordsCollection = storage.getHoldingsRecordCollection(context);
-
-    List<CompletableFuture<HoldingsRecord>> updateFutures = holdingsToUpdate.stream()
-      .map(storageHoldingsRecordsCollection::update)
-      .collect(Collectors.toList());
-
-    CompletableFuture.allOf(updateFutures.toArray(new CompletableFuture[0]))
-      .handle((vVoid, throwable) -> updateFutures.stream()
-        .filter(future -> !future.isCompletedExceptionally())
-        .map(CompletableFuture::join)
-        .map(HoldingsRecord::getId)
-        .collect(toList()))
-      .thenAccept(updatedIds -> respond(routingContext, idsToUpdate, updatedIds));
+  /**
+   * Moves the records whilst the client waits for the response, or when
+   * requested, in the background, responding with the location of the status
+   */
+  private <T> void move(RoutingContext routingContext, WebContext context,
+    String recordType, String movePath, List<String> ids, Move<T> records) {
+
+    if (!Boolean.parseBoolean(context.getStringParameter(ASYNC_PARAMETER, "false"))) {
+      moveService.move(ids, records)
+        .thenAccept(nonUpdatedIds -> respond(routingContext, nonUpdatedIds))
+        .exceptionally(e -> {
+          ServerErrorResponse.internalError(routingContext.response(), e);
+          return null;
+        });
+
+      return;
+    }
+
+    final MoveJob job = moveJobs.start(context.getTenantId(), recordType, ids.size());
+
+    moveService.move(ids, records, job::chunkMoved)
+      .whenComplete((nonUpdatedIds, failure) -> {
+        if (failure != null) {
+          log.error(String.format("Move of %s (job %s) did not complete",
+            recordType, job.getId()), failure);
+        }
+
+        job.completed();
+      });
+
+    RedirectResponse.accepted(routingContext.response(),
+      statusLocation(routingContext, movePath, job.getId()));
   }
 
-  private void respond(RoutingContext routingContext, List<String> itemIdsToUpdate, List<String> updatedItemIds) {
-    List<String> nonUpdatedIds = ListUtils.subtract(itemIdsToUpdate, updatedItemIds);
+  private void status(RoutingContext routingContext, String recordType) {
+    WebContext context = new WebContext(routingContext);
+
+    final MoveJob job = moveJobs.find(context.getTenantId(), recordType,
+      routingContext.request().getParam("id"));
+
+    if (job == null) {
+      ClientErrorResponse.notFound(routingContext.response());
+      return;
+    }
+
+    JsonResponse.success(routingContext.response(), job.toJson());
+  }
+
+  private String statusLocation(RoutingContext routingContext, String movePath,
+    String jobId) {
+
+    String scheme = routingContext.request().scheme();
+    String host = routingContext.request().host();
+
+    return String.format("%s://%s%s/status/%s", scheme, host, movePath, jobId);
+  }
+
+  private void respond(RoutingContext routingContext, List<String> nonUpdatedIds) {
     HttpServerResponse response = routingContext.response();
     if (nonUpdatedIds.isEmpty()) {
       JsonResponse.successWithEmptyBody(response);
@@ -198,25 +229,33 @@ public class MoveApi extends AbstractInventoryResource {
     }
   }
 
-  private OkapiHttpClient createHttpClient(RoutingContext routingContext, WebContext context) throws MalformedURLException {
-    return new OkapiHttpClient(client, context, exception -> ServerErrorResponse.internalError(routingContext.response(),
-        String.format("Failed to contact storage module: %s", exception.toString())));
-  }
+  /**
+   * Fetches a chunk of records to move, a failure to contact storage only
+   * fails this chunk, rather than responding to the request
+   */
+  private CompletableFuture<List<JsonObject>> fetchRecords(WebContext context,
+    String storagePath, String collectionPropertyName, List<String> ids) {
 
-  private CollectionResourceClient createStorageClient(OkapiHttpClient client, WebContext context, String storageUrl)
-      throws MalformedURLException {
+    final CompletableFuture<List<JsonObject>> connectionFailed = new CompletableFuture<>();
 
-    return new CollectionResourceClient(client, new URL(context.getOkapiLocation() + storageUrl));
-  }
+    try {
+      OkapiHttpClient okapiClient = new OkapiHttpClient(client, context,
+        connectionFailed::completeExceptionally);
 
-  private CollectionResourceClient createItemStorageClient(OkapiHttpClient client, WebContext context)
-      throws MalformedURLException {
-    return createStorageClient(client, context, ITEM_STORAGE);
+      MultipleRecordsFetchClient fetchClient = createFetchClient(
+        createStorageClient(okapiClient, context, storagePath), collectionPropertyName);
+
+      return fetchClient.find(ids, this::fetchByIdCql)
+        .applyToEither(connectionFailed, Function.identity());
+    } catch (MalformedURLException e) {
+      return CompletableFutures.failedFuture(e);
+    }
   }
 
-  private CollectionResourceClient createHoldingsStorageClient(OkapiHttpClient client, WebContext context)
+  private CollectionResourceClient createStorageClient(OkapiHttpClient client, WebContext context, String storageUrl)
       throws MalformedURLException {
-    return createStorageClient(client, context, HOLDINGS_STORAGE);
+
+    return new CollectionResourceClient(client, new URL(context.getOkapiLocation() + storageUrl));
   }
 
   private CqlQuery fetchByIdCql(List<String> ids) {
@@ -230,12 +269,4 @@ public class MoveApi extends AbstractInventoryResource {
       .withCollectionResourceClient(client)
       .build();
   }
-
-  private MultipleRecordsFetchClient createItemsFetchClient(CollectionResourceClient client) {
-    return createFetchClient(client, ITEMS_PROPERTY);
-  }
-
-  private MultipleRecordsFetchClient createHoldingsRecordsFetchClient(CollectionResourceClient client) {
-    return createFetchClient(client, HOLDINGS_RECORDS_PROPERTY);
-  }
 }
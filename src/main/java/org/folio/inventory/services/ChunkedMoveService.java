@@ -0,0 +1,232 @@
+package org.folio.inventory.services;
+
+import static java.lang.String.format;
+import static java.util.stream.Collectors.toList;
+import static org.apache.commons.collections4.ListUtils.partition;
+import static org.folio.inventory.support.CompletableFutures.failedFuture;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.folio.inventory.support.AsyncWorkLimiter;
+import org.folio.inventory.support.AsyncWorkLimiter.Operation;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Moves records (e.g. items to another holdings record) a chunk at a time,
+ * rather than fetching and updating all of them at once.
+ *
+ * The records for a chunk are fetched, then updated with only a limited
+ * number of updates in progress (shared by all moves), and only then is the
+ * next chunk fetched, so only a single chunk of records is held at a time.
+ *
+ * A record that cannot be fetched or updated is reported as not updated,
+ * without stopping the rest of the move.
+ */
+public class ChunkedMoveService {
+  private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+  public static final String CHUNK_SIZE_CONFIG_KEY = "move.chunk.size";
+  public static final String MAXIMUM_IN_FLIGHT_CONFIG_KEY = "move.max.in.flight";
+  public static final String MAXIMUM_IN_FLIGHT_PER_MOVE_CONFIG_KEY
+    = "move.max.in.flight.per.move";
+
+  private static final int DEFAULT_CHUNK_SIZE = 100;
+  private static final int DEFAULT_MAXIMUM_IN_FLIGHT = 20;
+  private static final int DEFAULT_MAXIMUM_IN_FLIGHT_PER_MOVE = 10;
+
+  private final int chunkSize;
+  private final AsyncWorkLimiter updateLimiter;
+
+  public ChunkedMoveService(int chunkSize, AsyncWorkLimiter updateLimiter) {
+    this.chunkSize = Math.max(chunkSize, 1);
+    this.updateLimiter = updateLimiter;
+  }
+
+  public static ChunkedMoveService fromConfig(JsonObject config) {
+    return new ChunkedMoveService(
+      config.getInteger(CHUNK_SIZE_CONFIG_KEY, DEFAULT_CHUNK_SIZE),
+      new AsyncWorkLimiter(
+        config.getInteger(MAXIMUM_IN_FLIGHT_CONFIG_KEY, DEFAULT_MAXIMUM_IN_FLIGHT),
+        config.getInteger(MAXIMUM_IN_FLIGHT_PER_MOVE_CONFIG_KEY,
+          DEFAULT_MAXIMUM_IN_FLIGHT_PER_MOVE)));
+  }
+
+  /**
+   * @param ids      ids of the records to move
+   * @param records  fetches, changes and updates the records
+   * @return ids of the records that were not updated
+   */
+  public <T> CompletableFuture<List<String>> move(List<String> ids, Move<T> records) {
+    return move(ids, records, (updatedCount, notUpdatedIds) -> { });
+  }
+
+  /**
+   * @param ids      ids of the records to move
+   * @param records  fetches, changes and updates the records
+   * @param progress notified after each chunk has been moved
+   * @return ids of the records that were not updated
+   */
+  public <T> CompletableFuture<List<String>> move(List<String> ids, Move<T> records,
+    ChunkMoved progress) {
+
+    final List<String> notUpdatedIds = new ArrayList<>();
+
+    return moveChunks(partition(ids, chunkSize), 0, records, progress, notUpdatedIds)
+      .thenApply(notUsed -> notUpdatedIds);
+  }
+
+  public int getChunkSize() {
+    return chunkSize;
+  }
+
+  private <T> CompletableFuture<Void> moveChunks(List<List<String>> chunks, int index,
+    Move<T> records, ChunkMoved progress, List<String> notUpdatedIds) {
+
+    if (index >= chunks.size()) {
+      return CompletableFuture.completedFuture(null);
+    }
+
+    final List<String> chunk = chunks.get(index);
+
+    return moveChunk(chunk, records)
+      .thenCompose(chunkNotUpdatedIds -> {
+        notUpdatedIds.addAll(chunkNotUpdatedIds);
+
+        progress.moved(chunk.size() - chunkNotUpdatedIds.size(), chunkNotUpdatedIds);
+
+        return moveChunks(chunks, index + 1, records, progress, notUpdatedIds);
+      });
+  }
+
+  private <T> CompletableFuture<List<String>> moveChunk(List<String> chunk, Move<T> records) {
+    return fetch(chunk, records)
+      .thenCompose(fetched -> {
+        if (fetched == null) {
+          return CompletableFuture.completedFuture(chunk);
+        }
+
+        final List<Operation<String>> updates = fetched.stream()
+          .map(record -> update(record, records))
+          .collect(toList());
+
+        return updateLimiter.runAll(updates)
+          .thenApply(updatedIds -> {
+            final Set<String> updated = new HashSet<>(updatedIds);
+
+            return chunk.stream()
+              .filter(id -> !updated.contains(id))
+              .collect(toList());
+          });
+      });
+  }
+
+  /**
+   * @return records that were found, or null when the chunk could not be fetched
+   */
+  private <T> CompletableFuture<List<T>> fetch(List<String> chunk, Move<T> records) {
+    CompletableFuture<List<T>> fetched;
+
+    try {
+      fetched = records.fetch(chunk);
+    } catch (Exception e) {
+      fetched = failedFuture(e);
+    }
+
+    return fetched.handle((result, failure) -> {
+      if (failure != null) {
+        log.warn(format("Failed to fetch %d records to move: %s", chunk.size(),
+          failure.getMessage()));
+
+        return null;
+      }
+
+      return result;
+    });
+  }
+
+  /**
+   * Updates never fail, so all of the updates in a chunk are attempted
+   *
+   * @return operation resulting in the id of the record, or null if it was not updated
+   */
+  private <T> Operation<String> update(T record, Move<T> records) {
+    final String id = records.getId(record);
+
+    return new Operation<>(format("move record %s", id), () -> {
+      CompletableFuture<?> updated;
+
+      try {
+        updated = records.update(record);
+      } catch (Exception e) {
+        updated = failedFuture(e);
+      }
+
+      return updated.handle((result, failure) -> {
+        if (failure != null) {
+          log.warn(format("Failed to move record %s: %s", id, failure.getMessage()));
+
+          return null;
+        }
+
+        return id;
+      });
+    });
+  }
+
+  /**
+   * How to move a particular type of record
+   */
+  public interface Move<T> {
+    /**
+     * Fetches the records for some of the ids (those that are not found
+     * are not updated)
+     */
+    CompletableFuture<List<T>> fetch(List<String> ids);
+
+    String getId(T record);
+
+    /**
+     * Changes and updates a single record
+     */
+    CompletableFuture<?> update(T record);
+
+    static <T> Move<T> of(Function<List<String>, CompletableFuture<List<T>>> fetch,
+      Function<T, String> getId, Function<T, CompletableFuture<?>> update) {
+
+      return new Move<T>() {
+        @Override
+        public CompletableFuture<List<T>> fetch(List<String> ids) {
+          return fetch.apply(ids);
+        }
+
+        @Override
+        public String getId(T record) {
+          return getId.apply(record);
+        }
+
+        @Override
+        public CompletableFuture<?> update(T record) {
+          return update.apply(record);
+        }
+      };
+    }
+  }
+
+  @FunctionalInterface
+  public interface ChunkMoved {
+    /**
+     * @param updatedCount   number of records in the chunk that were updated
+     * @param notUpdatedIds  ids of records in the chunk that were not updated
+     */
+    void moved(int updatedCount, List<String> notUpdatedIds);
+  }
+}
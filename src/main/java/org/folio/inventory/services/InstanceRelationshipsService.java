@@ -1,8 +1,14 @@
 package org.folio.inventory.services;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
+import org.folio.inventory.domain.instances.InstanceHierarchy;
+import org.folio.inventory.domain.instances.InstanceRelationship;
 import org.folio.inventory.storage.external.CollectionResourceClient;
 import org.folio.inventory.storage.external.CqlQuery;
 import org.folio.inventory.storage.external.MultipleRecordsFetchClient;
@@ -30,6 +36,61 @@ public class InstanceRelationshipsService {
     return precedingSucceedingFetchClient.find(instanceIds, this::fetchPrecedingSucceedingTitleCql);
   }
 
+  /**
+   * Fetches the instances related to an instance, one level at a time.
+   *
+   * Each level is fetched with a single (multiple id) query for the
+   * relationships of all of the instances found at the previous level,
+   * parents are followed upwards and children downwards.
+   *
+   * @param instanceId        instance at the root of the hierarchy
+   * @param maximumDepth      how many levels to follow in each direction
+   * @param maximumInstances  how many instances (including the root) to include
+   */
+  public CompletableFuture<InstanceHierarchy> fetchInstanceHierarchy(String instanceId,
+    int maximumDepth, int maximumInstances) {
+
+    final Set<String> root = Collections.singleton(instanceId);
+
+    return expandHierarchy(new InstanceHierarchy(instanceId, maximumInstances),
+      root, root, 1, maximumDepth);
+  }
+
+  private CompletableFuture<InstanceHierarchy> expandHierarchy(InstanceHierarchy hierarchy,
+    Set<String> ancestorsToExpand, Set<String> descendantsToExpand, int depth,
+    int maximumDepth) {
+
+    if (depth > maximumDepth || (ancestorsToExpand.isEmpty() && descendantsToExpand.isEmpty())) {
+      return CompletableFuture.completedFuture(hierarchy);
+    }
+
+    final Set<String> instanceIds = new LinkedHashSet<>(ancestorsToExpand);
+    instanceIds.addAll(descendantsToExpand);
+
+    return fetchInstanceRelationships(new ArrayList<>(instanceIds))
+      .thenCompose(relationships -> {
+        final Set<String> nextAncestors = new LinkedHashSet<>();
+        final Set<String> nextDescendants = new LinkedHashSet<>();
+
+        relationships.stream()
+          .map(InstanceRelationship::new)
+          .forEach(relationship -> {
+            if (ancestorsToExpand.contains(relationship.subInstanceId)
+              && hierarchy.addAncestor(relationship, depth)) {
+              nextAncestors.add(relationship.superInstanceId);
+            }
+
+            if (descendantsToExpand.contains(relationship.superInstanceId)
+              && hierarchy.addDescendant(relationship, depth)) {
+              nextDescendants.add(relationship.subInstanceId);
+            }
+          });
+
+        return expandHierarchy(hierarchy, nextAncestors, nextDescendants,
+          depth + 1, maximumDepth);
+      });
+  }
+
   private CqlQuery fetchRelatedInstancesCql(List<String> instanceIds) {
     return CqlQuery.exactMatchAny("subInstanceId", instanceIds)
       .or(CqlQuery.exactMatchAny("superInstanceId", instanceIds));
@@ -0,0 +1,103 @@
+package org.folio.inventory.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Progress of a move that is carried out in the background.
+ *
+ * The move is made on the event loop of the verticle that accepted it,
+ * whereas the status may be requested via any verticle, so the progress
+ * is safe to read from other threads.
+ */
+public class MoveJob {
+  // JSON property names
+  public static final String ID_KEY = "id";
+  public static final String STATUS_KEY = "status";
+  public static final String TOTAL_RECORDS_KEY = "totalRecords";
+  public static final String DONE_KEY = "done";
+  public static final String FAILED_KEY = "failed";
+  public static final String PENDING_KEY = "pending";
+  public static final String NON_UPDATED_IDS_KEY = "nonUpdatedIds";
+
+  private final String id;
+  private final String tenantId;
+  private final String recordType;
+  private final int totalRecords;
+  private final AtomicInteger done = new AtomicInteger();
+  private final AtomicInteger failed = new AtomicInteger();
+  private final ConcurrentLinkedQueue<String> nonUpdatedIds = new ConcurrentLinkedQueue<>();
+  private volatile Status status = Status.IN_PROGRESS;
+
+  MoveJob(String id, String tenantId, String recordType, int totalRecords) {
+    this.id = id;
+    this.tenantId = tenantId;
+    this.recordType = recordType;
+    this.totalRecords = totalRecords;
+  }
+
+  /**
+   * Records the outcome of a chunk of the move
+   */
+  public void chunkMoved(int updatedCount, List<String> chunkNotUpdatedIds) {
+    nonUpdatedIds.addAll(chunkNotUpdatedIds);
+    failed.addAndGet(chunkNotUpdatedIds.size());
+    done.addAndGet(updatedCount);
+  }
+
+  public void completed() {
+    status = Status.COMPLETED;
+  }
+
+  public String getId() {
+    return id;
+  }
+
+  public String getTenantId() {
+    return tenantId;
+  }
+
+  public String getRecordType() {
+    return recordType;
+  }
+
+  public boolean isCompleted() {
+    return status == Status.COMPLETED;
+  }
+
+  public JsonObject toJson() {
+    // Read before the counts, so a completed job never has pending records
+    final Status currentStatus = status;
+    final int currentDone = done.get();
+    final int currentFailed = failed.get();
+
+    return new JsonObject()
+      .put(ID_KEY, id)
+      .put(STATUS_KEY, currentStatus.toString())
+      .put(TOTAL_RECORDS_KEY, totalRecords)
+      .put(DONE_KEY, currentDone)
+      .put(FAILED_KEY, currentFailed)
+      .put(PENDING_KEY, Math.max(totalRecords - currentDone - currentFailed, 0))
+      .put(NON_UPDATED_IDS_KEY, new JsonArray(new ArrayList<>(nonUpdatedIds)));
+  }
+
+  private enum Status {
+    IN_PROGRESS("In Progress"), COMPLETED("Completed");
+
+    private final String printableDescription;
+
+    Status(String printableDescription) {
+      this.printableDescription = printableDescription;
+    }
+
+    @Override
+    public String toString() {
+      return printableDescription;
+    }
+  }
+}
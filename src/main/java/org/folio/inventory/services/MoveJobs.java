@@ -0,0 +1,82 @@
+package org.folio.inventory.services;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.shareddata.Shareable;
+
+/**
+ * Moves being carried out in the background, and those that have recently
+ * completed, so their status can be requested.
+ *
+ * Only a limited number of completed jobs are kept, the oldest is forgotten
+ * first. Jobs in progress are always kept.
+ *
+ * A single set of jobs is shared by all instances of the inventory verticle.
+ */
+public class MoveJobs implements Shareable {
+  public static final String MAXIMUM_COMPLETED_JOBS_CONFIG_KEY = "move.jobs.max.completed";
+
+  private static final int DEFAULT_MAXIMUM_COMPLETED_JOBS = 100;
+
+  private final int maximumCompletedJobs;
+  private final Map<String, MoveJob> jobs = new LinkedHashMap<>();
+
+  public MoveJobs(int maximumCompletedJobs) {
+    this.maximumCompletedJobs = Math.max(maximumCompletedJobs, 0);
+  }
+
+  public static MoveJobs fromConfig(JsonObject config) {
+    return new MoveJobs(config.getInteger(MAXIMUM_COMPLETED_JOBS_CONFIG_KEY,
+      DEFAULT_MAXIMUM_COMPLETED_JOBS));
+  }
+
+  /**
+   * @param tenantId      tenant the records belong to
+   * @param recordType    type of records being moved, e.g. items
+   * @param totalRecords  number of records to move
+   */
+  public synchronized MoveJob start(String tenantId, String recordType, int totalRecords) {
+    forgetOldestCompletedJobs();
+
+    final MoveJob job = new MoveJob(UUID.randomUUID().toString(), tenantId,
+      recordType, totalRecords);
+
+    jobs.put(job.getId(), job);
+
+    return job;
+  }
+
+  /**
+   * @return the job, or null when there is no such job of this type for the tenant
+   */
+  public synchronized MoveJob find(String tenantId, String recordType, String id) {
+    final MoveJob job = jobs.get(id);
+
+    if (job == null || !job.getTenantId().equals(tenantId)
+      || !job.getRecordType().equals(recordType)) {
+
+      return null;
+    }
+
+    return job;
+  }
+
+  private void forgetOldestCompletedJobs() {
+    long completedJobs = jobs.values().stream()
+      .filter(MoveJob::isCompleted)
+      .count();
+
+    final Iterator<MoveJob> iterator = jobs.values().iterator();
+
+    while (completedJobs > maximumCompletedJobs && iterator.hasNext()) {
+      if (iterator.next().isCompleted()) {
+        iterator.remove();
+        completedJobs--;
+      }
+    }
+  }
+}
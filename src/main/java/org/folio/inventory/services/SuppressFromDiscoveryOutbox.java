@@ -0,0 +1,371 @@
+package org.folio.inventory.services;
+
+import static java.lang.String.format;
+import static org.folio.inventory.support.CompletableFutures.failedFuture;
+
+import java.lang.invoke.MethodHandles;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+import org.folio.inventory.common.WebContext;
+import org.folio.inventory.exceptions.ExternalResourceFetchException;
+import org.folio.inventory.support.http.client.OkapiHttpClient;
+import org.folio.inventory.support.metrics.Metric;
+import org.folio.inventory.support.metrics.MetricsRegistry;
+import org.folio.inventory.support.metrics.MetricsSource;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Queue of changes to the suppress from discovery flag of records in
+ * source-record-storage, sent in the background after an instance is updated.
+ *
+ * Changes for the same instance are coalesced, only the latest flag is sent.
+ * A limited number of changes are sent at the same time, and never more than
+ * one for the same instance, so they cannot arrive out of order. A change
+ * that fails is retried after a delay that doubles after each attempt,
+ * unless a newer change for the same instance has been queued in the meantime.
+ *
+ * An outbox is created for each verticle (using the verticle's HTTP client)
+ * and is only used from that verticle's event loop. Only the metrics are
+ * read from other threads.
+ */
+public class SuppressFromDiscoveryOutbox implements MetricsSource {
+  private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+  public static final String MAXIMUM_IN_FLIGHT_CONFIG_KEY
+    = "srs.suppress.outbox.max.in.flight";
+  public static final String MAXIMUM_ATTEMPTS_CONFIG_KEY
+    = "srs.suppress.outbox.max.attempts";
+  public static final String INITIAL_BACKOFF_CONFIG_KEY
+    = "srs.suppress.outbox.initial.backoff.milliseconds";
+
+  private static final int DEFAULT_MAXIMUM_IN_FLIGHT = 5;
+  private static final int DEFAULT_MAXIMUM_ATTEMPTS = 5;
+  private static final long DEFAULT_INITIAL_BACKOFF_MILLISECONDS = 1000;
+  private static final long MAXIMUM_BACKOFF_MILLISECONDS = 60000;
+
+  private final Sender sender;
+  private final BiConsumer<Long, Runnable> scheduler;
+  private final int maximumInFlight;
+  private final int maximumAttempts;
+  private final long initialBackoffMilliseconds;
+
+  private final Map<String, Change> queued = new LinkedHashMap<>();
+  private final Map<String, Change> latest = new HashMap<>();
+  private final Set<String> sending = new HashSet<>();
+  private boolean dispatching;
+
+  private final AtomicInteger queueDepth = new AtomicInteger();
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final LongAdder sent = new LongAdder();
+  private final LongAdder coalesced = new LongAdder();
+  private final LongAdder retried = new LongAdder();
+  private final LongAdder failed = new LongAdder();
+
+  /**
+   * @param sender      sends a single change, fails when it was not made
+   * @param scheduler   runs an action after a delay in milliseconds
+   */
+  public SuppressFromDiscoveryOutbox(Sender sender, BiConsumer<Long, Runnable> scheduler,
+    int maximumInFlight, int maximumAttempts, long initialBackoffMilliseconds) {
+
+    this.sender = sender;
+    this.scheduler = scheduler;
+    this.maximumInFlight = Math.max(maximumInFlight, 1);
+    this.maximumAttempts = Math.max(maximumAttempts, 1);
+    this.initialBackoffMilliseconds = initialBackoffMilliseconds;
+  }
+
+  /**
+   * Creates an outbox that sends changes to source-record-storage via Okapi,
+   * included in the metrics until it is unregistered
+   */
+  public static SuppressFromDiscoveryOutbox register(Vertx vertx, HttpClient client,
+    JsonObject config) {
+
+    final SuppressFromDiscoveryOutbox outbox = new SuppressFromDiscoveryOutbox(
+      change -> sendToSourceRecordStorage(client, change),
+      (delay, action) -> vertx.setTimer(delay, timerId -> action.run()),
+      config.getInteger(MAXIMUM_IN_FLIGHT_CONFIG_KEY, DEFAULT_MAXIMUM_IN_FLIGHT),
+      config.getInteger(MAXIMUM_ATTEMPTS_CONFIG_KEY, DEFAULT_MAXIMUM_ATTEMPTS),
+      config.getLong(INITIAL_BACKOFF_CONFIG_KEY, DEFAULT_INITIAL_BACKOFF_MILLISECONDS));
+
+    MetricsRegistry.getInstance().register(outbox);
+
+    return outbox;
+  }
+
+  public static void unregister(SuppressFromDiscoveryOutbox outbox) {
+    MetricsRegistry.getInstance().unregister(outbox);
+  }
+
+  /**
+   * Queues a change to the suppress from discovery flag of the record
+   * for an instance, replacing any queued change for the same instance
+   *
+   * @param context     context of the request that changed the instance
+   * @param instanceId  id of the instance
+   * @param suppress    whether the record should be suppressed from discovery
+   */
+  public void enqueue(WebContext context, String instanceId, boolean suppress) {
+    enqueue(new Change(context.getOkapiLocation(), context.getTenantId(),
+      context.getToken(), context.getUserId(), context.getRequestId(),
+      instanceId, suppress));
+  }
+
+  void enqueue(Change change) {
+    latest.put(change.key, change);
+
+    if (queued.put(change.key, change) != null) {
+      coalesced.increment();
+    } else {
+      queueDepth.incrementAndGet();
+    }
+
+    dispatch();
+  }
+
+  /**
+   * Changes waiting to be sent, including those waiting to be retried
+   */
+  public int getQueueDepth() {
+    return queueDepth.get();
+  }
+
+  public int getInFlight() {
+    return inFlight.get();
+  }
+
+  public long getSent() {
+    return sent.sum();
+  }
+
+  public long getCoalesced() {
+    return coalesced.sum();
+  }
+
+  public long getRetried() {
+    return retried.sum();
+  }
+
+  public long getFailed() {
+    return failed.sum();
+  }
+
+  @Override
+  public List<Metric> getMetrics() {
+    return Arrays.asList(
+      Metric.gauge("inventory_srs_suppress_outbox_queue_depth",
+        "Suppress from discovery changes waiting to be sent to source-record-storage",
+        getQueueDepth()),
+      Metric.gauge("inventory_srs_suppress_outbox_in_flight",
+        "Suppress from discovery changes awaiting a response from source-record-storage",
+        getInFlight()),
+      Metric.counter("inventory_srs_suppress_outbox_sent_total",
+        "Suppress from discovery changes made in source-record-storage", getSent()),
+      Metric.counter("inventory_srs_suppress_outbox_coalesced_total",
+        "Suppress from discovery changes replaced by a later change for the same instance",
+        getCoalesced()),
+      Metric.counter("inventory_srs_suppress_outbox_retries_total",
+        "Suppress from discovery changes that failed and will be retried", getRetried()),
+      Metric.counter("inventory_srs_suppress_outbox_failed_total",
+        "Suppress from discovery changes that failed after every attempt", getFailed()));
+  }
+
+  /**
+   * Sends queued changes until there is no more capacity. Changes that
+   * complete immediately free capacity whilst being sent, the loop that
+   * is already dispatching picks it up, rather than starting another loop
+   */
+  private void dispatch() {
+    if (dispatching) {
+      return;
+    }
+
+    dispatching = true;
+
+    try {
+      Change next;
+
+      while ((next = takeNext()) != null) {
+        send(next);
+      }
+    } finally {
+      dispatching = false;
+    }
+  }
+
+  private Change takeNext() {
+    if (sending.size() >= maximumInFlight) {
+      return null;
+    }
+
+    final Iterator<Change> changes = queued.values().iterator();
+
+    while (changes.hasNext()) {
+      final Change change = changes.next();
+
+      // Wait for the previous change for the same instance to be sent first
+      if (!sending.contains(change.key)) {
+        changes.remove();
+        queueDepth.decrementAndGet();
+        return change;
+      }
+    }
+
+    return null;
+  }
+
+  private void send(Change change) {
+    sending.add(change.key);
+    inFlight.incrementAndGet();
+    change.attempts++;
+
+    CompletableFuture<Void> changeSent;
+
+    try {
+      changeSent = sender.send(change);
+    } catch (Exception e) {
+      changeSent = failedFuture(e);
+    }
+
+    changeSent.whenComplete((result, failure) -> {
+      sending.remove(change.key);
+      inFlight.decrementAndGet();
+
+      if (failure == null) {
+        latest.remove(change.key, change);
+        sent.increment();
+
+        log.info(format("Suppress from discovery flag was successfully updated for record in SRS. InstanceID: %s",
+          change.instanceId));
+      } else if (change.attempts >= maximumAttempts) {
+        latest.remove(change.key, change);
+        failed.increment();
+
+        log.error(format("Suppress from discovery wasn't changed for SRS record after %d attempts. InstanceID: %s Cause: %s",
+          change.attempts, change.instanceId, failure.getMessage()));
+      } else if (latest.get(change.key) != change) {
+        log.info(format("Suppress from discovery change for SRS record failed, a newer change is queued. InstanceID: %s",
+          change.instanceId));
+      } else {
+        retry(change, failure);
+      }
+
+      dispatch();
+    });
+  }
+
+  private void retry(Change change, Throwable failure) {
+    final long backoff = Math.min(MAXIMUM_BACKOFF_MILLISECONDS,
+      initialBackoffMilliseconds << Math.min(change.attempts - 1, 30));
+
+    retried.increment();
+    queueDepth.incrementAndGet();
+
+    log.warn(format("Suppress from discovery wasn't changed for SRS record, retrying in %d ms. InstanceID: %s Cause: %s",
+      backoff, change.instanceId, failure.getMessage()));
+
+    scheduler.accept(backoff, () -> {
+      // A newer change for the same instance replaces the retry
+      if (latest.get(change.key) == change) {
+        queued.put(change.key, change);
+      } else {
+        queueDepth.decrementAndGet();
+      }
+
+      dispatch();
+    });
+  }
+
+  private static CompletableFuture<Void> sendToSourceRecordStorage(HttpClient client,
+    Change change) {
+
+    final CompletableFuture<Void> changeSent = new CompletableFuture<>();
+
+    try {
+      final OkapiHttpClient okapiClient = new OkapiHttpClient(client,
+        new URL(change.okapiLocation), change.tenantId, change.token, change.userId,
+        change.requestId, changeSent::completeExceptionally);
+
+      okapiClient.put(format("%s/source-storage/records/%s/suppress-from-discovery?idType=INSTANCE&suppress=%s",
+        change.okapiLocation, change.instanceId, change.suppress),
+        response -> response.bodyHandler(body -> {
+          if (response.statusCode() == 200) {
+            changeSent.complete(null);
+          } else {
+            changeSent.completeExceptionally(new ExternalResourceFetchException(
+              body.toString(), response.statusCode(),
+              response.getHeader("Content-Type")));
+          }
+        }));
+    } catch (MalformedURLException e) {
+      changeSent.completeExceptionally(e);
+    }
+
+    return changeSent;
+  }
+
+  @FunctionalInterface
+  public interface Sender {
+    CompletableFuture<Void> send(Change change);
+  }
+
+  /**
+   * A change to the suppress from discovery flag for a single instance,
+   * keeps the details needed to call Okapi after the request has completed
+   */
+  public static final class Change {
+    private final String key;
+    private final String okapiLocation;
+    private final String tenantId;
+    private final String token;
+    private final String userId;
+    private final String requestId;
+    private final String instanceId;
+    private final boolean suppress;
+    private int attempts;
+
+    Change(String okapiLocation, String tenantId, String token, String userId,
+      String requestId, String instanceId, boolean suppress) {
+
+      this.okapiLocation = okapiLocation;
+      this.tenantId = tenantId;
+      this.token = token;
+      this.userId = userId;
+      this.requestId = requestId;
+      this.instanceId = instanceId;
+      this.suppress = suppress;
+      this.key = tenantId + "/" + instanceId;
+    }
+
+    public String getInstanceId() {
+      return instanceId;
+    }
+
+    public boolean isSuppress() {
+      return suppress;
+    }
+
+    public int getAttempts() {
+      return attempts;
+    }
+  }
+}
@@ -21,6 +21,22 @@ public final class CqlQuery {
     return new CqlQuery(format("%s and %s", toString(), other));
   }
 
+  public CqlQuery sortBy(String indexName) {
+    return new CqlQuery(format("%s sortBy %s", toString(), indexName));
+  }
+
+  /**
+   * Query provided by a client, in parentheses so it can be combined
+   * with other clauses
+   */
+  public static CqlQuery group(String query) {
+    return new CqlQuery(format("(%s)", query));
+  }
+
+  public static CqlQuery allRecords() {
+    return new CqlQuery("cql.allRecords=1");
+  }
+
   public static CqlQuery exactMatchAny(String indexName, Collection<String> values) {
     final String valuesQuery = values.stream()
       .filter(Objects::nonNull)
@@ -42,6 +58,10 @@ public final class CqlQuery {
     return new CqlQuery(format("%s<>\"%s\"", indexName, value));
   }
 
+  public static CqlQuery greaterThan(String indexName, String value) {
+    return new CqlQuery(format("%s>\"%s\"", indexName, value));
+  }
+
   @Override
   public String toString() {
     return query;
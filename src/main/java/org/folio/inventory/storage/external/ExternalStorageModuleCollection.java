@@ -7,15 +7,20 @@ import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpClientResponse;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
-import io.vertx.core.json.Json;
 import io.vertx.core.json.JsonObject;
 import org.apache.commons.lang3.StringUtils;
+import org.folio.inventory.common.api.request.PagingCursor;
 import org.folio.inventory.common.api.request.PagingParameters;
 import org.folio.inventory.common.domain.Failure;
 import org.folio.inventory.common.domain.MultipleRecords;
 import org.folio.inventory.common.domain.Success;
 import org.folio.inventory.support.JsonArrayHelper;
 import org.folio.inventory.support.http.ContentType;
+import org.folio.inventory.support.http.JsonEncoder;
+import org.folio.inventory.support.http.client.ConnectionPoolMetrics;
+import org.folio.inventory.support.http.client.ConnectionPoolMetrics.PooledRequest;
+import org.folio.inventory.support.metrics.MetricsRegistry;
+import org.folio.inventory.support.metrics.RequestTimer;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
@@ -57,16 +62,15 @@ abstract class ExternalStorageModuleCollection<T> {
 
     Handler<HttpClientResponse> onResponse = response ->
       response.bodyHandler(buffer -> {
-        String responseBody = buffer.getString(0, buffer.length());
         int statusCode = response.statusCode();
 
         if(statusCode == 201) {
-          T created = mapFromJson(new JsonObject(responseBody));
+          T created = mapFromJson(buffer.toJsonObject());
 
           resultCallback.accept(new Success<>(created));
         }
         else {
-          failureCallback.accept(new Failure(responseBody, statusCode));
+          failureCallback.accept(new Failure(buffer.toString(), statusCode));
         }
     });
 
@@ -78,7 +82,7 @@ abstract class ExternalStorageModuleCollection<T> {
     jsonContentType(request);
     acceptJson(request);
 
-    request.end(Json.encodePrettily(toSend));
+    request.end(JsonEncoder.encode(toSend));
   }
 
   public void findById(String id,
@@ -87,12 +91,11 @@ abstract class ExternalStorageModuleCollection<T> {
 
     Handler<HttpClientResponse> onResponse =
       response -> response.bodyHandler(buffer -> {
-        String responseBody = buffer.getString(0, buffer.length());
         int statusCode = response.statusCode();
 
         switch (statusCode) {
           case 200:
-            JsonObject instanceFromServer = new JsonObject(responseBody);
+            JsonObject instanceFromServer = buffer.toJsonObject();
 
             T found = mapFromJson(instanceFromServer);
 
@@ -104,7 +107,7 @@ abstract class ExternalStorageModuleCollection<T> {
             break;
 
           default:
-            failureCallback.accept(new Failure(responseBody, statusCode));
+            failureCallback.accept(new Failure(buffer.toString(), statusCode));
         }
     });
 
@@ -120,6 +123,15 @@ abstract class ExternalStorageModuleCollection<T> {
     Consumer<Success<MultipleRecords<T>>> resultCallback,
     Consumer<Failure> failureCallback) {
 
+    if (pagingParameters.cursor != null) {
+      try {
+        findByCql(null, pagingParameters, resultCallback, failureCallback);
+      } catch (UnsupportedEncodingException e) {
+        failureCallback.accept(new Failure(e.getMessage(), null));
+      }
+      return;
+    }
+
     String location = String.format(storageAddress
         + "?limit=%s&offset=%s",
       pagingParameters.limit, pagingParameters.offset);
@@ -150,12 +162,23 @@ abstract class ExternalStorageModuleCollection<T> {
     Consumer<Success<MultipleRecords<T>>> resultCallback,
     Consumer<Failure> failureCallback) throws UnsupportedEncodingException {
 
-    String encodedQuery = URLEncoder.encode(cqlQuery, "UTF-8");
+    final String location;
+
+    if (pagingParameters.cursor != null) {
+      String encodedQuery = URLEncoder.encode(
+        afterCursor(cqlQuery, pagingParameters.cursor).toString(), "UTF-8");
+
+      location = String.format("%s?query=%s&limit=%s", storageAddress,
+        encodedQuery, pagingParameters.limit);
+    }
+    else {
+      String encodedQuery = URLEncoder.encode(cqlQuery, "UTF-8");
 
-    String location =
-      String.format("%s?query=%s", storageAddress, encodedQuery) +
-        String.format("&limit=%s&offset=%s", pagingParameters.limit,
-          pagingParameters.offset);
+      location =
+        String.format("%s?query=%s", storageAddress, encodedQuery) +
+          String.format("&limit=%s&offset=%s", pagingParameters.limit,
+            pagingParameters.offset);
+    }
 
     HttpClientRequest request = createRequest(HttpMethod.GET, location,
       handleMultipleResults(resultCallback, failureCallback), failureCallback);
@@ -181,7 +204,7 @@ abstract class ExternalStorageModuleCollection<T> {
     jsonContentType(request);
     acceptPlainText(request);
 
-    request.end(Json.encodePrettily(toSend));
+    request.end(JsonEncoder.encode(toSend));
   }
 
   public void delete(String id,
@@ -233,27 +256,19 @@ abstract class ExternalStorageModuleCollection<T> {
       .putHeader("X-Okapi-Token", token);
   }
 
-  private void registerExceptionHandler(
-    HttpClientRequest request,
-    Consumer<Failure> failureCallback) {
-
-    request.exceptionHandler(exceptionHandler(failureCallback));
-  }
-
   private Handler<HttpClientResponse> noContentResponseHandler(
     Consumer<Success<Void>> completionCallback,
     Consumer<Failure> failureCallback) {
 
     return response ->
       response.bodyHandler(buffer -> {
-        String responseBody = buffer.getString(0, buffer.length());
         int statusCode = response.statusCode();
 
         if(statusCode == 204) {
           completionCallback.accept(new Success<>(null));
         }
         else {
-          failureCallback.accept(new Failure(responseBody, statusCode));
+          failureCallback.accept(new Failure(buffer.toString(), statusCode));
         }
       });
   }
@@ -264,15 +279,40 @@ abstract class ExternalStorageModuleCollection<T> {
     Handler<HttpClientResponse> onResponse,
     Consumer<Failure> failureCallback) {
 
-    HttpClientRequest request = client
-      .requestAbs(method, location, onResponse);
+    PooledRequest pooledRequest = ConnectionPoolMetrics.forClient(client)
+      .requestStarted();
+
+    RequestTimer timer = MetricsRegistry.getInstance()
+      .outboundRequestStarted(method, location);
+
+    HttpClientRequest request = client.requestAbs(method, location,
+      pooledRequest.completeBefore(timer.whenResponded(onResponse)));
+
+    request.exceptionHandler(pooledRequest.completeBefore(
+      timer.whenFailed(exceptionHandler(failureCallback))));
 
-    registerExceptionHandler(request, failureCallback);
     addOkapiHeaders(request);
 
     return request;
   }
 
+  /**
+   * Records matching the query (or all records) that come after the cursor
+   * when sorted by id, so storage can use the id index rather than skipping
+   * over an offset
+   */
+  private static CqlQuery afterCursor(String cqlQuery, PagingCursor cursor) {
+    CqlQuery query = cqlQuery != null ? CqlQuery.group(cqlQuery) : null;
+
+    if (!cursor.isFirstPage()) {
+      CqlQuery afterLastId = CqlQuery.greaterThan("id", cursor.getLastId());
+
+      query = query != null ? query.and(afterLastId) : afterLastId;
+    }
+
+    return (query != null ? query : CqlQuery.allRecords()).sortBy("id");
+  }
+
   private String individualRecordLocation(String id) {
     return String.format("%s/%s", storageAddress, id);
   }
@@ -283,11 +323,10 @@ abstract class ExternalStorageModuleCollection<T> {
 
     return response ->
       response.bodyHandler(buffer -> {
-        String responseBody = buffer.getString(0, buffer.length());
         int statusCode = response.statusCode();
 
         if(statusCode == 200) {
-          JsonObject wrappedRecords = new JsonObject(responseBody);
+          JsonObject wrappedRecords = buffer.toJsonObject();
 
           List<JsonObject> records = JsonArrayHelper.toList(
             wrappedRecords.getJsonArray(collectionWrapperPropertyName));
@@ -302,7 +341,7 @@ abstract class ExternalStorageModuleCollection<T> {
           resultCallback.accept(new Success<>(result));
         }
         else {
-          failureCallback.accept(new Failure(responseBody, statusCode));
+          failureCallback.accept(new Failure(buffer.toString(), statusCode));
         }
       });
   }
@@ -6,7 +6,6 @@ import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpClientResponse;
 import io.vertx.core.http.HttpMethod;
-import io.vertx.core.json.Json;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import org.folio.inventory.common.domain.Failure;
@@ -22,6 +21,7 @@ import org.folio.inventory.domain.instances.InstanceCollection;
 import org.folio.inventory.domain.instances.Note;
 import org.folio.inventory.domain.instances.Publication;
 import org.folio.inventory.domain.sharedproperties.ElectronicAccess;
+import org.folio.inventory.support.http.JsonEncoder;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -206,10 +206,9 @@ class ExternalStorageModuleInstanceCollection
 
     Handler<HttpClientResponse> onResponse = response ->
       response.bodyHandler(buffer -> {
-        String responseBody = buffer.getString(0, buffer.length());
 
         if (isBatchResponse(response)) {
-          JsonObject batchResponse = new JsonObject(responseBody);
+          JsonObject batchResponse = buffer.toJsonObject();
           JsonArray createdInstances = batchResponse.getJsonArray("instances");
 
           List<Instance> instancesList  = new ArrayList<>();
@@ -223,7 +222,7 @@ class ExternalStorageModuleInstanceCollection
           resultCallback.accept(new Success<>(batchResult));
         }
         else {
-          failureCallback.accept(new Failure(responseBody, response.statusCode()));
+          failureCallback.accept(new Failure(buffer.toString(), response.statusCode()));
         }
       });
 
@@ -238,7 +237,7 @@ class ExternalStorageModuleInstanceCollection
     HttpClientRequest request = createRequest(HttpMethod.POST, batchAddress, onResponse, failureCallback);
     jsonContentType(request);
     acceptJson(request);
-    request.end(Json.encodePrettily(batchRequest));
+    request.end(JsonEncoder.encode(batchRequest));
   }
 
   private boolean isBatchResponse(HttpClientResponse response) {
@@ -1,56 +1,148 @@
 package org.folio.inventory.storage.external;
 
-import static org.apache.commons.collections4.ListUtils.partition;
 import static org.folio.inventory.support.JsonArrayHelper.toList;
 import static org.folio.util.StringUtil.urlEncode;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.folio.inventory.exceptions.ExternalResourceFetchException;
+import org.folio.inventory.support.AsyncWorkLimiter;
+import org.folio.inventory.support.AsyncWorkLimiter.Operation;
 import org.folio.inventory.support.CompletableFutures;
 import org.folio.inventory.support.http.client.Response;
 
 import io.vertx.core.json.JsonObject;
 
+/**
+ * Fetches the records matching many elements (usually ids), by splitting
+ * them into partitions and making a request for each partition.
+ *
+ * Each partition includes as many elements as fit in the maximum (URL
+ * encoded) query length, up to the maximum partition size, so short
+ * queries need fewer requests and long queries do not exceed the URL
+ * length storage accepts. Only a limited number of requests are in
+ * progress for each call.
+ */
 public class MultipleRecordsFetchClient {
-  private static final int DEFAULT_PARTITION_SIZE = 30;
+  private static final int DEFAULT_MAXIMUM_PARTITION_SIZE = 100;
+  private static final int DEFAULT_MAXIMUM_QUERY_LENGTH = 3000;
+  private static final int DEFAULT_MAXIMUM_IN_FLIGHT = 5;
 
   private final CollectionResourceClient resourceClient;
-  private final int partitionSize;
+  private final int maximumPartitionSize;
+  private final int maximumQueryLength;
+  private final int maximumInFlight;
   private final String collectionPropertyName;
   private final int expectedStatus;
 
   private MultipleRecordsFetchClient(Builder builder) {
     this.resourceClient = builder.collectionResourceClient;
-    this.partitionSize = builder.partitionSize;
+    this.maximumPartitionSize = builder.maximumPartitionSize;
+    this.maximumQueryLength = builder.maximumQueryLength;
+    this.maximumInFlight = builder.maximumInFlight;
     this.collectionPropertyName = builder.collectionPropertyName;
     this.expectedStatus = builder.expectedStatus;
   }
 
+  /**
+   * @return records matched by all of the partitions, in the order of the partitions
+   */
   public <T> CompletableFuture<List<JsonObject>> find(
     List<T> elements, Function<List<T>, CqlQuery> toQueryConverter) {
 
-    final List<CompletableFuture<Response>> allFutures = partition(elements, partitionSize).stream()
-      .map(toQueryConverter)
-      .map(this::getAllMatched)
+    return fetchPartitions(elements, toQueryConverter, Function.identity())
+      .thenApply(partitions -> partitions.stream()
+        .flatMap(List::stream)
+        .collect(Collectors.toList()));
+  }
+
+  /**
+   * Passes the records matched by each partition to the consumer as soon as
+   * they are fetched (in the order they arrive), rather than once all of the
+   * partitions have been fetched, so they do not need to be held together
+   *
+   * @return completes once all of the partitions have been consumed
+   */
+  public <T> CompletableFuture<Void> find(List<T> elements,
+    Function<List<T>, CqlQuery> toQueryConverter,
+    Consumer<List<JsonObject>> partitionFetched) {
+
+    return fetchPartitions(elements, toQueryConverter,
+      records -> {
+        partitionFetched.accept(records);
+        return null;
+      })
+      .thenApply(notUsed -> null);
+  }
+
+  private <T, R> CompletableFuture<List<R>> fetchPartitions(List<T> elements,
+    Function<List<T>, CqlQuery> toQueryConverter, Function<List<JsonObject>, R> onFetched) {
+
+    final List<String> queries = partition(elements, toQueryConverter);
+
+    final List<Operation<R>> operations = IntStream.range(0, queries.size())
+      .mapToObj(index -> new Operation<>(
+        String.format("fetch partition %d of %d of %s", index + 1, queries.size(),
+          collectionPropertyName),
+        () -> getAllMatched(queries.get(index))
+          .thenApply(response -> onFetched.apply(toList(
+            response.getJson().getJsonArray(collectionPropertyName))))))
       .collect(Collectors.toList());
 
-    return CompletableFuture.allOf(allFutures.toArray(new CompletableFuture[0]))
-      .thenApply(notUsed -> allFutures.stream()
-        .map(CompletableFuture::join)
-        .map(Response::getJson)
-        .flatMap(json -> toList(json.getJsonArray(collectionPropertyName)).stream())
-        .collect(Collectors.toList()));
+    return new AsyncWorkLimiter(maximumInFlight, maximumInFlight).runAll(operations);
+  }
+
+  /**
+   * Splits the elements into partitions, each as large as possible without
+   * the encoded query being longer than the maximum, a single element that
+   * is too long is still fetched on its own
+   *
+   * @return encoded query for each partition
+   */
+  <T> List<String> partition(List<T> elements,
+    Function<List<T>, CqlQuery> toQueryConverter) {
+
+    final List<String> queries = new ArrayList<>();
+
+    int start = 0;
+
+    while (start < elements.size()) {
+      int size = Math.min(maximumPartitionSize, elements.size() - start);
+
+      String query = encodedQuery(elements.subList(start, start + size), toQueryConverter);
+
+      // Shrink in proportion to how much too long the query is, as each
+      // element usually adds a similar length
+      while (query.length() > maximumQueryLength && size > 1) {
+        size = Math.min(size - 1,
+          Math.max((int) ((long) size * maximumQueryLength / query.length()), 1));
+
+        query = encodedQuery(elements.subList(start, start + size), toQueryConverter);
+      }
+
+      queries.add(query);
+      start += size;
+    }
+
+    return queries;
   }
 
-  private CompletableFuture<Response> getAllMatched(CqlQuery query) {
+  private <T> String encodedQuery(List<T> elements,
+    Function<List<T>, CqlQuery> toQueryConverter) {
+
+    return urlEncode(toQueryConverter.apply(elements).toString());
+  }
+
+  private CompletableFuture<Response> getAllMatched(String encodedQuery) {
     final CompletableFuture<Response> future = new CompletableFuture<>();
 
-    resourceClient.getMany(urlEncode(query.toString()), Integer.MAX_VALUE, 0,
-      future::complete);
+    resourceClient.getMany(encodedQuery, Integer.MAX_VALUE, 0, future::complete);
 
     return future.thenCompose(response -> {
       if (response.getStatusCode() != expectedStatus) {
@@ -69,7 +161,9 @@ public class MultipleRecordsFetchClient {
     private CollectionResourceClient collectionResourceClient;
     private int expectedStatus = 200;
     private String collectionPropertyName;
-    private int partitionSize = DEFAULT_PARTITION_SIZE;
+    private int maximumPartitionSize = DEFAULT_MAXIMUM_PARTITION_SIZE;
+    private int maximumQueryLength = DEFAULT_MAXIMUM_QUERY_LENGTH;
+    private int maximumInFlight = DEFAULT_MAXIMUM_IN_FLIGHT;
 
     public Builder withCollectionResourceClient(CollectionResourceClient client) {
       this.collectionResourceClient = client;
@@ -86,6 +180,31 @@ public class MultipleRecordsFetchClient {
       return this;
     }
 
+    /**
+     * @param maximumPartitionSize  most elements to include in a single request
+     */
+    public Builder withMaximumPartitionSize(int maximumPartitionSize) {
+      this.maximumPartitionSize = Math.max(maximumPartitionSize, 1);
+      return this;
+    }
+
+    /**
+     * @param maximumQueryLength  longest URL encoded query to include in a
+     *                            single request (the rest of the URL is not included)
+     */
+    public Builder withMaximumQueryLength(int maximumQueryLength) {
+      this.maximumQueryLength = Math.max(maximumQueryLength, 1);
+      return this;
+    }
+
+    /**
+     * @param maximumInFlight  most requests in progress at the same time for each find
+     */
+    public Builder withMaximumInFlight(int maximumInFlight) {
+      this.maximumInFlight = Math.max(maximumInFlight, 1);
+      return this;
+    }
+
     public MultipleRecordsFetchClient build() {
       if (collectionResourceClient == null || collectionPropertyName == null) {
         throw new IllegalStateException("Resource client and collection property name are required");
@@ -0,0 +1,230 @@
+package org.folio.inventory.storage.external;
+
+import static org.folio.inventory.support.CompletableFutures.failedFuture;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+import io.vertx.core.shareddata.Shareable;
+
+/**
+ * Tenant scoped cache for small, rarely changing reference records
+ * (material types, loan types, locations) used when enriching item representations.
+ *
+ * Each tenant gets its own size bounded cache, entries expire a fixed time after
+ * being fetched. Only records that were found are kept, so a missing record is
+ * looked up again on the next request.
+ *
+ * A single cache is shared by all instances of the inventory verticle.
+ */
+public class ReferenceDataCache implements Shareable {
+  private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+  public static final String MAXIMUM_SIZE_CONFIG_KEY = "reference.data.cache.size";
+  public static final String TIME_TO_LIVE_CONFIG_KEY = "reference.data.cache.ttl.seconds";
+
+  private static final long DEFAULT_MAXIMUM_SIZE = 1000;
+  private static final long DEFAULT_TIME_TO_LIVE_SECONDS = 60;
+
+  private final long maximumSize;
+  private final long timeToLiveSeconds;
+  private final Ticker ticker;
+  private final Map<String, Cache<String, CompletableFuture<JsonObject>>> cachesByTenant
+    = new ConcurrentHashMap<>();
+
+  public ReferenceDataCache(long maximumSize, long timeToLiveSeconds) {
+    this(maximumSize, timeToLiveSeconds, Ticker.systemTicker());
+  }
+
+  ReferenceDataCache(long maximumSize, long timeToLiveSeconds, Ticker ticker) {
+    this.maximumSize = maximumSize;
+    this.timeToLiveSeconds = timeToLiveSeconds;
+    this.ticker = ticker;
+  }
+
+  public static ReferenceDataCache fromConfig(JsonObject config) {
+    return new ReferenceDataCache(
+      config.getLong(MAXIMUM_SIZE_CONFIG_KEY, DEFAULT_MAXIMUM_SIZE),
+      config.getLong(TIME_TO_LIVE_CONFIG_KEY, DEFAULT_TIME_TO_LIVE_SECONDS));
+  }
+
+  /**
+   * Gets a reference record, only using the fetcher when the record is not cached.
+   * Concurrent requests for the same record share a single fetch.
+   *
+   * @param tenantId   tenant the record belongs to
+   * @param recordType type of reference record, e.g. the storage path
+   * @param id         id of the record
+   * @param fetcher    fetches the record from storage, completes with null when not found
+   * @return the record, or null when it could not be found
+   */
+  public CompletableFuture<JsonObject> get(
+    String tenantId,
+    String recordType,
+    String id,
+    Function<String, CompletableFuture<JsonObject>> fetcher) {
+
+    final Cache<String, CompletableFuture<JsonObject>> cache = cacheFor(tenantId);
+    final String key = key(recordType, id);
+
+    final CompletableFuture<JsonObject> cached;
+
+    try {
+      cached = cache.get(key, () -> fetcher.apply(id));
+    } catch (ExecutionException | RuntimeException e) {
+      log.warn(String.format("Unable to get %s reference record %s", recordType, id), e);
+
+      return failedFuture(e);
+    }
+
+    return removeWhenNotFound(cache, key, cached);
+  }
+
+  /**
+   * Gets many reference records of the same type. Records which are not cached
+   * are fetched together using a single call to the batch fetcher.
+   *
+   * @param tenantId     tenant the records belong to
+   * @param recordType   type of reference record, e.g. the storage path
+   * @param ids          ids of the records
+   * @param batchFetcher fetches the found records for the given ids from storage
+   * @return found records by id, ids which could not be found are not included
+   */
+  public CompletableFuture<Map<String, JsonObject>> getAll(
+    String tenantId,
+    String recordType,
+    Collection<String> ids,
+    Function<List<String>, CompletableFuture<List<JsonObject>>> batchFetcher) {
+
+    final Cache<String, CompletableFuture<JsonObject>> cache = cacheFor(tenantId);
+
+    final Map<String, CompletableFuture<JsonObject>> records = new HashMap<>();
+    final List<String> notCachedIds = new ArrayList<>();
+
+    ids.stream()
+      .filter(Objects::nonNull)
+      .distinct()
+      .forEach(id -> {
+        final CompletableFuture<JsonObject> cached = cache.getIfPresent(key(recordType, id));
+
+        if (cached != null) {
+          records.put(id, cached);
+        } else {
+          notCachedIds.add(id);
+        }
+      });
+
+    if (!notCachedIds.isEmpty()) {
+      final CompletableFuture<Map<String, JsonObject>> fetched = fetchAll(
+        recordType, notCachedIds, batchFetcher);
+
+      notCachedIds.forEach(id -> {
+        final String key = key(recordType, id);
+        final CompletableFuture<JsonObject> record = fetched.thenApply(found -> found.get(id));
+
+        cache.put(key, record);
+        records.put(id, removeWhenNotFound(cache, key, record));
+      });
+    }
+
+    return CompletableFuture.allOf(records.values().toArray(new CompletableFuture[0]))
+      .thenApply(notUsed -> records.values().stream()
+        .map(CompletableFuture::join)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toMap(record -> record.getString("id"), record -> record,
+          (first, second) -> first)));
+  }
+
+  public void invalidateAll(String tenantId) {
+    final Cache<String, CompletableFuture<JsonObject>> cache = cachesByTenant.get(tenantId);
+
+    if (cache != null) {
+      cache.invalidateAll();
+    }
+  }
+
+  public long hitCount() {
+    return stats().hitCount();
+  }
+
+  public long missCount() {
+    return stats().missCount();
+  }
+
+  public long evictionCount() {
+    return stats().evictionCount();
+  }
+
+  public long size() {
+    return cachesByTenant.values().stream()
+      .mapToLong(Cache::size)
+      .sum();
+  }
+
+  private CompletableFuture<Map<String, JsonObject>> fetchAll(
+    String recordType,
+    List<String> ids,
+    Function<List<String>, CompletableFuture<List<JsonObject>>> batchFetcher) {
+
+    try {
+      return batchFetcher.apply(ids)
+        .thenApply(found -> found.stream()
+          .collect(Collectors.toMap(record -> record.getString("id"), record -> record,
+            (first, second) -> first)));
+    } catch (RuntimeException e) {
+      log.warn(String.format("Unable to get %s reference records %s", recordType, ids), e);
+
+      return failedFuture(e);
+    }
+  }
+
+  private static CompletableFuture<JsonObject> removeWhenNotFound(
+    Cache<String, CompletableFuture<JsonObject>> cache,
+    String key,
+    CompletableFuture<JsonObject> cached) {
+
+    return cached.whenComplete((record, error) -> {
+      if (record == null) {
+        cache.asMap().remove(key, cached);
+      }
+    });
+  }
+
+  private CacheStats stats() {
+    return cachesByTenant.values().stream()
+      .map(Cache::stats)
+      .reduce(new CacheStats(0, 0, 0, 0, 0, 0), CacheStats::plus);
+  }
+
+  private Cache<String, CompletableFuture<JsonObject>> cacheFor(String tenantId) {
+    return cachesByTenant.computeIfAbsent(tenantId, notUsed -> CacheBuilder.newBuilder()
+      .maximumSize(maximumSize)
+      .expireAfterWrite(timeToLiveSeconds, TimeUnit.SECONDS)
+      .ticker(ticker)
+      .recordStats()
+      .build());
+  }
+
+  private static String key(String recordType, String id) {
+    return recordType + "/" + id;
+  }
+}
@@ -8,11 +8,16 @@ import org.folio.inventory.domain.ingest.IngestJobCollection;
 import org.folio.inventory.resources.ingest.IngestJob;
 
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+/**
+ * Ingest jobs held in memory, shared by all instances of the inventory verticle
+ * so must be safe to use from multiple event loops
+ */
 public class InMemoryIngestJobCollection implements IngestJobCollection {
-  private final List<IngestJob> items = new ArrayList<>();
+  private final List<IngestJob> items = new CopyOnWriteArrayList<>();
 
   @Override
   public void empty(
@@ -61,9 +66,11 @@ public class InMemoryIngestJobCollection implements IngestJobCollection {
     Consumer<Success<MultipleRecords<IngestJob>>> resultCallback,
     Consumer<Failure> failureCallback) {
 
-    int totalRecords = items.size();
+    List<IngestJob> allJobs = new ArrayList<>(items);
 
-    List<IngestJob> paged = items.stream()
+    int totalRecords = allJobs.size();
+
+    List<IngestJob> paged = allJobs.stream()
       .skip(pagingParameters.offset)
       .limit(pagingParameters.limit)
       .collect(Collectors.toList());
@@ -77,8 +84,10 @@ public class InMemoryIngestJobCollection implements IngestJobCollection {
     Consumer<Success<Void>> completionCallback,
     Consumer<Failure> failureCallback) {
 
-    items.removeIf(it -> it.id.equals(ingestJob.id));
-    items.add(ingestJob);
+    synchronized (items) {
+      items.removeIf(it -> it.id.equals(ingestJob.id));
+      items.add(ingestJob);
+    }
 
     completionCallback.accept(new Success<>(null));
   }
@@ -0,0 +1,238 @@
+package org.folio.inventory.support;
+
+import static java.lang.String.format;
+import static org.folio.inventory.support.CompletableFutures.failedFuture;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Limits how many asynchronous operations (e.g. requests to storage) are in
+ * progress at the same time, rather than starting all of them at once.
+ *
+ * Each call to {@link #runAll(List)} (usually made for a single request) can
+ * only have a limited number of operations in progress, and all of the calls
+ * share an overall limit. When there is capacity, the next operation is taken
+ * from each waiting call in turn, so a call with many operations does not
+ * hold up the others.
+ *
+ * A limiter is created for each verticle (as the storage connection pool is),
+ * and is only used from that verticle's event loop, so the state is not
+ * shared between threads.
+ */
+public class AsyncWorkLimiter {
+  private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+  public static final String MAXIMUM_IN_FLIGHT_CONFIG_KEY
+    = "related.records.max.in.flight";
+  public static final String MAXIMUM_IN_FLIGHT_PER_REQUEST_CONFIG_KEY
+    = "related.records.max.in.flight.per.request";
+
+  private static final int DEFAULT_MAXIMUM_IN_FLIGHT = 20;
+  private static final int DEFAULT_MAXIMUM_IN_FLIGHT_PER_REQUEST = 5;
+
+  private final int maximumInFlight;
+  private final int maximumInFlightPerRequest;
+  private final Deque<Work<?>> waiting = new ArrayDeque<>();
+  private int inFlight;
+  private boolean dispatching;
+
+  public AsyncWorkLimiter(int maximumInFlight, int maximumInFlightPerRequest) {
+    this.maximumInFlight = Math.max(maximumInFlight, 1);
+    this.maximumInFlightPerRequest = Math.max(maximumInFlightPerRequest, 1);
+  }
+
+  public static AsyncWorkLimiter fromConfig(JsonObject config) {
+    return new AsyncWorkLimiter(
+      config.getInteger(MAXIMUM_IN_FLIGHT_CONFIG_KEY, DEFAULT_MAXIMUM_IN_FLIGHT),
+      config.getInteger(MAXIMUM_IN_FLIGHT_PER_REQUEST_CONFIG_KEY,
+        DEFAULT_MAXIMUM_IN_FLIGHT_PER_REQUEST));
+  }
+
+  /**
+   * Starts each operation once there is capacity for it.
+   *
+   * Every operation is attempted, even when some fail. Each failure is logged
+   * with the description of the operation that failed.
+   *
+   * @param operations  operations to start, in order
+   * @return results of the operations in the same order as the operations,
+   * or the first failure (with any others as suppressed exceptions)
+   */
+  public <T> CompletableFuture<List<T>> runAll(List<Operation<T>> operations) {
+    if (operations.isEmpty()) {
+      return CompletableFuture.completedFuture(Collections.emptyList());
+    }
+
+    final Work<T> work = new Work<>(operations);
+
+    // Has not had a turn yet, so goes ahead of those that have
+    waiting.addFirst(work);
+    dispatch();
+
+    return work.completed;
+  }
+
+  int inFlight() {
+    return inFlight;
+  }
+
+  /**
+   * Starts waiting operations until there is no more capacity.
+   *
+   * Operations that complete immediately finish whilst being started, the
+   * loop that is already dispatching picks up the capacity they free,
+   * rather than starting another loop for each operation.
+   */
+  private void dispatch() {
+    if (dispatching) {
+      return;
+    }
+
+    dispatching = true;
+
+    try {
+      Runnable next;
+
+      while ((next = takeNext()) != null) {
+        next.run();
+      }
+    } finally {
+      dispatching = false;
+    }
+  }
+
+  private Runnable takeNext() {
+    if (inFlight >= maximumInFlight) {
+      return null;
+    }
+
+    for (int checked = 0, waitingCount = waiting.size(); checked < waitingCount; checked++) {
+      final Work<?> work = waiting.pollFirst();
+
+      if (work.inFlight < maximumInFlightPerRequest) {
+        final Runnable next = work.takeNext();
+
+        if (work.hasUnstartedOperations()) {
+          waiting.addLast(work);
+        }
+
+        return next;
+      }
+
+      waiting.addLast(work);
+    }
+
+    return null;
+  }
+
+  public static final class Operation<T> {
+    private final String description;
+    private final Supplier<CompletableFuture<T>> start;
+
+    /**
+     * @param description  describes the operation when it fails, e.g. "delete instance 1234"
+     * @param start        starts the operation, only invoked when there is capacity
+     */
+    public Operation(String description, Supplier<CompletableFuture<T>> start) {
+      this.description = description;
+      this.start = start;
+    }
+
+    public String getDescription() {
+      return description;
+    }
+  }
+
+  private class Work<T> {
+    private final List<Operation<T>> operations;
+    private final List<T> results;
+    private final List<Throwable> failures = new ArrayList<>();
+    private final CompletableFuture<List<T>> completed = new CompletableFuture<>();
+    private int nextOperation;
+    private int inFlight;
+    private int remaining;
+
+    private Work(List<Operation<T>> operations) {
+      this.operations = operations;
+      this.results = new ArrayList<>(Collections.nCopies(operations.size(), null));
+      this.remaining = operations.size();
+    }
+
+    private boolean hasUnstartedOperations() {
+      return nextOperation < operations.size();
+    }
+
+    private Runnable takeNext() {
+      final int index = nextOperation++;
+
+      inFlight++;
+      AsyncWorkLimiter.this.inFlight++;
+
+      return () -> start(index);
+    }
+
+    private void start(int index) {
+      CompletableFuture<T> operation;
+
+      try {
+        operation = operations.get(index).start.get();
+      } catch (Exception e) {
+        operation = failedFuture(e);
+      }
+
+      operation.whenComplete((result, failure) -> finished(index, result, failure));
+    }
+
+    private void finished(int index, T result, Throwable failure) {
+      inFlight--;
+      AsyncWorkLimiter.this.inFlight--;
+      remaining--;
+
+      if (failure != null) {
+        final Throwable cause = failure instanceof CompletionException
+          && failure.getCause() != null ? failure.getCause() : failure;
+
+        log.warn(format("Failed to %s: %s",
+          operations.get(index).getDescription(), cause.getMessage()));
+
+        failures.add(cause);
+      } else {
+        results.set(index, result);
+      }
+
+      if (remaining == 0) {
+        complete();
+      }
+
+      dispatch();
+    }
+
+    private void complete() {
+      if (failures.isEmpty()) {
+        completed.complete(results);
+        return;
+      }
+
+      final Throwable firstFailure = failures.get(0);
+
+      failures.stream()
+        .skip(1)
+        .filter(failure -> failure != firstFailure)
+        .forEach(firstFailure::addSuppressed);
+
+      completed.completeExceptionally(firstFailure);
+    }
+  }
+}
@@ -1,6 +1,6 @@
 package org.folio.inventory.support;
 
-import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 import org.folio.inventory.domain.items.Item;
@@ -12,18 +12,20 @@ public class HoldingsSupport {
 
   public static Optional<JsonObject> holdingForItem(
     Item item,
-    Collection<JsonObject> holdings) {
+    Map<String, JsonObject> holdingsById) {
 
     String holdingsRecordId = item.getHoldingId();
 
-    return holdings.stream()
-      .filter(holding -> holding.getString("id").equals(holdingsRecordId))
-      .findFirst();
+    if(holdingsRecordId == null) {
+      return Optional.empty();
+    }
+
+    return Optional.ofNullable(holdingsById.get(holdingsRecordId));
   }
 
   public static Optional<JsonObject> instanceForHolding(
     JsonObject holding,
-    Collection<JsonObject> instances) {
+    Map<String, JsonObject> instancesById) {
 
     if(holding == null || !holding.containsKey("instanceId")) {
       return Optional.empty();
@@ -31,8 +33,6 @@ public class HoldingsSupport {
 
     String instanceId = holding.getString("instanceId");
 
-    return instances.stream()
-      .filter(instance -> instance.getString("id").equals(instanceId))
-      .findFirst();
+    return Optional.ofNullable(instancesById.get(instanceId));
   }
 }
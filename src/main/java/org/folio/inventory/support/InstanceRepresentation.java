@@ -0,0 +1,212 @@
+package org.folio.inventory.support;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.folio.inventory.domain.Metadata;
+import org.folio.inventory.domain.instances.AlternativeTitle;
+import org.folio.inventory.domain.instances.Classification;
+import org.folio.inventory.domain.instances.Contributor;
+import org.folio.inventory.domain.instances.Identifier;
+import org.folio.inventory.domain.instances.Instance;
+import org.folio.inventory.domain.instances.InstanceRelationshipToChild;
+import org.folio.inventory.domain.instances.InstanceRelationshipToParent;
+import org.folio.inventory.domain.instances.Note;
+import org.folio.inventory.domain.instances.Publication;
+import org.folio.inventory.domain.instances.titles.PrecedingSucceedingTitle;
+import org.folio.inventory.domain.sharedproperties.ElectronicAccess;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Writes the representation of an instance (and the records within it)
+ * field by field, rather than encoding each record as JSON and then parsing it
+ * back into a JSON object.
+ *
+ * Properties of nested records are always included, even when null,
+ * to match how they were represented when they were encoded.
+ */
+public class InstanceRepresentation {
+  private InstanceRepresentation() { }
+
+  /**
+   * Writes the properties of an instance and related records
+   *
+   * @param target            representation to write the properties into
+   * @param instance          instance to represent
+   * @param parentInstances   super instances for this instance
+   * @param childInstances    sub instances for this instance
+   * @param precedingTitles   preceding titles for this instance
+   * @param succeedingTitles  succeeding titles for this instance
+   * @return the target representation
+   */
+  public static JsonObject writeInto(JsonObject target, Instance instance,
+    List<InstanceRelationshipToParent> parentInstances,
+    List<InstanceRelationshipToChild> childInstances,
+    List<PrecedingSucceedingTitle> precedingTitles,
+    List<PrecedingSucceedingTitle> succeedingTitles) {
+
+    target.put("id", instance.getId());
+    target.put("hrid", instance.getHrid());
+    target.put(Instance.SOURCE_KEY, instance.getSource());
+    target.put(Instance.TITLE_KEY, instance.getTitle());
+    putIfNotNull(target, Instance.INDEX_TITLE_KEY, instance.getIndexTitle());
+    putIfNotNull(target, Instance.PARENT_INSTANCES_KEY, parentInstances,
+      InstanceRepresentation::toJson);
+    putIfNotNull(target, Instance.CHILD_INSTANCES_KEY, childInstances,
+      InstanceRepresentation::toJson);
+    putIfNotNull(target, Instance.ALTERNATIVE_TITLES_KEY, instance.getAlternativeTitles(),
+      InstanceRepresentation::toJson);
+    putIfNotNull(target, Instance.EDITIONS_KEY, instance.getEditions());
+    putIfNotNull(target, Instance.SERIES_KEY, instance.getSeries());
+    putIfNotNull(target, Instance.IDENTIFIERS_KEY, instance.getIdentifiers(),
+      InstanceRepresentation::toJson);
+    putIfNotNull(target, Instance.CONTRIBUTORS_KEY, instance.getContributors(),
+      InstanceRepresentation::toJson);
+    putIfNotNull(target, Instance.SUBJECTS_KEY, instance.getSubjects());
+    putIfNotNull(target, Instance.CLASSIFICATIONS_KEY, instance.getClassifications(),
+      InstanceRepresentation::toJson);
+    putIfNotNull(target, Instance.PUBLICATION_KEY, instance.getPublication(),
+      InstanceRepresentation::toJson);
+    putIfNotNull(target, Instance.PUBLICATION_FREQUENCY_KEY, instance.getPublicationFrequency());
+    putIfNotNull(target, Instance.PUBLICATION_RANGE_KEY, instance.getPublicationRange());
+    putIfNotNull(target, Instance.ELECTRONIC_ACCESS_KEY, instance.getElectronicAccess(),
+      InstanceRepresentation::toJson);
+    putIfNotNull(target, Instance.INSTANCE_TYPE_ID_KEY, instance.getInstanceTypeId());
+    putIfNotNull(target, Instance.INSTANCE_FORMAT_IDS_KEY, instance.getInstanceFormatIds());
+    putIfNotNull(target, Instance.PHYSICAL_DESCRIPTIONS_KEY, instance.getPhysicalDescriptions());
+    putIfNotNull(target, Instance.LANGUAGES_KEY, instance.getLanguages());
+    putIfNotNull(target, Instance.NOTES_KEY, instance.getNotes(),
+      InstanceRepresentation::toJson);
+    putIfNotNull(target, Instance.MODE_OF_ISSUANCE_ID_KEY, instance.getModeOfIssuanceId());
+    putIfNotNull(target, Instance.CATALOGED_DATE_KEY, instance.getCatalogedDate());
+    putIfNotNull(target, Instance.PREVIOUSLY_HELD_KEY, instance.getPreviouslyHeld());
+    putIfNotNull(target, Instance.STAFF_SUPPRESS_KEY, instance.getStaffSuppress());
+    putIfNotNull(target, Instance.DISCOVERY_SUPPRESS_KEY, instance.getDiscoverySuppress());
+    putIfNotNull(target, Instance.STATISTICAL_CODE_IDS_KEY, instance.getStatisticalCodeIds());
+    putIfNotNull(target, Instance.SOURCE_RECORD_FORMAT_KEY, instance.getSourceRecordFormat());
+    putIfNotNull(target, Instance.STATUS_ID_KEY, instance.getStatusId());
+    putIfNotNull(target, Instance.STATUS_UPDATED_DATE_KEY, instance.getStatusUpdatedDate());
+
+    if (instance.getMetadata() != null) {
+      target.put(Instance.METADATA_KEY, toJson(instance.getMetadata()));
+    }
+
+    target.put(Instance.TAGS_KEY, new JsonObject()
+      .put(Instance.TAG_LIST_KEY, new JsonArray(instance.getTags())));
+
+    putIfNotNull(target, Instance.NATURE_OF_CONTENT_TERM_IDS_KEY, instance.getNatureOfContentIds());
+    putIfNotNull(target, Instance.PRECEDING_TITLES_KEY, precedingTitles,
+      PrecedingSucceedingTitle::toPrecedingTitleJson);
+    putIfNotNull(target, Instance.SUCCEEDING_TITLES_KEY, succeedingTitles,
+      PrecedingSucceedingTitle::toSucceedingTitleJson);
+
+    return target;
+  }
+
+  private static JsonObject toJson(Metadata metadata) {
+    return new JsonObject()
+      .put(Metadata.CREATED_DATE_KEY, metadata.createdDate)
+      .put(Metadata.CREATED_BY_USER_ID_KEY, metadata.createdByUserId)
+      .put(Metadata.UPDATED_DATE_KEY, metadata.updatedDate)
+      .put(Metadata.UPDATED_BY_USER_ID_KEY, metadata.updatedByUserId);
+  }
+
+  private static JsonObject toJson(InstanceRelationshipToParent parent) {
+    return new JsonObject()
+      .put("id", parent.id)
+      .put(InstanceRelationshipToParent.SUPER_INSTANCE_ID_KEY, parent.superInstanceId)
+      .put(InstanceRelationshipToParent.INSTANCE_RELATIONSHIP_TYPE_ID_KEY,
+        parent.instanceRelationshipTypeId);
+  }
+
+  private static JsonObject toJson(InstanceRelationshipToChild child) {
+    return new JsonObject()
+      .put("id", child.id)
+      .put(InstanceRelationshipToChild.SUB_INSTANCE_ID_KEY, child.subInstanceId)
+      .put(InstanceRelationshipToChild.INSTANCE_RELATIONSHIP_TYPE_ID_KEY,
+        child.instanceRelationshipTypeId);
+  }
+
+  private static JsonObject toJson(AlternativeTitle alternativeTitle) {
+    return new JsonObject()
+      .put(AlternativeTitle.ALTERNATIVE_TITLE_TYPE_ID_KEY, alternativeTitle.alternativeTitleTypeId)
+      .put(AlternativeTitle.ALTERNATIVE_TITLE_KEY, alternativeTitle.alternativeTitle);
+  }
+
+  private static JsonObject toJson(Identifier identifier) {
+    return new JsonObject()
+      .put(Identifier.IDENTIFIER_TYPE_ID_KEY, identifier.identifierTypeId)
+      .put(Identifier.VALUE_KEY, identifier.value);
+  }
+
+  private static JsonObject toJson(Contributor contributor) {
+    return new JsonObject()
+      .put(Contributor.CONTRIBUTOR_NAME_TYPE_ID_KEY, contributor.contributorNameTypeId)
+      .put(Contributor.NAME_KEY, contributor.name)
+      .put(Contributor.CONTRIBUTOR_TYPE_ID_KEY, contributor.contributorTypeId)
+      .put(Contributor.CONTRIBUTOR_TYPE_TEXT_KEY, contributor.contributorTypeText)
+      .put(Contributor.PRIMARY_KEY, contributor.primary);
+  }
+
+  private static JsonObject toJson(Classification classification) {
+    return new JsonObject()
+      .put(Classification.CLASSIFICATION_NUMBER_KEY, classification.classificationNumber)
+      .put(Classification.CLASSIFICATION_TYPE_ID_KEY, classification.classificationTypeId);
+  }
+
+  private static JsonObject toJson(Publication publication) {
+    return new JsonObject()
+      .put(Publication.PUBLISHER_KEY, publication.publisher)
+      .put(Publication.PLACE_KEY, publication.place)
+      .put(Publication.DATE_OF_PUBLICATION_KEY, publication.dateOfPublication)
+      .put(Publication.ROLE_KEY, publication.role);
+  }
+
+  private static JsonObject toJson(ElectronicAccess electronicAccess) {
+    return new JsonObject()
+      .put(ElectronicAccess.URI_KEY, electronicAccess.uri)
+      .put(ElectronicAccess.LINK_TEXT_KEY, electronicAccess.linkText)
+      .put(ElectronicAccess.MATERIALS_SPECIFICATION_KEY, electronicAccess.materialsSpecification)
+      .put(ElectronicAccess.PUBLIC_NOTE_KEY, electronicAccess.publicNote)
+      .put(ElectronicAccess.RELATIONSHIP_ID_KEY, electronicAccess.relationshipId);
+  }
+
+  private static JsonObject toJson(Note note) {
+    return new JsonObject()
+      .put(Note.INSTANCE_NOTE_TYPE_ID_KEY, note.instanceNoteTypeId)
+      .put(Note.NOTE_KEY, note.note)
+      .put(Note.STAFF_ONLY_KEY, note.staffOnly);
+  }
+
+  private static void putIfNotNull(JsonObject target, String propertyName, String value) {
+    if (value != null) {
+      target.put(propertyName, value);
+    }
+  }
+
+  private static void putIfNotNull(JsonObject target, String propertyName, Boolean value) {
+    if (value != null) {
+      target.put(propertyName, value);
+    }
+  }
+
+  private static void putIfNotNull(JsonObject target, String propertyName, List<String> value) {
+    if (value != null) {
+      target.put(propertyName, new JsonArray(value));
+    }
+  }
+
+  private static <T> void putIfNotNull(JsonObject target, String propertyName,
+    List<T> records, Function<T, JsonObject> toJson) {
+
+    if (records != null) {
+      final JsonArray array = new JsonArray();
+
+      records.forEach(record -> array.add(toJson.apply(record)));
+
+      target.put(propertyName, array);
+    }
+  }
+}
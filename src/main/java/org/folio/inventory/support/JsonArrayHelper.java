@@ -1,8 +1,11 @@
 package org.folio.inventory.support;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -45,4 +48,25 @@ public class JsonArrayHelper {
       .map(mapper)
       .collect(Collectors.toList());
   }
+
+  /**
+   * Indexes records by their id, so that many records can be joined to
+   * those they refer to without scanning all of them for each one
+   *
+   * @param records records to index, records without an id are ignored
+   * @return records by id, the first record is kept if ids are duplicated
+   */
+  public static Map<String, JsonObject> indexById(Collection<JsonObject> records) {
+    final Map<String, JsonObject> recordsById = new HashMap<>(records.size() * 2);
+
+    records.forEach(record -> {
+      final String id = record.getString("id");
+
+      if (id != null) {
+        recordsById.putIfAbsent(id, record);
+      }
+    });
+
+    return recordsById;
+  }
 }
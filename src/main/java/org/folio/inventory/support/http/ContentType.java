@@ -4,5 +4,6 @@ package org.folio.inventory.support.http;
 public class ContentType {
   public static final String APPLICATION_JSON = "application/json";
   public static final String TEXT_PLAIN = "text/plain";
+  public static final String APPLICATION_X_NDJSON = "application/x-ndjson";
 
 }
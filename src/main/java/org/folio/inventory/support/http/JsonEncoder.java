@@ -0,0 +1,78 @@
+package org.folio.inventory.support.http;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.EncodeException;
+import io.vertx.core.json.Json;
+
+/**
+ * Encodes request and response bodies as JSON directly into a buffer,
+ * without creating an intermediate string.
+ *
+ * Bodies are encoded compactly, pretty printing is only intended for debugging
+ * and can be switched on using {@link #PRETTY_PRINT_CONFIG_KEY}.
+ */
+public class JsonEncoder {
+  public static final String PRETTY_PRINT_CONFIG_KEY = "json.pretty.print";
+
+  private static final int INITIAL_BUFFER_SIZE = 1024;
+
+  private static volatile boolean prettyPrint = false;
+
+  private JsonEncoder() { }
+
+  public static void usePrettyPrinting(boolean enabled) {
+    prettyPrint = enabled;
+  }
+
+  public static boolean isPrettyPrinting() {
+    return prettyPrint;
+  }
+
+  public static Buffer encode(Object value) {
+    return encodeInto(Buffer.buffer(INITIAL_BUFFER_SIZE), value);
+  }
+
+  /**
+   * Appends the JSON encoding of the value to a buffer, so that many values
+   * can be encoded into the same buffer
+   *
+   * @param target buffer to append the encoded value to
+   * @param value  value to encode
+   * @return the target buffer
+   */
+  public static Buffer encodeInto(Buffer target, Object value) {
+    final ObjectMapper mapper = prettyPrint ? Json.prettyMapper : Json.mapper;
+
+    try {
+      mapper.writeValue(new BufferOutputStream(target), value);
+    } catch (IOException e) {
+      throw new EncodeException(String.format(
+        "Failed to encode as JSON: %s", e.getMessage()));
+    }
+
+    return target;
+  }
+
+  private static class BufferOutputStream extends OutputStream {
+    private final Buffer buffer;
+
+    private BufferOutputStream(Buffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public void write(int b) {
+      buffer.appendByte((byte) b);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+      buffer.appendBytes(bytes, offset, length);
+    }
+  }
+}
@@ -0,0 +1,191 @@
+package org.folio.inventory.support.http.client;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Utilisation of the connection pool of an HTTP client.
+ *
+ * Vert.x does not report when a request is waiting for a pooled connection,
+ * instead requests are counted from when they are made until a response (or failure)
+ * is received. As all requests are made to Okapi (or a single storage location),
+ * any requests beyond the capacity of the pool must be waiting for a connection.
+ */
+public class ConnectionPoolMetrics {
+  private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+  private static final Map<HttpClient, ConnectionPoolMetrics> metricsByClient
+    = new ConcurrentHashMap<>();
+
+  private static final ConnectionPoolMetrics unregistered
+    = new ConnectionPoolMetrics(Integer.MAX_VALUE);
+
+  private final int capacity;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicInteger maximumInFlight = new AtomicInteger();
+  private final LongAdder requests = new LongAdder();
+  private final LongAdder queuedRequests = new LongAdder();
+  private final LongAdder latencyNanos = new LongAdder();
+  private final LongAdder queuedLatencyNanos = new LongAdder();
+  private final AtomicLong queuedRequestsLastLogged = new AtomicLong();
+
+  ConnectionPoolMetrics(int capacity) {
+    this.capacity = capacity;
+  }
+
+  public static ConnectionPoolMetrics register(
+    HttpClient client,
+    HttpClientOptions options) {
+
+    final ConnectionPoolMetrics metrics = new ConnectionPoolMetrics(
+      StorageHttpClientOptions.requestCapacity(options));
+
+    metricsByClient.put(client, metrics);
+
+    return metrics;
+  }
+
+  public static void unregister(HttpClient client) {
+    metricsByClient.remove(client);
+  }
+
+  /**
+   * Metrics for the pool of a client, clients that have not been registered
+   * (e.g. those created during tests) are not tracked
+   */
+  public static ConnectionPoolMetrics forClient(HttpClient client) {
+    return metricsByClient.getOrDefault(client, unregistered);
+  }
+
+  public static Collection<ConnectionPoolMetrics> registered() {
+    return metricsByClient.values();
+  }
+
+  public PooledRequest requestStarted() {
+    if (this == unregistered) {
+      return new PooledRequest(null, false);
+    }
+
+    final int currentlyInFlight = inFlight.incrementAndGet();
+
+    maximumInFlight.accumulateAndGet(currentlyInFlight, Math::max);
+    requests.increment();
+
+    final boolean queued = currentlyInFlight > capacity;
+
+    if (queued) {
+      queuedRequests.increment();
+    }
+
+    return new PooledRequest(this, queued);
+  }
+
+  private void requestCompleted(long elapsedNanos, boolean queued) {
+    inFlight.decrementAndGet();
+    latencyNanos.add(elapsedNanos);
+
+    if (queued) {
+      queuedLatencyNanos.add(elapsedNanos);
+    }
+  }
+
+  public int getInFlight() {
+    return inFlight.get();
+  }
+
+  public int getQueueDepth() {
+    return Math.max(0, inFlight.get() - capacity);
+  }
+
+  public long getRequests() {
+    return requests.sum();
+  }
+
+  public long getQueuedRequests() {
+    return queuedRequests.sum();
+  }
+
+  public JsonObject toJson() {
+    final long requestCount = requests.sum();
+    final long queuedRequestCount = queuedRequests.sum();
+
+    return new JsonObject()
+      .put("capacity", capacity)
+      .put("inFlight", getInFlight())
+      .put("queueDepth", getQueueDepth())
+      .put("maximumQueueDepth", Math.max(0, maximumInFlight.get() - capacity))
+      .put("requests", requestCount)
+      .put("queuedRequests", queuedRequestCount)
+      .put("averageLatencyMilliseconds",
+        averageMilliseconds(latencyNanos.sum(), requestCount))
+      .put("averageQueuedLatencyMilliseconds",
+        averageMilliseconds(queuedLatencyNanos.sum(), queuedRequestCount));
+  }
+
+  /**
+   * Logs utilisation of the pool, only logs at info level when requests
+   * have had to wait for a connection since the last time it was logged
+   */
+  public void logUtilisation() {
+    final long queuedRequestCount = queuedRequests.sum();
+    final long previouslyQueued = queuedRequestsLastLogged.getAndSet(queuedRequestCount);
+
+    if (queuedRequestCount > previouslyQueued) {
+      log.info(String.format("HTTP client pool saturated, %s requests waited for a connection: %s",
+        queuedRequestCount - previouslyQueued, toJson().encode()));
+    } else if (log.isDebugEnabled()) {
+      log.debug(String.format("HTTP client pool utilisation: %s", toJson().encode()));
+    }
+  }
+
+  private static long averageMilliseconds(long totalNanos, long count) {
+    return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalNanos / count);
+  }
+
+  /**
+   * A single request made using a pooled connection, completed when either
+   * a response or failure is received, whichever happens first
+   */
+  public static class PooledRequest {
+    private final ConnectionPoolMetrics metrics;
+    private final boolean queued;
+    private final long startTime;
+    private final AtomicBoolean completed = new AtomicBoolean();
+
+    private PooledRequest(ConnectionPoolMetrics metrics, boolean queued) {
+      this.metrics = metrics;
+      this.queued = queued;
+      this.startTime = metrics != null ? System.nanoTime() : 0;
+    }
+
+    public <T> Handler<T> completeBefore(Handler<T> handler) {
+      return value -> {
+        complete();
+
+        if (handler != null) {
+          handler.handle(value);
+        }
+      };
+    }
+
+    public void complete() {
+      if (metrics != null && completed.compareAndSet(false, true)) {
+        metrics.requestCompleted(System.nanoTime() - startTime, queued);
+      }
+    }
+  }
+}
@@ -1,16 +1,21 @@
 package org.folio.inventory.support.http.client;
 
 import io.vertx.core.Handler;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpClient;
 import io.vertx.core.http.HttpClientRequest;
 import io.vertx.core.http.HttpClientResponse;
 import io.vertx.core.http.HttpHeaders;
-import io.vertx.core.json.Json;
+import io.vertx.core.http.HttpMethod;
 import io.vertx.core.logging.Logger;
 import io.vertx.core.logging.LoggerFactory;
 import org.apache.commons.lang3.StringUtils;
 import org.folio.inventory.common.WebContext;
 import org.folio.inventory.support.http.ContentType;
+import org.folio.inventory.support.http.JsonEncoder;
+import org.folio.inventory.support.http.client.ConnectionPoolMetrics.PooledRequest;
+import org.folio.inventory.support.metrics.MetricsRegistry;
+import org.folio.inventory.support.metrics.RequestTimer;
 
 import java.lang.invoke.MethodHandles;
 import java.net.MalformedURLException;
@@ -33,6 +38,7 @@ public class OkapiHttpClient {
   private final String userId;
   private final String requestId;
   private final Consumer<Throwable> exceptionHandler;
+  private final ConnectionPoolMetrics poolMetrics;
 
   public OkapiHttpClient(HttpClient httpClient,
     WebContext context, Consumer<Throwable> exceptionHandler)
@@ -68,13 +74,15 @@ public class OkapiHttpClient {
     this.token = token;
     this.requestId = requestId;
     this.exceptionHandler = exceptionHandler;
+    this.poolMetrics = ConnectionPoolMetrics.forClient(httpClient);
   }
 
   public void post(URL url,
                    Object body,
                    Handler<HttpClientResponse> responseHandler) {
 
-    HttpClientRequest request = client.postAbs(url.toString(), responseHandler);
+    HttpClientRequest request = createRequest(HttpMethod.POST, url.toString(),
+      responseHandler, this::handleException);
 
     okapiHeaders(request);
     accept(request, ContentType.APPLICATION_JSON, ContentType.TEXT_PLAIN);
@@ -82,12 +90,8 @@ public class OkapiHttpClient {
 
     request.setTimeout(5000);
 
-    if (exceptionHandler != null) {
-      request.exceptionHandler(this.exceptionHandler::accept);
-    }
-
     if(body != null) {
-      String encodedBody = Json.encodePrettily(body);
+      Buffer encodedBody = JsonEncoder.encode(body);
 
       log.info(String.format("POST %s, Request: %s",
         url.toString(), encodedBody));
@@ -99,6 +103,29 @@ public class OkapiHttpClient {
     }
   }
 
+  /**
+   * Posts a body that has already been encoded, e.g. newline delimited JSON
+   */
+  public void post(URL url,
+                   Buffer body,
+                   String contentType,
+                   Handler<HttpClientResponse> responseHandler) {
+
+    HttpClientRequest request = createRequest(HttpMethod.POST, url.toString(),
+      responseHandler, this::handleException);
+
+    okapiHeaders(request);
+    accept(request, contentType, ContentType.APPLICATION_JSON, ContentType.TEXT_PLAIN);
+    request.putHeader(HttpHeaders.CONTENT_TYPE.toString(), contentType);
+
+    request.setTimeout(5000);
+
+    log.info(String.format("POST %s, Request: %s bytes of %s",
+      url.toString(), body.length(), contentType));
+
+    request.end(body);
+  }
+
   public void put(URL url,
                   Object body,
                   Handler<HttpClientResponse> responseHandler) {
@@ -110,19 +137,39 @@ public class OkapiHttpClient {
                   Object body,
                   Handler<HttpClientResponse> responseHandler) {
 
-    HttpClientRequest request = client.putAbs(url, responseHandler);
+    HttpClientRequest request = createRequest(HttpMethod.PUT, url,
+      responseHandler, this::logException);
 
     okapiHeaders(request);
     accept(request, ContentType.APPLICATION_JSON, ContentType.TEXT_PLAIN);
     jsonContentType(request);
 
-    String encodedBody = Json.encodePrettily(body);
+    Buffer encodedBody = JsonEncoder.encode(body);
 
     log.info(String.format("PUT %s, Request: %s", url, encodedBody));
 
     request.end(encodedBody);
   }
 
+  /**
+   * Puts without a body, e.g. when the change is described by query parameters
+   */
+  public void put(String url,
+                  Handler<HttpClientResponse> responseHandler) {
+
+    HttpClientRequest request = createRequest(HttpMethod.PUT, url,
+      responseHandler, this::handleException);
+
+    okapiHeaders(request);
+    accept(request, ContentType.APPLICATION_JSON, ContentType.TEXT_PLAIN);
+
+    request.setTimeout(5000);
+
+    log.info(String.format("PUT %s", url));
+
+    request.end();
+  }
+
   public void get(URL url, Handler<HttpClientResponse> responseHandler) {
 
     get(url.toString(), responseHandler);
@@ -140,7 +187,8 @@ public class OkapiHttpClient {
 
   public void get(String url, Handler<HttpClientResponse> responseHandler) {
 
-    HttpClientRequest request = client.getAbs(url, responseHandler);
+    HttpClientRequest request = createRequest(HttpMethod.GET, url,
+      responseHandler, this::logException);
 
     accept(request, ContentType.APPLICATION_JSON);
 
@@ -158,7 +206,8 @@ public class OkapiHttpClient {
 
   public void delete(String url, Handler<HttpClientResponse> responseHandler) {
 
-    HttpClientRequest request = client.deleteAbs(url, responseHandler);
+    HttpClientRequest request = createRequest(HttpMethod.DELETE, url,
+      responseHandler, this::logException);
 
     accept(request, ContentType.APPLICATION_JSON, ContentType.TEXT_PLAIN);
 
@@ -167,6 +216,37 @@ public class OkapiHttpClient {
     request.end();
   }
 
+  private HttpClientRequest createRequest(
+    HttpMethod method,
+    String url,
+    Handler<HttpClientResponse> responseHandler,
+    Handler<Throwable> exceptionHandler) {
+
+    PooledRequest pooledRequest = poolMetrics.requestStarted();
+    RequestTimer timer = MetricsRegistry.getInstance()
+      .outboundRequestStarted(method, url);
+
+    HttpClientRequest request = client.requestAbs(method, url,
+      pooledRequest.completeBefore(timer.whenResponded(responseHandler)));
+
+    request.exceptionHandler(pooledRequest.completeBefore(
+      timer.whenFailed(exceptionHandler)));
+
+    return request;
+  }
+
+  private void handleException(Throwable exception) {
+    if (exceptionHandler != null) {
+      exceptionHandler.accept(exception);
+    } else {
+      logException(exception);
+    }
+  }
+
+  private void logException(Throwable exception) {
+    log.error("Request to Okapi failed", exception);
+  }
+
   private void okapiHeaders(HttpClientRequest request) {
     if(StringUtils.isNotBlank(this.tenantId)) {
       request.headers().add(TENANT_HEADER, this.tenantId);
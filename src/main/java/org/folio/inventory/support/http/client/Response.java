@@ -6,28 +6,50 @@ import io.vertx.core.http.HttpClientResponse;
 
 import static io.vertx.core.http.HttpHeaders.CONTENT_TYPE;
 
+/**
+ * Response from another module.
+ *
+ * When created from a received body, the body is only decoded when it is used,
+ * JSON is parsed directly from the received bytes and at most once
+ */
 public class Response {
-  protected final String body;
+  private final Buffer bodyBuffer;
   private final int statusCode;
   private final String contentType;
   private final String location;
+  private String body;
+  private JsonObject json;
 
   public Response(int statusCode, String body, String contentType, String location) {
+    this(statusCode, null, body, contentType, location);
+  }
+
+  private Response(
+    int statusCode,
+    Buffer bodyBuffer,
+    String body,
+    String contentType,
+    String location) {
+
     this.statusCode = statusCode;
+    this.bodyBuffer = bodyBuffer;
     this.body = body;
     this.contentType = contentType;
     this.location = location;
   }
 
   public static Response from(HttpClientResponse response, Buffer body) {
-    return new Response(response.statusCode(),
-      BufferHelper.stringFromBuffer(body),
+    return new Response(response.statusCode(), body, null,
       convertNullToEmpty(response.getHeader(CONTENT_TYPE.toString())),
       response.getHeader("Location"));
   }
 
   public boolean hasBody() {
-    return getBody() != null && getBody().trim() != "";
+    if (bodyBuffer != null) {
+      return bodyBuffer.length() > 0;
+    }
+
+    return getBody() != null && !getBody().isEmpty();
   }
 
   public int getStatusCode() {
@@ -35,18 +57,19 @@ public class Response {
   }
 
   public String getBody() {
+    if (body == null && bodyBuffer != null) {
+      body = BufferHelper.stringFromBuffer(bodyBuffer);
+    }
+
     return body;
   }
 
   public JsonObject getJson() {
-    String body = getBody();
-
-    if(hasBody()) {
-      return new JsonObject(body);
-    }
-    else {
-      return new JsonObject();
+    if (json == null) {
+      json = parseJson();
     }
+
+    return json;
   }
 
   public String getContentType() {
@@ -57,6 +80,16 @@ public class Response {
     return this.location;
   }
 
+  private JsonObject parseJson() {
+    if (!hasBody()) {
+      return new JsonObject();
+    }
+
+    return bodyBuffer != null
+      ? bodyBuffer.toJsonObject()
+      : new JsonObject(getBody());
+  }
+
   private static String convertNullToEmpty(String text) {
     return text != null ? text : "";
   }
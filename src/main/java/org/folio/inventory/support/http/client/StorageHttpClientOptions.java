@@ -0,0 +1,55 @@
+package org.folio.inventory.support.http.client;
+
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Options for the HTTP client shared by all requests made to Okapi and storage
+ * modules from an instance of the inventory verticle.
+ *
+ * The Vert.x defaults only allow 5 connections to each host, which is quickly
+ * exhausted when many requests are made for each incoming request
+ * (e.g. when moving or re-indexing many records), so a larger pool is used
+ * unless otherwise configured.
+ */
+public class StorageHttpClientOptions {
+  public static final String MAXIMUM_POOL_SIZE_CONFIG_KEY = "http.client.max.pool.size";
+  public static final String KEEP_ALIVE_CONFIG_KEY = "http.client.keep.alive";
+  public static final String PIPELINING_CONFIG_KEY = "http.client.pipelining";
+  public static final String PIPELINING_LIMIT_CONFIG_KEY = "http.client.pipelining.limit";
+  public static final String IDLE_TIMEOUT_CONFIG_KEY = "http.client.idle.timeout.seconds";
+  public static final String MAXIMUM_WAIT_QUEUE_SIZE_CONFIG_KEY = "http.client.max.wait.queue.size";
+
+  private static final int DEFAULT_MAXIMUM_POOL_SIZE = 50;
+  private static final boolean DEFAULT_KEEP_ALIVE = true;
+  private static final boolean DEFAULT_PIPELINING = false;
+  private static final int DEFAULT_PIPELINING_LIMIT = HttpClientOptions.DEFAULT_PIPELINING_LIMIT;
+  private static final int DEFAULT_IDLE_TIMEOUT_SECONDS = 60;
+  private static final int DEFAULT_MAXIMUM_WAIT_QUEUE_SIZE = HttpClientOptions.DEFAULT_MAX_WAIT_QUEUE_SIZE;
+
+  private StorageHttpClientOptions() { }
+
+  public static HttpClientOptions fromConfig(JsonObject config) {
+    return new HttpClientOptions()
+      .setMaxPoolSize(config.getInteger(MAXIMUM_POOL_SIZE_CONFIG_KEY,
+        DEFAULT_MAXIMUM_POOL_SIZE))
+      .setKeepAlive(config.getBoolean(KEEP_ALIVE_CONFIG_KEY, DEFAULT_KEEP_ALIVE))
+      .setPipelining(config.getBoolean(PIPELINING_CONFIG_KEY, DEFAULT_PIPELINING))
+      .setPipeliningLimit(config.getInteger(PIPELINING_LIMIT_CONFIG_KEY,
+        DEFAULT_PIPELINING_LIMIT))
+      .setIdleTimeout(config.getInteger(IDLE_TIMEOUT_CONFIG_KEY,
+        DEFAULT_IDLE_TIMEOUT_SECONDS))
+      .setMaxWaitQueueSize(config.getInteger(MAXIMUM_WAIT_QUEUE_SIZE_CONFIG_KEY,
+        DEFAULT_MAXIMUM_WAIT_QUEUE_SIZE));
+  }
+
+  /**
+   * How many requests can be made to a single host at the same time
+   * before they need to wait for a connection
+   */
+  public static int requestCapacity(HttpClientOptions options) {
+    return options.isPipelining()
+      ? options.getMaxPoolSize() * options.getPipeliningLimit()
+      : options.getMaxPoolSize();
+  }
+}
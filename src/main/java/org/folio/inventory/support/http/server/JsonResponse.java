@@ -4,11 +4,11 @@ import java.util.Collections;
 import java.util.List;
 
 import org.folio.inventory.support.http.ContentType;
+import org.folio.inventory.support.http.JsonEncoder;
 
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerResponse;
-import io.vertx.core.json.Json;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 
@@ -82,8 +82,7 @@ public class JsonResponse {
                                JsonObject body,
                                int statusCode) {
 
-    String json = Json.encodePrettily(body);
-    Buffer buffer = Buffer.buffer(json, "UTF-8");
+    Buffer buffer = JsonEncoder.encode(body);
 
     response.setStatusCode(statusCode);
     response.putHeader(HttpHeaders.CONTENT_TYPE, String.format("%s; charset=utf-8",
@@ -0,0 +1,129 @@
+package org.folio.inventory.support.http.server;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+import org.folio.inventory.support.http.ContentType;
+import org.folio.inventory.support.http.JsonEncoder;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.logging.Logger;
+import io.vertx.core.logging.LoggerFactory;
+
+/**
+ * Responds with a collection of records using chunked transfer encoding.
+ *
+ * Each record's representation is only created when it is about to be written,
+ * and writing waits whilst the response's write queue is full, so only one
+ * representation needs to be held at a time, rather than the whole page.
+ */
+public class StreamingJsonResponse {
+  private static final Logger log = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
+
+  private StreamingJsonResponse() { }
+
+  public static <T> void success(
+    HttpServerResponse response,
+    String collectionPropertyName,
+    List<T> records,
+    Function<T, JsonObject> toRepresentation,
+    Integer totalRecords) {
+
+    success(response, collectionPropertyName, records, toRepresentation,
+      totalRecords, new JsonObject());
+  }
+
+  /**
+   * @param otherProperties written after the total records, e.g. paging details
+   */
+  public static <T> void success(
+    HttpServerResponse response,
+    String collectionPropertyName,
+    List<T> records,
+    Function<T, JsonObject> toRepresentation,
+    Integer totalRecords,
+    JsonObject otherProperties) {
+
+    response.setStatusCode(200);
+    response.putHeader(HttpHeaders.CONTENT_TYPE, String.format("%s; charset=utf-8",
+      ContentType.APPLICATION_JSON));
+    response.setChunked(true);
+
+    response.write(Buffer.buffer()
+      .appendString("{")
+      .appendString(Json.encode(collectionPropertyName))
+      .appendString(":["));
+
+    new RecordsWriter<>(response, records.iterator(), toRepresentation,
+      totalRecords, otherProperties).write();
+  }
+
+  private static class RecordsWriter<T> {
+    private final HttpServerResponse response;
+    private final Iterator<T> records;
+    private final Function<T, JsonObject> toRepresentation;
+    private final Integer totalRecords;
+    private final JsonObject otherProperties;
+    private boolean firstRecord = true;
+
+    private RecordsWriter(
+      HttpServerResponse response,
+      Iterator<T> records,
+      Function<T, JsonObject> toRepresentation,
+      Integer totalRecords,
+      JsonObject otherProperties) {
+
+      this.response = response;
+      this.records = records;
+      this.toRepresentation = toRepresentation;
+      this.totalRecords = totalRecords;
+      this.otherProperties = otherProperties;
+    }
+
+    private void write() {
+      try {
+        while (records.hasNext()) {
+          if (response.writeQueueFull()) {
+            response.drainHandler(notUsed -> write());
+            return;
+          }
+
+          final Buffer chunk = Buffer.buffer();
+
+          if (!firstRecord) {
+            chunk.appendString(",");
+          }
+
+          firstRecord = false;
+
+          response.write(JsonEncoder.encodeInto(chunk,
+            toRepresentation.apply(records.next())));
+        }
+
+        final Buffer end = Buffer.buffer()
+          .appendString("],\"totalRecords\":")
+          .appendString(String.valueOf(totalRecords));
+
+        otherProperties.forEach(property -> end
+          .appendString(",")
+          .appendString(Json.encode(property.getKey()))
+          .appendString(":")
+          .appendString(Json.encode(property.getValue())));
+
+        response.end(end.appendString("}"));
+      } catch (Exception e) {
+        // The status has already been sent, so the only way to indicate
+        // the failure to the client is to not complete the response
+        log.error("Failed to write records to response", e);
+
+        response.close();
+      }
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package org.folio.inventory.support.metrics;
+
+/**
+ * Current value of a single gauge or counter reported by a {@link MetricsSource}
+ */
+public class Metric {
+  private static final String GAUGE = "gauge";
+  private static final String COUNTER = "counter";
+
+  private final String name;
+  private final String description;
+  private final String type;
+  private final Number value;
+
+  private Metric(String name, String description, String type, Number value) {
+    this.name = name;
+    this.description = description;
+    this.type = type;
+    this.value = value;
+  }
+
+  public static Metric gauge(String name, String description, long value) {
+    return new Metric(name, description, GAUGE, value);
+  }
+
+  public static Metric counter(String name, String description, long value) {
+    return new Metric(name, description, COUNTER, value);
+  }
+
+  public static Metric counter(String name, String description, double value) {
+    return new Metric(name, description, COUNTER, value);
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public String getDescription() {
+    return description;
+  }
+
+  public String getType() {
+    return type;
+  }
+
+  public Number getValue() {
+    return value;
+  }
+
+  /**
+   * Combines the values reported for the same metric by different sources,
+   * whole numbers stay whole
+   */
+  Metric add(Metric other) {
+    if (value instanceof Long && other.value instanceof Long) {
+      return new Metric(name, description, type, value.longValue() + other.value.longValue());
+    }
+
+    return new Metric(name, description, type, value.doubleValue() + other.value.doubleValue());
+  }
+}
@@ -0,0 +1,257 @@
+package org.folio.inventory.support.metrics;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.folio.inventory.support.http.client.ConnectionPoolMetrics;
+
+import io.vertx.core.http.HttpMethod;
+
+/**
+ * Metrics for requests handled by this module and requests it makes to
+ * other modules, shared by all instances of the inventory verticle.
+ *
+ * Paths are normalised to remove record ids, and the number of distinct
+ * paths recorded is bounded, so unexpected paths cannot grow the registry
+ * without limit.
+ */
+public class MetricsRegistry {
+  static final int MAXIMUM_PATHS = 500;
+  static final String OTHER_PATH = "other";
+
+  private static final MetricsRegistry instance = new MetricsRegistry();
+
+  private final Map<String, RequestMetrics> inboundRequests = new ConcurrentHashMap<>();
+  private final Map<String, RequestMetrics> outboundRequests = new ConcurrentHashMap<>();
+  private final Set<MetricsSource> sources = ConcurrentHashMap.newKeySet();
+
+  MetricsRegistry() { }
+
+  public static MetricsRegistry getInstance() {
+    return instance;
+  }
+
+  public void recordInboundRequest(
+    String method,
+    String path,
+    int statusCode,
+    long elapsedNanos) {
+
+    metricsFor(inboundRequests, method, RequestPaths.normalise(path))
+      .record(elapsedNanos, statusCode >= 500);
+  }
+
+  public RequestTimer outboundRequestStarted(HttpMethod method, String url) {
+    return new RequestTimer(metricsFor(outboundRequests, method.name(),
+      RequestPaths.normalise(url)));
+  }
+
+  /**
+   * Includes the metrics of the source until it is unregistered
+   */
+  public void register(MetricsSource source) {
+    sources.add(source);
+  }
+
+  public void unregister(MetricsSource source) {
+    sources.remove(source);
+  }
+
+  public Collection<RequestMetrics> getInboundRequests() {
+    return inboundRequests.values();
+  }
+
+  public Collection<RequestMetrics> getOutboundRequests() {
+    return outboundRequests.values();
+  }
+
+  /**
+   * Metrics in the Prometheus text exposition format
+   */
+  public String toPrometheusText() {
+    final StringBuilder text = new StringBuilder();
+
+    appendRequestMetrics(text, "inventory_http_server_requests",
+      "Requests handled by inventory", inboundRequests.values());
+
+    appendRequestMetrics(text, "inventory_storage_requests",
+      "Requests made by inventory to other modules", outboundRequests.values());
+
+    appendPoolMetrics(text, ConnectionPoolMetrics.registered());
+
+    appendSourceMetrics(text, sources);
+
+    return text.toString();
+  }
+
+  private static RequestMetrics metricsFor(
+    Map<String, RequestMetrics> metrics,
+    String method,
+    String path) {
+
+    final String key = method + " " + path;
+
+    final RequestMetrics existing = metrics.get(key);
+
+    if (existing != null) {
+      return existing;
+    }
+
+    if (metrics.size() >= MAXIMUM_PATHS) {
+      return metrics.computeIfAbsent(method + " " + OTHER_PATH,
+        notUsed -> new RequestMetrics(method, OTHER_PATH));
+    }
+
+    return metrics.computeIfAbsent(key, notUsed -> new RequestMetrics(method, path));
+  }
+
+  private static void appendRequestMetrics(
+    StringBuilder text,
+    String name,
+    String description,
+    Collection<RequestMetrics> allMetrics) {
+
+    final String histogramName = name + "_seconds";
+    final String errorsName = name + "_errors_total";
+
+    appendHeader(text, histogramName, description, "histogram");
+
+    for (RequestMetrics metrics : allMetrics) {
+      final String labels = labels(metrics);
+      final long[] bucketCounts = metrics.cumulativeBucketCounts();
+
+      for (int index = 0; index < RequestMetrics.BUCKET_BOUNDS_MILLISECONDS.length; index++) {
+        appendSample(text, histogramName + "_bucket",
+          String.format("%s,le=\"%s\"", labels,
+            RequestMetrics.BUCKET_BOUNDS_MILLISECONDS[index] / 1000.0),
+          bucketCounts[index]);
+      }
+
+      appendSample(text, histogramName + "_bucket",
+        labels + ",le=\"+Inf\"", bucketCounts[bucketCounts.length - 1]);
+
+      appendSample(text, histogramName + "_count", labels,
+        bucketCounts[bucketCounts.length - 1]);
+
+      appendSample(text, histogramName + "_sum", labels,
+        metrics.getTotalSeconds());
+    }
+
+    appendHeader(text, errorsName,
+      description + " that failed or responded with a server error", "counter");
+
+    for (RequestMetrics metrics : allMetrics) {
+      appendSample(text, errorsName, labels(metrics), metrics.getErrors());
+    }
+  }
+
+  private static void appendPoolMetrics(
+    StringBuilder text,
+    Collection<ConnectionPoolMetrics> pools) {
+
+    long inFlight = 0;
+    long queueDepth = 0;
+    long requests = 0;
+    long queuedRequests = 0;
+
+    for (ConnectionPoolMetrics pool : pools) {
+      inFlight += pool.getInFlight();
+      queueDepth += pool.getQueueDepth();
+      requests += pool.getRequests();
+      queuedRequests += pool.getQueuedRequests();
+    }
+
+    appendGauge(text, "inventory_http_client_pool_in_flight",
+      "Requests to other modules awaiting a response", inFlight);
+
+    appendGauge(text, "inventory_http_client_pool_queue_depth",
+      "Requests to other modules waiting for a connection", queueDepth);
+
+    appendHeader(text, "inventory_http_client_pool_requests_total",
+      "Requests made using pooled connections", "counter");
+    appendSample(text, "inventory_http_client_pool_requests_total", null, requests);
+
+    appendHeader(text, "inventory_http_client_pool_queued_requests_total",
+      "Requests that had to wait for a pooled connection", "counter");
+    appendSample(text, "inventory_http_client_pool_queued_requests_total",
+      null, queuedRequests);
+  }
+
+  private static void appendSourceMetrics(
+    StringBuilder text,
+    Collection<MetricsSource> sources) {
+
+    final Map<String, Metric> combined = new LinkedHashMap<>();
+
+    for (MetricsSource source : sources) {
+      for (Metric metric : source.getMetrics()) {
+        combined.merge(metric.getName(), metric, Metric::add);
+      }
+    }
+
+    for (Metric metric : combined.values()) {
+      appendHeader(text, metric.getName(), metric.getDescription(), metric.getType());
+      appendSample(text, metric.getName(), null, metric.getValue());
+    }
+  }
+
+  private static void appendCounter(
+    StringBuilder text,
+    String name,
+    String description,
+    long value) {
+
+    appendHeader(text, name, description, "counter");
+    appendSample(text, name, null, value);
+  }
+
+  private static void appendGauge(
+    StringBuilder text,
+    String name,
+    String description,
+    long value) {
+
+    appendHeader(text, name, description, "gauge");
+    appendSample(text, name, null, value);
+  }
+
+  private static void appendHeader(
+    StringBuilder text,
+    String name,
+    String description,
+    String type) {
+
+    text.append("# HELP ").append(name).append(' ').append(description).append('\n');
+    text.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+  }
+
+  private static void appendSample(
+    StringBuilder text,
+    String name,
+    String labels,
+    Object value) {
+
+    text.append(name);
+
+    if (labels != null) {
+      text.append('{').append(labels).append('}');
+    }
+
+    text.append(' ').append(value).append('\n');
+  }
+
+  private static String labels(RequestMetrics metrics) {
+    return String.format("method=\"%s\",path=\"%s\"",
+      escape(metrics.getMethod()), escape(metrics.getPath()));
+  }
+
+  private static String escape(String labelValue) {
+    return labelValue
+      .replace("\\", "\\\\")
+      .replace("\"", "\\\"")
+      .replace("\n", "\\n");
+  }
+}
@@ -0,0 +1,15 @@
+package org.folio.inventory.support.metrics;
+
+import java.util.List;
+
+/**
+ * Component that reports its own metrics, such as a pool or a queue, whilst
+ * it is registered with the {@link MetricsRegistry}.
+ *
+ * Many sources of the same kind can be registered (e.g. one for each
+ * instance of the inventory verticle), the values of metrics with the
+ * same name are added together.
+ */
+public interface MetricsSource {
+  List<Metric> getMetrics();
+}
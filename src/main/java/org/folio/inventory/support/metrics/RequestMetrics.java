@@ -0,0 +1,92 @@
+package org.folio.inventory.support.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Count, errors and latency histogram of the requests made with a single
+ * method to a single (normalised) path.
+ *
+ * Recording only increments counters, so is safe to do concurrently
+ * from many event loops.
+ */
+public class RequestMetrics {
+  static final long[] BUCKET_BOUNDS_MILLISECONDS
+    = { 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000 };
+
+  private final String method;
+  private final String path;
+  private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS_MILLISECONDS.length + 1];
+  private final LongAdder errors = new LongAdder();
+  private final LongAdder totalNanos = new LongAdder();
+
+  RequestMetrics(String method, String path) {
+    this.method = method;
+    this.path = path;
+
+    for (int index = 0; index < buckets.length; index++) {
+      buckets[index] = new LongAdder();
+    }
+  }
+
+  void record(long elapsedNanos, boolean failed) {
+    final long elapsedMilliseconds = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+
+    int bucket = 0;
+
+    while (bucket < BUCKET_BOUNDS_MILLISECONDS.length
+      && elapsedMilliseconds > BUCKET_BOUNDS_MILLISECONDS[bucket]) {
+      bucket++;
+    }
+
+    buckets[bucket].increment();
+    totalNanos.add(elapsedNanos);
+
+    if (failed) {
+      errors.increment();
+    }
+  }
+
+  public String getMethod() {
+    return method;
+  }
+
+  public String getPath() {
+    return path;
+  }
+
+  public long getCount() {
+    long count = 0;
+
+    for (LongAdder bucket : buckets) {
+      count += bucket.sum();
+    }
+
+    return count;
+  }
+
+  public long getErrors() {
+    return errors.sum();
+  }
+
+  public double getTotalSeconds() {
+    return totalNanos.sum() / (double) TimeUnit.SECONDS.toNanos(1);
+  }
+
+  /**
+   * Cumulative counts of requests that took no longer than each bucket bound,
+   * the last being all requests
+   */
+  long[] cumulativeBucketCounts() {
+    final long[] counts = new long[buckets.length];
+
+    long runningTotal = 0;
+
+    for (int index = 0; index < buckets.length; index++) {
+      runningTotal += buckets[index].sum();
+      counts[index] = runningTotal;
+    }
+
+    return counts;
+  }
+}
@@ -0,0 +1,97 @@
+package org.folio.inventory.support.metrics;
+
+/**
+ * Reduces request URLs to the paths they were made to, without the host,
+ * query or any record ids, so that requests for different records
+ * are recorded together.
+ */
+public class RequestPaths {
+  static final String ID_PLACEHOLDER = "{id}";
+
+  private RequestPaths() { }
+
+  public static String normalise(String url) {
+    if (url == null || url.isEmpty()) {
+      return "/";
+    }
+
+    int start = 0;
+
+    final int schemeEnd = url.indexOf("://");
+
+    if (schemeEnd >= 0) {
+      start = url.indexOf('/', schemeEnd + 3);
+
+      if (start < 0) {
+        return "/";
+      }
+    }
+
+    int end = url.indexOf('?', start);
+
+    if (end < 0) {
+      end = url.length();
+    }
+
+    final StringBuilder path = new StringBuilder(end - start);
+
+    int segmentStart = start;
+
+    while (segmentStart < end) {
+      int segmentEnd = url.indexOf('/', segmentStart + 1);
+
+      if (segmentEnd < 0 || segmentEnd > end) {
+        segmentEnd = end;
+      }
+
+      // Each segment starts with the separator that precedes it
+      if (isIdentifier(url, segmentStart + 1, segmentEnd)) {
+        path.append('/').append(ID_PLACEHOLDER);
+      } else {
+        path.append(url, segmentStart, segmentEnd);
+      }
+
+      segmentStart = segmentEnd;
+    }
+
+    return path.length() == 0 ? "/" : path.toString();
+  }
+
+  private static boolean isIdentifier(String url, int start, int end) {
+    final int length = end - start;
+
+    if (length <= 0) {
+      return false;
+    }
+
+    return length == 36
+      ? isUuid(url, start)
+      : isNumber(url, start, end);
+  }
+
+  private static boolean isUuid(String url, int start) {
+    for (int index = 0; index < 36; index++) {
+      final char character = url.charAt(start + index);
+
+      if (index == 8 || index == 13 || index == 18 || index == 23) {
+        if (character != '-') {
+          return false;
+        }
+      } else if (Character.digit(character, 16) < 0) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private static boolean isNumber(String url, int start, int end) {
+    for (int index = start; index < end; index++) {
+      if (!Character.isDigit(url.charAt(index))) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+}
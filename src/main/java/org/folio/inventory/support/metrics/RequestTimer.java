@@ -0,0 +1,46 @@
+package org.folio.inventory.support.metrics;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpClientResponse;
+
+/**
+ * Times a single request made to another module, recorded when either
+ * a response or failure is received, whichever happens first
+ */
+public class RequestTimer {
+  private final RequestMetrics metrics;
+  private final long startTime = System.nanoTime();
+  private final AtomicBoolean recorded = new AtomicBoolean();
+
+  RequestTimer(RequestMetrics metrics) {
+    this.metrics = metrics;
+  }
+
+  public Handler<HttpClientResponse> whenResponded(Handler<HttpClientResponse> handler) {
+    return response -> {
+      record(response.statusCode() >= 500);
+
+      if (handler != null) {
+        handler.handle(response);
+      }
+    };
+  }
+
+  public Handler<Throwable> whenFailed(Handler<Throwable> handler) {
+    return exception -> {
+      record(true);
+
+      if (handler != null) {
+        handler.handle(exception);
+      }
+    };
+  }
+
+  private void record(boolean failed) {
+    if (recorded.compareAndSet(false, true)) {
+      metrics.record(System.nanoTime() - startTime, failed);
+    }
+  }
+}
@@ -0,0 +1,208 @@
+package org.folio.inventory.validation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+import org.folio.inventory.domain.instances.Instance;
+import org.folio.inventory.domain.instances.titles.PrecedingSucceedingTitle;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Detects changes to the blocked fields of an instance.
+ *
+ * The comparison for each blocked field is chosen once, when the comparator
+ * is created, and reads the property directly from each instance, rather than
+ * converting both instances to JSON for every comparison. Comparison stops
+ * at the first field that has changed.
+ *
+ * Nested records are compared property by property, as they were when
+ * represented as JSON.
+ */
+public class InstanceBlockedFieldsComparator {
+  private static final Map<String, BiPredicate<Instance, Instance>> COMPARISONS_BY_FIELD
+    = createComparisons();
+
+  private final List<BiPredicate<Instance, Instance>> unchangedChecks;
+
+  public InstanceBlockedFieldsComparator(Set<String> blockedFields) {
+    final List<BiPredicate<Instance, Instance>> checks = new ArrayList<>();
+
+    for (String blockedField : blockedFields) {
+      checks.add(COMPARISONS_BY_FIELD.getOrDefault(blockedField,
+        sameJsonProperty(blockedField)));
+    }
+
+    this.unchangedChecks = Collections.unmodifiableList(checks);
+  }
+
+  /**
+   * Compares existing instance with it's version for update
+   *
+   * @param existingInstance instance that exists in storage
+   * @param updatedInstance  instance with changes for update
+   * @return true if any of the blocked fields are changed
+   */
+  public boolean anyChanged(Instance existingInstance, Instance updatedInstance) {
+    for (BiPredicate<Instance, Instance> unchanged : unchangedChecks) {
+      if (!unchanged.test(existingInstance, updatedInstance)) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  private static Map<String, BiPredicate<Instance, Instance>> createComparisons() {
+    final Map<String, BiPredicate<Instance, Instance>> comparisons = new HashMap<>();
+
+    comparisons.put(Instance.HRID_KEY, sameProperty(Instance::getHrid));
+    comparisons.put(Instance.SOURCE_KEY, sameProperty(Instance::getSource));
+    comparisons.put(Instance.TITLE_KEY, sameProperty(Instance::getTitle));
+    comparisons.put(Instance.INDEX_TITLE_KEY, sameProperty(Instance::getIndexTitle));
+    comparisons.put(Instance.INSTANCE_TYPE_ID_KEY, sameProperty(Instance::getInstanceTypeId));
+    comparisons.put(Instance.MODE_OF_ISSUANCE_ID_KEY, sameProperty(Instance::getModeOfIssuanceId));
+    comparisons.put(Instance.SERIES_KEY, sameProperty(Instance::getSeries));
+    comparisons.put(Instance.EDITIONS_KEY, sameProperty(Instance::getEditions));
+    comparisons.put(Instance.SUBJECTS_KEY, sameProperty(Instance::getSubjects));
+    comparisons.put(Instance.LANGUAGES_KEY, sameProperty(Instance::getLanguages));
+    comparisons.put(Instance.INSTANCE_FORMAT_IDS_KEY, sameProperty(Instance::getInstanceFormatIds));
+    comparisons.put(Instance.PHYSICAL_DESCRIPTIONS_KEY,
+      sameProperty(Instance::getPhysicalDescriptions));
+    comparisons.put(Instance.PUBLICATION_FREQUENCY_KEY,
+      sameProperty(Instance::getPublicationFrequency));
+    comparisons.put(Instance.PUBLICATION_RANGE_KEY, sameProperty(Instance::getPublicationRange));
+
+    comparisons.put(Instance.ALTERNATIVE_TITLES_KEY, sameRecords(Instance::getAlternativeTitles,
+      sameProperties(
+        alternativeTitle -> alternativeTitle.alternativeTitleTypeId,
+        alternativeTitle -> alternativeTitle.alternativeTitle)));
+
+    comparisons.put(Instance.IDENTIFIERS_KEY, sameRecords(Instance::getIdentifiers,
+      sameProperties(
+        identifier -> identifier.identifierTypeId,
+        identifier -> identifier.value)));
+
+    comparisons.put(Instance.CONTRIBUTORS_KEY, sameRecords(Instance::getContributors,
+      sameProperties(
+        contributor -> contributor.contributorNameTypeId,
+        contributor -> contributor.name,
+        contributor -> contributor.contributorTypeId,
+        contributor -> contributor.contributorTypeText,
+        contributor -> contributor.primary)));
+
+    comparisons.put(Instance.PUBLICATION_KEY, sameRecords(Instance::getPublication,
+      sameProperties(
+        publication -> publication.publisher,
+        publication -> publication.place,
+        publication -> publication.dateOfPublication,
+        publication -> publication.role)));
+
+    comparisons.put(Instance.NOTES_KEY, sameRecords(Instance::getNotes,
+      sameProperties(
+        note -> note.instanceNoteTypeId,
+        note -> note.note,
+        note -> note.staffOnly)));
+
+    comparisons.put(Instance.ELECTRONIC_ACCESS_KEY, sameRecords(Instance::getElectronicAccess,
+      sameProperties(
+        electronicAccess -> electronicAccess.uri,
+        electronicAccess -> electronicAccess.linkText,
+        electronicAccess -> electronicAccess.materialsSpecification,
+        electronicAccess -> electronicAccess.publicNote,
+        electronicAccess -> electronicAccess.relationshipId)));
+
+    comparisons.put(Instance.CLASSIFICATIONS_KEY, sameRecords(Instance::getClassifications,
+      sameProperties(
+        classification -> classification.classificationNumber,
+        classification -> classification.classificationTypeId)));
+
+    comparisons.put(Instance.PRECEDING_TITLES_KEY, sameRecords(Instance::getPrecedingTitles,
+      InstanceBlockedFieldsComparator::sameTitle));
+
+    comparisons.put(Instance.SUCCEEDING_TITLES_KEY, sameRecords(Instance::getSucceedingTitles,
+      InstanceBlockedFieldsComparator::sameTitle));
+
+    return Collections.unmodifiableMap(comparisons);
+  }
+
+  private static BiPredicate<Instance, Instance> sameProperty(
+    Function<Instance, ?> property) {
+
+    return (existing, updated) -> Objects.equals(
+      property.apply(existing), property.apply(updated));
+  }
+
+  private static <T> BiPredicate<Instance, Instance> sameRecords(
+    Function<Instance, List<T>> property, BiPredicate<T, T> sameRecord) {
+
+    return (existing, updated) -> {
+      final List<T> existingRecords = property.apply(existing);
+      final List<T> updatedRecords = property.apply(updated);
+
+      if (existingRecords == null || updatedRecords == null) {
+        return existingRecords == updatedRecords;
+      }
+
+      if (existingRecords.size() != updatedRecords.size()) {
+        return false;
+      }
+
+      for (int index = 0; index < existingRecords.size(); index++) {
+        final T existingRecord = existingRecords.get(index);
+        final T updatedRecord = updatedRecords.get(index);
+
+        if (existingRecord == null || updatedRecord == null) {
+          if (existingRecord != updatedRecord) {
+            return false;
+          }
+        } else if (!sameRecord.test(existingRecord, updatedRecord)) {
+          return false;
+        }
+      }
+
+      return true;
+    };
+  }
+
+  @SafeVarargs
+  private static <T> BiPredicate<T, T> sameProperties(Function<T, ?>... properties) {
+    return (existing, updated) -> {
+      for (Function<T, ?> property : properties) {
+        if (!Objects.equals(property.apply(existing), property.apply(updated))) {
+          return false;
+        }
+      }
+
+      return true;
+    };
+  }
+
+  private static boolean sameTitle(PrecedingSucceedingTitle existing,
+    PrecedingSucceedingTitle updated) {
+
+    return Objects.equals(existing.id, updated.id)
+      && Objects.equals(existing.precedingInstanceId, updated.precedingInstanceId)
+      && Objects.equals(existing.succeedingInstanceId, updated.succeedingInstanceId)
+      && Objects.equals(existing.title, updated.title)
+      && Objects.equals(existing.hrid, updated.hrid)
+      && Objects.equals(existing.identifiers, updated.identifiers);
+  }
+
+  /**
+   * Compares a field without a specific comparison, by representing
+   * both instances as JSON
+   */
+  private static BiPredicate<Instance, Instance> sameJsonProperty(String field) {
+    return (existing, updated) -> Objects.equals(
+      JsonObject.mapFrom(existing).getValue(field),
+      JsonObject.mapFrom(updated).getValue(field));
+  }
+}
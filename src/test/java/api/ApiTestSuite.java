@@ -26,6 +26,7 @@ import api.holdings.HoldingApiExample;
 import api.isbns.IsbnUtilsApiExamples;
 import api.items.ItemAllowedStatusesSchemaTest;
 import api.items.ItemApiExamples;
+import api.items.ItemApiLatencyExamples;
 import api.items.ItemApiTitleExamples;
 import api.items.MarkItemMissingApiTests;
 import api.items.MarkItemWithdrawnApiTests;
@@ -53,10 +54,13 @@ import support.fakes.FakeOkapi;
   MarkItemWithdrawnApiTests.class,
   ItemApiMoveExamples.class,
   MarkItemMissingApiTests.class,
-  HoldingsApiMoveExamples.class
+  HoldingsApiMoveExamples.class,
+  ItemApiLatencyExamples.class,
+  InstancesApiLatencyExamples.class
 })
 public class ApiTestSuite {
   public static final int INVENTORY_VERTICLE_TEST_PORT = 9603;
+  private static final int INVENTORY_VERTICLE_TEST_INSTANCES = 2;
   public static final String TENANT_ID = "test_tenant";
 
   public static final UUID ID_FOR_FAILURE = UUID.fromString("fa45a95b-38a3-430b-8f34-548ca005a176");
@@ -249,7 +253,8 @@ public class ApiTestSuite {
     config.put("storage.location", storageLocation);
 
     vertxAssistant.deployVerticle(
-      InventoryVerticle.class.getName(), config, deployed);
+      InventoryVerticle.class.getName(), config,
+      INVENTORY_VERTICLE_TEST_INSTANCES, deployed);
 
     inventoryModuleDeploymentId = deployed.get(20000, TimeUnit.MILLISECONDS);
   }
@@ -10,27 +10,34 @@ import static support.matchers.ResponseMatchers.hasValidationError;
 
 import java.net.MalformedURLException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.folio.inventory.domain.instances.InstanceRelationshipToChild;
 import org.folio.inventory.domain.instances.InstanceRelationshipToParent;
+import org.folio.inventory.support.JsonArrayHelper;
 import org.folio.inventory.support.http.client.IndividualResource;
 import org.folio.inventory.support.http.client.Response;
+import org.folio.inventory.support.http.client.ResponseHandler;
 import org.joda.time.DateTime;
 import org.junit.After;
 import org.junit.Test;
 
+import api.support.ApiRoot;
 import api.support.ApiTests;
 import io.vertx.core.http.HttpMethod;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import support.fakes.EndpointFailureDescriptor;
+import support.fakes.FakeOkapi;
 
 public class InstanceRelationshipsTest extends ApiTests {
   private static final String PARENT_INSTANCES = "parentInstances";
@@ -103,6 +110,29 @@ public class InstanceRelationshipsTest extends ApiTests {
     });
   }
 
+  @Test
+  public void connectedTitlesForPageOfInstancesAreFetchedInBatches() throws Exception {
+    final int expectedCount = 40;
+    createPrecedingSucceedingInstances(expectedCount / 2);
+
+    FakeOkapi.clearRequestsMade();
+
+    final List<JsonObject> instances = instancesClient
+      .getMany("title=(\"preceding\" or \"succeeding\"", expectedCount);
+
+    assertThat(instances.size(), is(expectedCount));
+
+    final List<String> instanceStorageRequests = FakeOkapi.getRequestsMade().stream()
+      .filter(path -> path.startsWith("/instance-storage/instances"))
+      .collect(Collectors.toList());
+
+    // One request for the page, then a single request for all 40 connected
+    // instances, as their ids fit within the maximum query length
+    assertThat(instanceStorageRequests.size(), is(2));
+    assertThat(instanceStorageRequests.stream()
+      .allMatch("/instance-storage/instances"::equals), is(true));
+  }
+
   @Test
   public void canForwardInstancePrecedingSucceedingTitlesFetchFailure() throws Exception {
     final int expectedCount = 4;
@@ -465,6 +495,145 @@ public class InstanceRelationshipsTest extends ApiTests {
       instancesClient.getById(childInstance.getId()).getJson());
   }
 
+  @Test
+  public void canFetchHierarchyOfInstanceOneLevelAtATime() throws Exception {
+    final UUID seriesId = createInstance("series");
+    final UUID subSeriesId = createInstance("sub series");
+    final UUID firstVolumeId = createInstance("first volume");
+    final UUID secondVolumeId = createInstance("second volume");
+    final UUID firstPartId = createInstance("first part");
+    final UUID collectionId = createInstance("collection");
+
+    instanceRelationshipClient.create(createInstanceRelationships(seriesId, subSeriesId));
+    instanceRelationshipClient.create(createInstanceRelationships(subSeriesId, firstVolumeId));
+    instanceRelationshipClient.create(createInstanceRelationships(subSeriesId, secondVolumeId));
+    instanceRelationshipClient.create(createInstanceRelationships(firstVolumeId, firstPartId));
+    instanceRelationshipClient.create(createInstanceRelationships(collectionId, seriesId));
+
+    FakeOkapi.clearRequestsMade();
+
+    final Response response = getHierarchy(subSeriesId, "depth=2");
+
+    assertThat(response.getStatusCode(), is(200));
+
+    final JsonObject hierarchy = response.getJson();
+
+    assertThat(hierarchy.getString("instanceId"), is(subSeriesId.toString()));
+    assertThat(hierarchy.getBoolean("truncated"), is(false));
+
+    assertThat(depthsOf(hierarchy.getJsonArray("ancestors")),
+      is(depths(seriesId, 1, collectionId, 2)));
+
+    assertThat(depthsOf(hierarchy.getJsonArray("descendants")),
+      is(depths(firstVolumeId, 1, secondVolumeId, 1, firstPartId, 2)));
+
+    assertThat(hierarchy.getJsonArray("instanceRelationships").size(), is(5));
+
+    final long relationshipRequests = FakeOkapi.getRequestsMade().stream()
+      .filter(path -> path.startsWith("/instance-storage/instance-relationships"))
+      .count();
+
+    // One request for each level, for both directions
+    assertThat(relationshipRequests, is(2L));
+  }
+
+  @Test
+  public void hierarchyIsLimitedToRequestedDepth() throws Exception {
+    final UUID seriesId = createInstance("series");
+    final UUID volumeId = createInstance("volume");
+    final UUID partId = createInstance("part");
+
+    instanceRelationshipClient.create(createInstanceRelationships(seriesId, volumeId));
+    instanceRelationshipClient.create(createInstanceRelationships(volumeId, partId));
+
+    final JsonObject hierarchy = getHierarchy(seriesId, "depth=1").getJson();
+
+    assertThat(hierarchy.getJsonArray("ancestors").size(), is(0));
+    assertThat(depthsOf(hierarchy.getJsonArray("descendants")),
+      is(depths(volumeId, 1)));
+  }
+
+  @Test
+  public void instancesInCycleAreOnlyIncludedOnce() throws Exception {
+    final UUID firstId = createInstance("first");
+    final UUID secondId = createInstance("second");
+    final UUID thirdId = createInstance("third");
+
+    instanceRelationshipClient.create(createInstanceRelationships(firstId, secondId));
+    instanceRelationshipClient.create(createInstanceRelationships(secondId, thirdId));
+    instanceRelationshipClient.create(createInstanceRelationships(thirdId, firstId));
+
+    final Response response = getHierarchy(firstId, "depth=10");
+
+    assertThat(response.getStatusCode(), is(200));
+
+    final JsonObject hierarchy = response.getJson();
+
+    // The third instance is both the child of the second and the parent of the first
+    assertThat(depthsOf(hierarchy.getJsonArray("ancestors")),
+      is(depths(thirdId, 1)));
+    assertThat(depthsOf(hierarchy.getJsonArray("descendants")),
+      is(depths(secondId, 1)));
+    assertThat(hierarchy.getJsonArray("instanceRelationships").size(), is(3));
+  }
+
+  @Test
+  public void cannotFetchHierarchyWithInvalidDepth() throws Exception {
+    final UUID instanceId = createInstance("instance");
+
+    final Response tooDeep = getHierarchy(instanceId, "depth=11");
+
+    assertThat(tooDeep.getStatusCode(), is(400));
+    assertThat(tooDeep.getBody(), is("depth must be between 1 and 10"));
+
+    final Response notANumber = getHierarchy(instanceId, "depth=deep");
+
+    assertThat(notANumber.getStatusCode(), is(400));
+    assertThat(notANumber.getBody(), is("depth must be a number"));
+  }
+
+  @Test
+  public void cannotFetchHierarchyOfUnknownInstance() throws Exception {
+    assertThat(getHierarchy(UUID.randomUUID(), "depth=1").getStatusCode(), is(404));
+  }
+
+  private UUID createInstance(String title)
+    throws InterruptedException, MalformedURLException, TimeoutException, ExecutionException {
+
+    final UUID id = UUID.randomUUID();
+
+    instancesClient.create(nod(id).put("title", randomString(title)));
+
+    return id;
+  }
+
+  private Response getHierarchy(UUID instanceId, String query)
+    throws MalformedURLException, InterruptedException, ExecutionException, TimeoutException {
+
+    final CompletableFuture<Response> getCompleted = new CompletableFuture<>();
+
+    okapiClient.get(ApiRoot.instanceHierarchy(instanceId, query),
+      ResponseHandler.any(getCompleted));
+
+    return getCompleted.get(5, TimeUnit.SECONDS);
+  }
+
+  private Map<String, Integer> depthsOf(JsonArray instances) {
+    return JsonArrayHelper.toList(instances).stream()
+      .collect(Collectors.toMap(instance -> instance.getString("instanceId"),
+        instance -> instance.getInteger("depth")));
+  }
+
+  private Map<String, Integer> depths(Object... idsAndDepths) {
+    final Map<String, Integer> depths = new HashMap<>();
+
+    for (int index = 0; index < idsAndDepths.length; index += 2) {
+      depths.put(idsAndDepths[index].toString(), (Integer) idsAndDepths[index + 1]);
+    }
+
+    return depths;
+  }
+
   private JsonObject createParentRelationship(String superInstanceId, String relationshipType) {
     return mapFrom(new InstanceRelationshipToParent(UUID.randomUUID().toString(),
       superInstanceId, relationshipType));
@@ -13,6 +13,8 @@ import static io.vertx.core.http.HttpMethod.PUT;
 import static java.util.Arrays.asList;
 import static org.folio.inventory.domain.instances.Instance.TAGS_KEY;
 import static org.folio.inventory.domain.instances.Instance.TAG_LIST_KEY;
+import static org.folio.inventory.support.http.ContentType.APPLICATION_X_NDJSON;
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.hasItems;
 import static org.hamcrest.CoreMatchers.is;
@@ -60,6 +62,7 @@ import api.support.ApiRoot;
 import api.support.ApiTests;
 import api.support.InstanceApiClient;
 import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.buffer.Buffer;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import support.fakes.EndpointFailureDescriptor;
@@ -301,6 +304,167 @@ public class InstancesApiExamples extends ApiTests {
     assertThat(createdTreasureIslandInstance.getString("instanceTypeId"), is(ApiTestSuite.getTextInstanceType()));
   }
 
+  @Test
+  public void canCreateStreamedBatchOfInstancesInChunks()
+    throws MalformedURLException, InterruptedException, ExecutionException, TimeoutException {
+
+    final List<String> instanceIds = new ArrayList<>();
+    final Buffer request = Buffer.buffer();
+
+    for (int index = 0; index < 5; index++) {
+      final String instanceId = UUID.randomUUID().toString();
+      instanceIds.add(instanceId);
+
+      request.appendString(new JsonObject()
+        .put("id", instanceId)
+        .put("title", "Streamed instance " + index)
+        .put("source", "Local")
+        .put("instanceTypeId", ApiTestSuite.getTextInstanceType())
+        .encode())
+        .appendString("\n");
+    }
+
+    request.appendString("{ \"title\": \"Not valid JSON\"\n");
+
+    CompletableFuture<Response> postCompleted = new CompletableFuture<>();
+    okapiClient.post(ApiRoot.instancesBatchStream("chunkSize=2"), request,
+      APPLICATION_X_NDJSON, ResponseHandler.any(postCompleted));
+    Response postResponse = postCompleted.get(5, TimeUnit.SECONDS);
+
+    assertThat(postResponse.getStatusCode(), is(HttpResponseStatus.OK.code()));
+
+    final List<JsonObject> chunks = new ArrayList<>();
+
+    for (String line : postResponse.getBody().split("\n")) {
+      chunks.add(new JsonObject(line));
+    }
+
+    // 5 valid instances in chunks of 2, the invalid line is reported with whichever
+    // chunk is created after it is read
+    assertThat(chunks.size(), is(3));
+    assertThat(chunks.stream()
+      .mapToInt(chunk -> chunk.getInteger("totalRecords")).sum(), is(5));
+    assertThat(chunks.stream()
+      .mapToInt(chunk -> chunk.getJsonArray("errorMessages").size()).sum(), is(1));
+    assertThat(chunks.get(0).getInteger("chunk"), is(1));
+
+    for (String instanceId : instanceIds) {
+      Response getResponse = instancesClient.getById(UUID.fromString(instanceId));
+      assertThat(getResponse.getStatusCode(), is(HttpResponseStatus.OK.code()));
+    }
+  }
+
+  @Test
+  public void invalidLinesInStreamedBatchAreReportedInChunks()
+    throws MalformedURLException, InterruptedException, ExecutionException, TimeoutException {
+
+    final Buffer request = Buffer.buffer();
+
+    for (int index = 0; index < 5; index++) {
+      request.appendString("{ \"title\": \"Not valid JSON\"\n");
+    }
+
+    CompletableFuture<Response> postCompleted = new CompletableFuture<>();
+    okapiClient.post(ApiRoot.instancesBatchStream("chunkSize=2"), request,
+      APPLICATION_X_NDJSON, ResponseHandler.any(postCompleted));
+    Response postResponse = postCompleted.get(5, TimeUnit.SECONDS);
+
+    assertThat(postResponse.getStatusCode(), is(HttpResponseStatus.OK.code()));
+
+    final List<JsonObject> chunks = new ArrayList<>();
+
+    for (String line : postResponse.getBody().split("\n")) {
+      chunks.add(new JsonObject(line));
+    }
+
+    // Error messages are not held until the request ends, at most a chunk's
+    // worth are reported together
+    assertThat(chunks.size(), is(3));
+    assertThat(chunks.stream()
+      .mapToInt(chunk -> chunk.getInteger("totalRecords")).sum(), is(0));
+
+    for (JsonObject chunk : chunks) {
+      assertTrue(chunk.getJsonArray("errorMessages").size() <= 2);
+    }
+
+    assertThat(chunks.stream()
+      .mapToInt(chunk -> chunk.getJsonArray("errorMessages").size()).sum(), is(5));
+  }
+
+  @Test
+  public void canCreateStreamedBatchWhenLastLineHasNoNewline()
+    throws MalformedURLException, InterruptedException, ExecutionException, TimeoutException {
+
+    final List<String> instanceIds = new ArrayList<>();
+    final List<String> lines = new ArrayList<>();
+
+    for (int index = 0; index < 3; index++) {
+      final String instanceId = UUID.randomUUID().toString();
+      instanceIds.add(instanceId);
+
+      lines.add(new JsonObject()
+        .put("id", instanceId)
+        .put("title", "Streamed instance without final newline " + index)
+        .put("source", "Local")
+        .put("instanceTypeId", ApiTestSuite.getTextInstanceType())
+        .encode());
+    }
+
+    CompletableFuture<Response> postCompleted = new CompletableFuture<>();
+    okapiClient.post(ApiRoot.instancesBatchStream("chunkSize=2"),
+      Buffer.buffer(String.join("\n", lines)),
+      APPLICATION_X_NDJSON, ResponseHandler.any(postCompleted));
+    Response postResponse = postCompleted.get(5, TimeUnit.SECONDS);
+
+    assertThat(postResponse.getStatusCode(), is(HttpResponseStatus.OK.code()));
+
+    int totalCreated = 0;
+
+    for (String line : postResponse.getBody().split("\n")) {
+      totalCreated += new JsonObject(line).getInteger("totalRecords");
+    }
+
+    assertThat(totalCreated, is(3));
+
+    for (String instanceId : instanceIds) {
+      Response getResponse = instancesClient.getById(UUID.fromString(instanceId));
+      assertThat(getResponse.getStatusCode(), is(HttpResponseStatus.OK.code()));
+    }
+  }
+
+  @Test
+  public void cannotCreateStreamedBatchWithLineThatIsTooLong()
+    throws MalformedURLException, InterruptedException, ExecutionException, TimeoutException {
+
+    final Buffer request = Buffer.buffer("{ \"title\": \"");
+
+    for (int index = 0; index < 2 * 1024 * 1024; index++) {
+      request.appendByte((byte) 'a');
+    }
+
+    request.appendString("\" }\n");
+
+    CompletableFuture<Response> postCompleted = new CompletableFuture<>();
+    okapiClient.post(ApiRoot.instancesBatchStream("chunkSize=2"), request,
+      APPLICATION_X_NDJSON, ResponseHandler.any(postCompleted));
+    Response postResponse = postCompleted.get(5, TimeUnit.SECONDS);
+
+    assertThat(postResponse.getStatusCode(), is(HttpResponseStatus.BAD_REQUEST.code()));
+    assertThat(postResponse.getBody(), containsString("Line 1 is longer than the maximum"));
+  }
+
+  @Test
+  public void cannotCreateStreamedBatchWithInvalidChunkSize()
+    throws MalformedURLException, InterruptedException, ExecutionException, TimeoutException {
+
+    CompletableFuture<Response> postCompleted = new CompletableFuture<>();
+    okapiClient.post(ApiRoot.instancesBatchStream("chunkSize=0"), Buffer.buffer(),
+      APPLICATION_X_NDJSON, ResponseHandler.any(postCompleted));
+    Response postResponse = postCompleted.get(5, TimeUnit.SECONDS);
+
+    assertThat(postResponse.getStatusCode(), is(HttpResponseStatus.BAD_REQUEST.code()));
+  }
+
   @Test
   public void shouldReturnServerErrorIfOneInstancePostedWithoutTitle() throws MalformedURLException, InterruptedException, ExecutionException, TimeoutException {
     // Prepare request data
@@ -773,6 +937,144 @@ public class InstancesApiExamples extends ApiTests {
     hasCollectionProperties(secondPageInstances);
   }
 
+  @Test
+  public void canPageAllInstancesUsingCursor()
+    throws InterruptedException,
+    MalformedURLException,
+    TimeoutException,
+    ExecutionException {
+
+    final List<String> createdIds = new ArrayList<>();
+
+    createdIds.add(createInstance(smallAngryPlanet(UUID.randomUUID())).getString("id"));
+    createdIds.add(createInstance(nod(UUID.randomUUID())).getString("id"));
+    createdIds.add(createInstance(temeraire(UUID.randomUUID())).getString("id"));
+    createdIds.add(createInstance(leviathanWakes(UUID.randomUUID())).getString("id"));
+    createdIds.add(createInstance(taoOfPooh(UUID.randomUUID())).getString("id"));
+
+    final List<String> fetchedIds = new ArrayList<>();
+    final List<Integer> pageSizes = new ArrayList<>();
+
+    String cursor = "*";
+
+    while (cursor != null) {
+      CompletableFuture<Response> pageGetCompleted = new CompletableFuture<>();
+
+      okapiClient.get(ApiRoot.instances("limit=2&cursor=" + cursor),
+        ResponseHandler.json(pageGetCompleted));
+
+      Response pageResponse = pageGetCompleted.get(5, TimeUnit.SECONDS);
+
+      assertThat(pageResponse.getStatusCode(), is(200));
+
+      List<JsonObject> pageInstances = JsonArrayHelper.toList(
+        pageResponse.getJson().getJsonArray("instances"));
+
+      hasCollectionProperties(pageInstances);
+
+      pageSizes.add(pageInstances.size());
+      pageInstances.forEach(instance -> fetchedIds.add(instance.getString("id")));
+
+      cursor = pageResponse.getJson().getString("nextCursor");
+    }
+
+    createdIds.sort(String::compareTo);
+
+    assertThat(pageSizes, is(asList(2, 2, 1)));
+    assertThat("all instances fetched once in id order", fetchedIds, is(createdIds));
+  }
+
+  @Test
+  public void canSearchForInstancesUsingCursor()
+    throws InterruptedException,
+    MalformedURLException,
+    TimeoutException,
+    ExecutionException {
+
+    createInstance(smallAngryPlanet(UUID.randomUUID()));
+    createInstance(nod(UUID.randomUUID()));
+    createInstance(uprooted(UUID.randomUUID()));
+
+    CompletableFuture<Response> searchGetCompleted = new CompletableFuture<>();
+
+    okapiClient.get(ApiRoot.instances("query=title=Small%20Angry*&limit=1&cursor=*"),
+      ResponseHandler.json(searchGetCompleted));
+
+    Response searchGetResponse = searchGetCompleted.get(5, TimeUnit.SECONDS);
+
+    assertThat(searchGetResponse.getStatusCode(), is(200));
+
+    List<JsonObject> instances = JsonArrayHelper.toList(
+      searchGetResponse.getJson().getJsonArray("instances"));
+
+    assertThat(instances.size(), is(1));
+    assertThat(instances.get(0).getString("title"), is("Long Way to a Small Angry Planet"));
+
+    CompletableFuture<Response> nextPageGetCompleted = new CompletableFuture<>();
+
+    okapiClient.get(ApiRoot.instances("query=title=Small%20Angry*&limit=1&cursor="
+        + searchGetResponse.getJson().getString("nextCursor")),
+      ResponseHandler.json(nextPageGetCompleted));
+
+    Response nextPageResponse = nextPageGetCompleted.get(5, TimeUnit.SECONDS);
+
+    assertThat(nextPageResponse.getStatusCode(), is(200));
+    assertThat(nextPageResponse.getJson().getJsonArray("instances").isEmpty(), is(true));
+    assertThat(nextPageResponse.getJson().containsKey("nextCursor"), is(false));
+  }
+
+  @Test
+  public void cursorMustBeValid()
+    throws InterruptedException,
+    MalformedURLException,
+    TimeoutException,
+    ExecutionException {
+
+    CompletableFuture<Response> getPagedCompleted = new CompletableFuture<>();
+
+    okapiClient.get(ApiRoot.instances("cursor=not-a-cursor"),
+      ResponseHandler.text(getPagedCompleted));
+
+    Response getPagedResponse = getPagedCompleted.get(5, TimeUnit.SECONDS);
+
+    assertThat(getPagedResponse.getStatusCode(), is(400));
+    assertThat(getPagedResponse.getBody(), is("cursor is not valid"));
+  }
+
+  @Test
+  public void cursorCannotBeUsedWithSortedQuery()
+    throws InterruptedException,
+    MalformedURLException,
+    TimeoutException,
+    ExecutionException {
+
+    CompletableFuture<Response> getPagedCompleted = new CompletableFuture<>();
+
+    okapiClient.get(ApiRoot.instances("query=title=Small%20sortBy%20title&cursor=*"),
+      ResponseHandler.text(getPagedCompleted));
+
+    Response getPagedResponse = getPagedCompleted.get(5, TimeUnit.SECONDS);
+
+    assertThat(getPagedResponse.getStatusCode(), is(400));
+  }
+
+  @Test
+  public void cursorCanBeUsedWithQueryForSortByTerm()
+    throws InterruptedException,
+    MalformedURLException,
+    TimeoutException,
+    ExecutionException {
+
+    CompletableFuture<Response> getPagedCompleted = new CompletableFuture<>();
+
+    okapiClient.get(ApiRoot.instances("query=title=%22sortBy%20title%22&cursor=*"),
+      ResponseHandler.any(getPagedCompleted));
+
+    Response getPagedResponse = getPagedCompleted.get(5, TimeUnit.SECONDS);
+
+    assertThat(getPagedResponse.getStatusCode(), is(200));
+  }
+
   @Test
   public void pageParametersMustBeNumeric()
     throws InterruptedException,
@@ -0,0 +1,82 @@
+package api;
+
+import static api.support.InstanceSamples.nod;
+import static api.support.InstanceSamples.smallAngryPlanet;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.net.MalformedURLException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import org.folio.inventory.support.http.client.Response;
+import org.junit.After;
+import org.junit.Test;
+
+import api.support.ApiTests;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import support.fakes.FakeOkapi;
+import support.fakes.FakeOkapi.TimedRequest;
+
+public class InstancesApiLatencyExamples extends ApiTests {
+  private static final long STORAGE_DELAY_MILLISECONDS = 250;
+
+  @After
+  public void removeStorageDelay() {
+    FakeOkapi.setRequestDelay(0);
+  }
+
+  @Test
+  public void relationshipsAndTitlesAreFetchedAtSameTime()
+    throws InterruptedException,
+    ExecutionException,
+    TimeoutException,
+    MalformedURLException {
+
+    UUID precedingInstanceId = UUID.randomUUID();
+
+    instancesClient.create(nod(precedingInstanceId));
+
+    UUID instanceId = UUID.randomUUID();
+
+    instancesClient.create(smallAngryPlanet(instanceId)
+      .put("precedingTitles", new JsonArray().add(new JsonObject()
+        .put("precedingInstanceId", precedingInstanceId.toString()))));
+
+    // Each storage request takes long enough that any made at the same time overlap
+    FakeOkapi.setRequestDelay(STORAGE_DELAY_MILLISECONDS);
+    FakeOkapi.clearRequestsMade();
+
+    Response getResponse = instancesClient.getById(instanceId);
+
+    assertThat(getResponse.getStatusCode(), is(200));
+
+    JsonArray precedingTitles = getResponse.getJson().getJsonArray("precedingTitles");
+
+    assertThat(precedingTitles.size(), is(1));
+    assertThat(precedingTitles.getJsonObject(0).getString("precedingInstanceId"),
+      is(precedingInstanceId.toString()));
+
+    List<TimedRequest> requestsMade = FakeOkapi.getTimedRequestsMade();
+
+    // The instance, then its titles and then the connected instances are
+    // dependent upon each other, the relationships should not wait for the titles
+    TimedRequest relationshipsRequest = requestTo(requestsMade,
+      "/instance-storage/instance-relationships");
+    TimedRequest titlesRequest = requestTo(requestsMade, "/preceding-succeeding-titles");
+
+    assertThat(String.format("%s overlaps %s", relationshipsRequest, titlesRequest),
+      relationshipsRequest.overlaps(titlesRequest), is(true));
+  }
+
+  private static TimedRequest requestTo(List<TimedRequest> requestsMade, String path) {
+    return requestsMade.stream()
+      .filter(request -> request.getPath().startsWith(path))
+      .findFirst()
+      .orElseThrow(() -> new AssertionError(
+        String.format("No request to %s in %s", path, requestsMade)));
+  }
+}
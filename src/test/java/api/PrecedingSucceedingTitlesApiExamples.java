@@ -14,6 +14,7 @@ import static support.matchers.ResponseMatchers.hasValidationError;
 
 import java.net.MalformedURLException;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ExecutionException;
@@ -30,6 +31,7 @@ import org.junit.Test;
 import api.support.ApiTests;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import support.fakes.FakeOkapi;
 
 public class PrecedingSucceedingTitlesApiExamples extends ApiTests {
 
@@ -265,6 +267,35 @@ public class PrecedingSucceedingTitlesApiExamples extends ApiTests {
         .get(validInstance.getString("id")), notNullValue()));
   }
 
+  @Test
+  public void precedingTitlesForBatchOfInstancesAreFetchedTogether()
+    throws InterruptedException, MalformedURLException, TimeoutException,
+    ExecutionException {
+
+    final int numberOfInstances = 10;
+    final JsonArray instances = new JsonArray();
+
+    for (int index = 0; index < numberOfInstances; index++) {
+      instances.add(smallAngryPlanet(UUID.randomUUID())
+        .put(PRECEDING_TITLES_KEY, new JsonArray()
+          .add(createSemanticWebUnconnectedTitle(UUID.randomUUID().toString()))));
+    }
+
+    FakeOkapi.clearRequestsMade();
+
+    instancesBatchClient.create(new JsonObject()
+      .put("instances", instances)
+      .put("totalRecords", numberOfInstances));
+
+    final List<String> titleRequests = FakeOkapi.getRequestsMade().stream()
+      .filter(path -> path.startsWith("/preceding-succeeding-titles"))
+      .collect(Collectors.toList());
+
+    // One request to fetch existing titles for the whole batch, then one for each new title
+    assertThat(titleRequests.size(), is(numberOfInstances + 1));
+    assertThat(precedingSucceedingTitlesClient.getAll().size(), is(numberOfInstances));
+  }
+
   @Test
   public void canDeleteUnconnectedPrecedingTitle()
     throws InterruptedException, MalformedURLException, TimeoutException,
@@ -36,6 +36,7 @@ import static support.matchers.TextDateTimeMatcher.withinSecondsAfter;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
@@ -61,13 +62,16 @@ import org.junit.runner.RunWith;
 import api.ApiTestSuite;
 import api.support.ApiRoot;
 import api.support.ApiTests;
+import api.support.ControlledVocabularyPreparation;
 import api.support.InstanceApiClient;
 import api.support.builders.HoldingRequestBuilder;
 import api.support.builders.ItemRequestBuilder;
+import api.support.http.ResourceClient;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
 import junitparams.JUnitParamsRunner;
 import junitparams.Parameters;
+import support.fakes.FakeOkapi;
 
 @RunWith(JUnitParamsRunner.class)
 public class ItemApiExamples extends ApiTests {
@@ -619,6 +623,76 @@ public class ItemApiExamples extends ApiTests {
     assertThat(getAllResponse.getJson().getInteger("totalRecords"), is(2));
   }
 
+  @Test
+  public void referenceRecordsForPageOfItemsAreFetchedInBatches()
+    throws InterruptedException,
+    MalformedURLException,
+    TimeoutException,
+    ExecutionException {
+
+    JsonObject instance = createInstance(smallAngryPlanet(UUID.randomUUID()));
+
+    UUID holdingId = holdingsStorageClient.create(
+      new HoldingRequestBuilder()
+        .forInstance(UUID.fromString(instance.getString("id"))))
+      .getId();
+
+    // Reference records which have never been used cannot already be cached,
+    // so each type has to be fetched at least once
+    JsonObject materialType = createMaterialType("Batch example " + UUID.randomUUID());
+    JsonObject loanType = createLoanType("Batch example " + UUID.randomUUID());
+    JsonObject location = createLocation("Batch example " + UUID.randomUUID());
+
+    itemsClient.create(new ItemRequestBuilder()
+      .forHolding(holdingId)
+      .book()
+      .canCirculate()
+      .withBarcode("645398607547")
+      .create()
+      .put("materialType", materialType)
+      .put("permanentLoanType", loanType)
+      .put("permanentLocation", location));
+
+    itemsClient.create(new ItemRequestBuilder()
+      .forHolding(holdingId)
+      .dvd()
+      .courseReserves()
+      .temporarilyInReadingRoom()
+      .withBarcode("175848607547"));
+
+    itemsClient.create(new ItemRequestBuilder()
+      .forHolding(holdingId)
+      .book()
+      .canCirculate()
+      .temporarilyCourseReserves()
+      .withBarcode("645334645247")
+      .create()
+      .put("materialType", materialType)
+      .put("permanentLoanType", loanType));
+
+    FakeOkapi.clearRequestsMade();
+
+    CompletableFuture<Response> getCompleted = new CompletableFuture<>();
+
+    okapiClient.get(ApiRoot.items(), ResponseHandler.json(getCompleted));
+
+    Response getResponse = getCompleted.get(5, TimeUnit.SECONDS);
+
+    assertThat(getResponse.getStatusCode(), is(200));
+    assertThat(getResponse.getJson().getJsonArray("items").size(), is(3));
+
+    List<String> requestsMade = FakeOkapi.getRequestsMade();
+
+    assertThat(requestsTo(requestsMade, "/material-types"), is(1L));
+    assertThat(requestsTo(requestsMade, "/loan-types"), is(1L));
+    assertThat(requestsTo(requestsMade, "/locations"), is(1L));
+
+    assertThat("Reference records should not be fetched individually",
+      requestsMade.stream().anyMatch(path -> path.startsWith("/material-types/")
+        || path.startsWith("/loan-types/") || path.startsWith("/locations/")),
+      is(false));
+  }
+
   @Test
   public void canPageAllItems()
     throws InterruptedException,
@@ -739,6 +813,82 @@ public class ItemApiExamples extends ApiTests {
     secondPageItems.forEach(this::assertCallNumbers);
   }
 
+  @Test
+  public void canPageAllItemsUsingCursor()
+    throws InterruptedException,
+    MalformedURLException,
+    TimeoutException,
+    ExecutionException {
+
+    JsonObject nodInstance = createInstance(nod(UUID.randomUUID()));
+
+    UUID nodHoldingId = holdingsStorageClient.create(
+      new HoldingRequestBuilder()
+        .forInstance(UUID.fromString(nodInstance.getString("id")))
+    ).getId();
+
+    final List<String> createdIds = new ArrayList<>();
+
+    createdIds.add(itemsClient.create(new ItemRequestBuilder()
+      .forHolding(nodHoldingId)
+      .book()
+      .canCirculate()
+      .withBarcode("564566456546")).getId().toString());
+
+    createdIds.add(itemsClient.create(new ItemRequestBuilder()
+      .forHolding(nodHoldingId)
+      .book()
+      .canCirculate()
+      .withBarcode("943209584495")).getId().toString());
+
+    createdIds.add(itemsClient.create(new ItemRequestBuilder()
+      .forHolding(nodHoldingId)
+      .book()
+      .canCirculate()
+      .withBarcode("645398607547")).getId().toString());
+
+    final List<String> fetchedIds = new ArrayList<>();
+
+    CompletableFuture<Response> firstPageGetCompleted = new CompletableFuture<>();
+
+    okapiClient.get(ApiRoot.items("limit=2&cursor=*"),
+      ResponseHandler.json(firstPageGetCompleted));
+
+    Response firstPageResponse = firstPageGetCompleted.get(5, TimeUnit.SECONDS);
+
+    assertThat(firstPageResponse.getStatusCode(), is(200));
+
+    List<JsonObject> firstPageItems = JsonArrayHelper.toList(
+      firstPageResponse.getJson().getJsonArray("items"));
+
+    assertThat(firstPageItems.size(), is(2));
+
+    firstPageItems.forEach(item -> fetchedIds.add(item.getString("id")));
+    firstPageItems.forEach(ItemApiExamples::hasConsistentMaterialType);
+
+    CompletableFuture<Response> secondPageGetCompleted = new CompletableFuture<>();
+
+    okapiClient.get(ApiRoot.items("limit=2&cursor="
+        + firstPageResponse.getJson().getString("nextCursor")),
+      ResponseHandler.json(secondPageGetCompleted));
+
+    Response secondPageResponse = secondPageGetCompleted.get(5, TimeUnit.SECONDS);
+
+    assertThat(secondPageResponse.getStatusCode(), is(200));
+
+    List<JsonObject> secondPageItems = JsonArrayHelper.toList(
+      secondPageResponse.getJson().getJsonArray("items"));
+
+    assertThat(secondPageItems.size(), is(1));
+    assertThat(secondPageResponse.getJson().containsKey("nextCursor"), is(false));
+
+    secondPageItems.forEach(item -> fetchedIds.add(item.getString("id")));
+
+    createdIds.sort(String::compareTo);
+
+    assertThat("all items fetched once in id order", fetchedIds, is(createdIds));
+  }
+
   @Test
   public void CanGetAllItemsWithDifferentTemporaryLoanType()
     throws InterruptedException,
@@ -1821,4 +1971,65 @@ public class ItemApiExamples extends ApiTests {
       .map(Object::toString)
       .collect(Collectors.toList());
   }
+
+  private JsonObject createMaterialType(String name)
+    throws MalformedURLException,
+    InterruptedException,
+    ExecutionException,
+    TimeoutException {
+
+    ControlledVocabularyPreparation materialTypePreparation =
+      new ControlledVocabularyPreparation(okapiClient,
+        new URL(String.format("%s/material-types", ApiTestSuite.storageOkapiUrl())),
+        "mtypes");
+
+    return new JsonObject()
+      .put("id", materialTypePreparation.createOrReferenceTerm(name))
+      .put("name", name);
+  }
+
+  private JsonObject createLoanType(String name)
+    throws MalformedURLException,
+    InterruptedException,
+    ExecutionException,
+    TimeoutException {
+
+    ControlledVocabularyPreparation loanTypePreparation =
+      new ControlledVocabularyPreparation(okapiClient,
+        new URL(String.format("%s/loan-types", ApiTestSuite.storageOkapiUrl())),
+        "loantypes");
+
+    return new JsonObject()
+      .put("id", loanTypePreparation.createOrReferenceTerm(name))
+      .put("name", name);
+  }
+
+  private JsonObject createLocation(String name)
+    throws MalformedURLException,
+    InterruptedException,
+    ExecutionException,
+    TimeoutException {
+
+    final String servicePointId = UUID.randomUUID().toString();
+
+    IndividualResource location = ResourceClient.forLocations(okapiClient).create(
+      new JsonObject()
+        .put("name", name)
+        .put("code", name)
+        .put("institutionId", UUID.randomUUID().toString())
+        .put("campusId", UUID.randomUUID().toString())
+        .put("libraryId", UUID.randomUUID().toString())
+        .put("primaryServicePoint", servicePointId)
+        .put("servicePointIds", new JsonArray().add(servicePointId)));
+
+    return new JsonObject()
+      .put("id", location.getId().toString())
+      .put("name", name);
+  }
+
+  private static long requestsTo(List<String> requestsMade, String path) {
+    return requestsMade.stream()
+      .filter(path::equals)
+      .count();
+  }
 }
@@ -0,0 +1,112 @@
+package api.items;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+
+import org.folio.inventory.support.http.client.IndividualResource;
+import org.folio.inventory.support.http.client.Response;
+import org.junit.After;
+import org.junit.Test;
+
+import api.ApiTestSuite;
+import api.support.ApiTests;
+import api.support.ControlledVocabularyPreparation;
+import api.support.builders.HoldingRequestBuilder;
+import api.support.builders.ItemRequestBuilder;
+import api.support.fixtures.InstanceRequestExamples;
+import io.vertx.core.json.JsonObject;
+import support.fakes.FakeOkapi;
+import support.fakes.FakeOkapi.TimedRequest;
+
+public class ItemApiLatencyExamples extends ApiTests {
+  private static final long STORAGE_DELAY_MILLISECONDS = 250;
+
+  public ItemApiLatencyExamples() throws MalformedURLException {
+    super();
+  }
+
+  @After
+  public void removeStorageDelay() {
+    FakeOkapi.setRequestDelay(0);
+  }
+
+  @Test
+  public void referenceRecordsAreFetchedAtSameTimeAsHoldingAndInstance()
+    throws InterruptedException,
+    ExecutionException,
+    TimeoutException,
+    MalformedURLException {
+
+    UUID instanceId = instancesClient.create(
+      InstanceRequestExamples.smallAngryPlanet()).getId();
+
+    UUID holdingId = holdingsStorageClient.create(
+      new HoldingRequestBuilder()
+        .forInstance(instanceId))
+      .getId();
+
+    // A material type which has never been used cannot already be cached
+    JsonObject materialType = createMaterialType(
+      "Latency example " + UUID.randomUUID());
+
+    IndividualResource createdItem = itemsClient.create(new ItemRequestBuilder()
+      .forHolding(holdingId)
+      .canCirculate()
+      .withBarcode("645398607547")
+      .create()
+      .put("materialType", materialType));
+
+    // Each storage request takes long enough that any made at the same time overlap
+    FakeOkapi.setRequestDelay(STORAGE_DELAY_MILLISECONDS);
+    FakeOkapi.clearRequestsMade();
+
+    Response getResponse = itemsClient.getById(createdItem.getId());
+
+    assertThat(getResponse.getStatusCode(), is(200));
+    assertThat(getResponse.getJson().getJsonObject("materialType")
+      .getString("id"), is(materialType.getString("id")));
+    assertThat(getResponse.getJson().getString("title"),
+      is("Long Way to a Small Angry Planet"));
+
+    List<TimedRequest> requestsMade = FakeOkapi.getTimedRequestsMade();
+
+    // Item, then holding and then instance are dependent upon each other,
+    // the material type should not wait for any of the holding or instance
+    TimedRequest materialTypeRequest = requestTo(requestsMade, "/material-types");
+    TimedRequest holdingRequest = requestTo(requestsMade, "/holdings-storage/holdings");
+
+    assertThat(String.format("%s overlaps %s", materialTypeRequest, holdingRequest),
+      materialTypeRequest.overlaps(holdingRequest), is(true));
+  }
+
+  private static TimedRequest requestTo(List<TimedRequest> requestsMade, String path) {
+    return requestsMade.stream()
+      .filter(request -> request.getPath().startsWith(path))
+      .findFirst()
+      .orElseThrow(() -> new AssertionError(
+        String.format("No request to %s in %s", path, requestsMade)));
+  }
+
+  private JsonObject createMaterialType(String name)
+    throws MalformedURLException,
+    InterruptedException,
+    ExecutionException,
+    TimeoutException {
+
+    ControlledVocabularyPreparation materialTypePreparation =
+      new ControlledVocabularyPreparation(okapiClient,
+        new URL(String.format("%s/material-types", ApiTestSuite.storageOkapiUrl())),
+        "mtypes");
+
+    return new JsonObject()
+      .put("id", materialTypePreparation.createOrReferenceTerm(name))
+      .put("name", name);
+  }
+}
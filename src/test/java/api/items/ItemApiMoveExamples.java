@@ -3,6 +3,7 @@ package api.items;
 import static api.ApiTestSuite.ID_FOR_FAILURE;
 import static api.support.InstanceSamples.smallAngryPlanet;
 import static org.folio.inventory.support.http.ContentType.APPLICATION_JSON;
+import static org.awaitility.Awaitility.await;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
@@ -19,6 +20,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import org.apache.commons.lang3.StringUtils;
+import org.awaitility.Duration;
 import org.folio.inventory.domain.items.ItemStatusName;
 import org.folio.inventory.support.http.client.IndividualResource;
 import org.folio.inventory.support.http.client.Response;
@@ -229,6 +231,84 @@ public class ItemApiMoveExamples extends ApiTests {
     assertThat(existedHoldingId.toString(), equalTo(updatedItem2.getString(HOLDINGS_RECORD_ID)));
   }
 
+  @Test
+  public void canMoveItemsInTheBackground() throws InterruptedException, MalformedURLException, TimeoutException, ExecutionException {
+
+    UUID instanceId = UUID.randomUUID();
+    InstanceApiClient.createInstance(okapiClient, smallAngryPlanet(instanceId));
+
+    final UUID existedHoldingId = createHoldingForInstance(instanceId);
+    final UUID newHoldingId = createHoldingForInstance(instanceId);
+
+    final UUID nonExistedItemId = UUID.randomUUID();
+
+    final IndividualResource createItem1 = itemsClient.create(new ItemRequestBuilder().forHolding(existedHoldingId)
+      .withBarcode("645398607547")
+      .withStatus(ItemStatusName.AVAILABLE.value()));
+
+    final IndividualResource createItem2 = itemsClient.create(new ItemRequestBuilder().forHolding(existedHoldingId)
+      .withBarcode("645398607546")
+      .withStatus(ItemStatusName.AVAILABLE.value()));
+
+    JsonObject itemsMoveRequestBody = new ItemsMoveRequestBuilder(newHoldingId,
+        new JsonArray(Arrays.asList(createItem1.getId(), nonExistedItemId, createItem2.getId()))).create();
+
+    CompletableFuture<Response> postItemsMoveCompleted = new CompletableFuture<>();
+    okapiClient.post(ApiRoot.moveItems("async=true"), itemsMoveRequestBody, ResponseHandler.any(postItemsMoveCompleted));
+    Response postItemsMoveResponse = postItemsMoveCompleted.get(5, TimeUnit.SECONDS);
+
+    assertThat(postItemsMoveResponse.getStatusCode(), is(202));
+    assertThat(postItemsMoveResponse.getLocation(), containsString("/inventory/items/move/status/"));
+
+    final String statusLocation = postItemsMoveResponse.getLocation();
+
+    await()
+      .atMost(new Duration(5, TimeUnit.SECONDS))
+      .catchUncaughtExceptions()
+      .untilAsserted(() -> assertThat(getMoveStatus(statusLocation).getString("status"),
+        is("Completed")));
+
+    JsonObject status = getMoveStatus(statusLocation);
+
+    assertThat(status.getInteger("totalRecords"), is(3));
+    assertThat(status.getInteger("done"), is(2));
+    assertThat(status.getInteger("failed"), is(1));
+    assertThat(status.getInteger("pending"), is(0));
+    assertThat(status.getJsonArray("nonUpdatedIds").getList(),
+      is(Collections.singletonList(nonExistedItemId.toString())));
+
+    JsonObject updatedItem1 = itemsClient.getById(createItem1.getId())
+      .getJson();
+    JsonObject updatedItem2 = itemsClient.getById(createItem2.getId())
+      .getJson();
+
+    Assert.assertEquals(newHoldingId.toString(), updatedItem1.getString(HOLDINGS_RECORD_ID));
+    Assert.assertEquals(newHoldingId.toString(), updatedItem2.getString(HOLDINGS_RECORD_ID));
+  }
+
+  @Test
+  public void cannotGetStatusOfUnknownMove() throws InterruptedException, MalformedURLException, TimeoutException, ExecutionException {
+    CompletableFuture<Response> getCompleted = new CompletableFuture<>();
+
+    okapiClient.get(ApiRoot.moveItemsStatus(UUID.randomUUID().toString()),
+      ResponseHandler.any(getCompleted));
+
+    Response getResponse = getCompleted.get(5, TimeUnit.SECONDS);
+
+    assertThat(getResponse.getStatusCode(), is(404));
+  }
+
+  private JsonObject getMoveStatus(String statusLocation) throws InterruptedException, ExecutionException, TimeoutException {
+    CompletableFuture<Response> getCompleted = new CompletableFuture<>();
+    okapiClient.get(statusLocation, ResponseHandler.json(getCompleted));
+
+    Response getResponse = getCompleted.get(5, TimeUnit.SECONDS);
+
+    assertThat(getResponse.getStatusCode(), is(200));
+
+    return getResponse.getJson();
+  }
+
   private Response moveItems(JsonObject itemsMoveRequestBody) throws MalformedURLException, InterruptedException, ExecutionException, TimeoutException {
     CompletableFuture<Response> postItemsMoveCompleted = new CompletableFuture<>();
     okapiClient.post(ApiRoot.moveItems(), itemsMoveRequestBody, ResponseHandler.any(postItemsMoveCompleted));
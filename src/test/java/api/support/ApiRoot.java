@@ -4,6 +4,7 @@ import api.ApiTestSuite;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.UUID;
 
 public class ApiRoot {
   public static String inventory() {
@@ -25,12 +26,24 @@ public class ApiRoot {
     return new URL(String.format("%s/instances/batch", inventory()));
   }
 
+  public static URL instancesBatchStream(String query)
+    throws MalformedURLException {
+    return new URL(String.format("%s/instances/batch/stream?%s", inventory(), query));
+  }
+
   public static URL instances(String query)
     throws MalformedURLException {
 
     return new URL(String.format("%s/instances?%s", inventory(), query));
   }
 
+  public static URL instanceHierarchy(UUID instanceId, String query)
+    throws MalformedURLException {
+
+    return new URL(String.format("%s/instances/%s/hierarchy?%s", inventory(),
+      instanceId, query));
+  }
+
   public static URL items()
     throws MalformedURLException {
 
@@ -43,6 +56,18 @@ public class ApiRoot {
     return new URL(String.format("%s/items/move", inventory()));
   }
 
+  public static URL moveItems(String query)
+    throws MalformedURLException {
+
+    return new URL(String.format("%s/items/move?%s", inventory(), query));
+  }
+
+  public static URL moveItemsStatus(String id)
+    throws MalformedURLException {
+
+    return new URL(String.format("%s/items/move/status/%s", inventory(), id));
+  }
+
   public static URL moveHoldingsRecords()
     throws MalformedURLException {
 
@@ -0,0 +1,28 @@
+package org.folio.inventory.common.api.request;
+
+import static org.folio.inventory.common.api.request.PagingParameters.hasSortClause;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+public class PagingParametersTest {
+  @Test
+  public void queryWithSortClauseIsSorted() {
+    assertThat(hasSortClause("title=Small sortBy title"), is(true));
+    assertThat(hasSortClause("(title=Small) SORTBY title/sort.descending"), is(true));
+  }
+
+  @Test
+  public void queryWithoutSortClauseIsNotSorted() {
+    assertThat(hasSortClause(null), is(false));
+    assertThat(hasSortClause("title=Small"), is(false));
+  }
+
+  @Test
+  public void searchTermContainingSortByIsNotSortClause() {
+    assertThat(hasSortClause("title=\"sortBy title\""), is(false));
+    assertThat(hasSortClause("title=\"a \\\" sortBy b\""), is(false));
+    assertThat(hasSortClause("title=sortbyish"), is(false));
+  }
+}
@@ -0,0 +1,142 @@
+package org.folio.inventory.dataimport;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vertx.core.Future;
+import io.vertx.core.Handler;
+import io.vertx.core.WorkerExecutor;
+
+public class DataImportWorkerPoolTest {
+  private final List<Handler<Future<Object>>> submitted = new ArrayList<>();
+  private DataImportWorkerPool pool;
+
+  @Before
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    final WorkerExecutor executor = mock(WorkerExecutor.class);
+
+    doAnswer(invocation -> {
+      submitted.add(invocation.getArgument(0));
+      return null;
+    }).when(executor).executeBlocking(any(Handler.class), anyBoolean(), any());
+
+    pool = new DataImportWorkerPool(executor, 2);
+  }
+
+  @Test
+  public void tasksWaitingForThreadAreCounted() {
+    pool.execute(this::handled);
+    pool.execute(this::handled);
+    pool.execute(this::handled);
+
+    assertThat(pool.getWaiting(), is(3));
+    assertThat(pool.getQueued(), is(1L));
+
+    runSubmitted(0);
+
+    assertThat(pool.getWaiting(), is(2));
+    assertThat(pool.getExecuted(), is(1L));
+  }
+
+  @Test
+  public void tasksBeingRunAreCounted() {
+    final List<Integer> activeWhileRunning = new ArrayList<>();
+
+    pool.execute(() -> {
+      activeWhileRunning.add(pool.getActive());
+      return handled();
+    });
+
+    runSubmitted(0);
+
+    assertThat(activeWhileRunning.get(0), is(1));
+    assertThat(pool.getActive(), is(0));
+    assertThat(pool.getWaiting(), is(0));
+    assertThat(pool.getQueued(), is(0L));
+  }
+
+  @Test
+  public void taskThatFailsIsNoLongerActive() {
+    pool.execute(() -> {
+      throw new IllegalStateException("Failed to handle event");
+    });
+
+    try {
+      runSubmitted(0);
+    } catch (IllegalStateException e) {
+      // Vert.x fails the future of a task that throws
+    }
+
+    assertThat(pool.getActive(), is(0));
+    assertThat(pool.getExecuted(), is(1L));
+  }
+
+  @Test
+  public void taskIsActiveUntilItsFutureCompletes() {
+    final CompletableFuture<Void> handling = new CompletableFuture<>();
+
+    pool.execute(() -> handling);
+
+    runSubmitted(0);
+
+    assertThat(pool.getActive(), is(1));
+    assertThat(pool.getExecuted(), is(0L));
+
+    handling.complete(null);
+
+    assertThat(pool.getActive(), is(0));
+    assertThat(pool.getExecuted(), is(1L));
+  }
+
+  @Test
+  public void taskWithFailedFutureIsNoLongerActive() {
+    final CompletableFuture<Void> handling = new CompletableFuture<>();
+
+    pool.execute(() -> handling);
+
+    runSubmitted(0);
+
+    handling.completeExceptionally(new IllegalStateException("Failed to handle event"));
+
+    assertThat(pool.getActive(), is(0));
+    assertThat(pool.getExecuted(), is(1L));
+  }
+
+  @Test
+  public void taskWaitingForFutureDoesNotCauseOthersToBeQueued() {
+    final CompletableFuture<Void> first = new CompletableFuture<>();
+    final CompletableFuture<Void> second = new CompletableFuture<>();
+
+    pool.execute(() -> first);
+    pool.execute(() -> second);
+
+    runSubmitted(0);
+    runSubmitted(1);
+
+    // Neither task is holding a thread whilst waiting, so the pool is not full
+    pool.execute(this::handled);
+
+    assertThat(pool.getActive(), is(2));
+    assertThat(pool.getQueued(), is(0L));
+  }
+
+  private CompletableFuture<Void> handled() {
+    return CompletableFuture.completedFuture(null);
+  }
+
+  private void runSubmitted(int index) {
+    submitted.get(index).handle(Future.future());
+  }
+}
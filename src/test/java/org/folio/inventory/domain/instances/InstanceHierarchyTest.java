@@ -0,0 +1,59 @@
+package org.folio.inventory.domain.instances;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.UUID;
+
+import org.junit.Test;
+
+import io.vertx.core.json.JsonObject;
+
+public class InstanceHierarchyTest {
+  private final String instanceId = UUID.randomUUID().toString();
+
+  @Test
+  public void instanceAlreadyInHierarchyIsNotExpandedAgain() {
+    final InstanceHierarchy hierarchy = new InstanceHierarchy(instanceId, 10);
+    final String childId = UUID.randomUUID().toString();
+
+    assertThat(hierarchy.addDescendant(relationship(instanceId, childId), 1), is(true));
+    assertThat(hierarchy.addAncestor(relationship(childId, instanceId), 1), is(false));
+    assertThat(hierarchy.addDescendant(relationship(childId, instanceId), 2), is(false));
+
+    assertThat(hierarchy.getAncestorDepths().isEmpty(), is(true));
+    assertThat(hierarchy.getDescendantDepths().get(childId), is(1));
+
+    final JsonObject representation = hierarchy.toJson();
+
+    assertThat(representation.getJsonArray(InstanceHierarchy.INSTANCE_RELATIONSHIPS_KEY)
+      .size(), is(3));
+    assertThat(representation.getBoolean(InstanceHierarchy.TRUNCATED_KEY), is(false));
+  }
+
+  @Test
+  public void hierarchyIsTruncatedWhenMaximumInstancesReached() {
+    final InstanceHierarchy hierarchy = new InstanceHierarchy(instanceId, 3);
+
+    for (int index = 0; index < 5; index++) {
+      hierarchy.addDescendant(relationship(instanceId, UUID.randomUUID().toString()), 1);
+    }
+
+    assertThat(hierarchy.getDescendantDepths().size(), is(2));
+    assertThat(hierarchy.isTruncated(), is(true));
+
+    final JsonObject representation = hierarchy.toJson();
+
+    assertThat(representation.getJsonArray(InstanceHierarchy.DESCENDANTS_KEY).size(), is(2));
+    assertThat(representation.getJsonArray(InstanceHierarchy.INSTANCE_RELATIONSHIPS_KEY)
+      .size(), is(2));
+    assertThat(representation.getBoolean(InstanceHierarchy.TRUNCATED_KEY), is(true));
+  }
+
+  private static InstanceRelationship relationship(String superInstanceId,
+    String subInstanceId) {
+
+    return new InstanceRelationship(UUID.randomUUID().toString(), superInstanceId,
+      subInstanceId, UUID.randomUUID().toString());
+  }
+}
@@ -0,0 +1,170 @@
+package org.folio.inventory.eventhandlers;
+
+import static java.util.Collections.singletonList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.folio.DataImportEventPayload;
+import org.folio.inventory.common.Context;
+import org.folio.inventory.common.api.request.PagingParameters;
+import org.folio.inventory.common.domain.MultipleRecords;
+import org.folio.inventory.common.domain.Success;
+import org.folio.inventory.dataimport.handlers.matching.loaders.InstanceLoader;
+import org.folio.inventory.domain.instances.Instance;
+import org.folio.inventory.domain.instances.InstanceCollection;
+import org.folio.inventory.storage.Storage;
+import org.folio.processing.matching.loader.LoadResult;
+import org.folio.processing.matching.loader.query.LoadQuery;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.vertx.core.Vertx;
+
+/**
+ * Storage only responds once the expected number of searches are in progress
+ * at the same time, so a loader that waits for each search before starting
+ * the next never completes, rather than only being slower
+ */
+public class MatchValueLoaderThroughputTest {
+  private static final int CONCURRENT_MATCHES = 200;
+  private static final int EVENT_HANDLING_THREADS = 20;
+
+  private final List<Consumer<Success<MultipleRecords<Instance>>>> searchesInProgress
+    = new ArrayList<>();
+
+  private int maximumSearchesInProgress;
+  private int expectedSearchesInProgress;
+
+  private Vertx vertx;
+  private InstanceLoader instanceLoader;
+  private LoadQuery loadQuery;
+
+  @Before
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    vertx = Vertx.vertx();
+
+    final Storage storage = mock(Storage.class);
+    final InstanceCollection instanceCollection = mock(InstanceCollection.class);
+
+    when(storage.getInstanceCollection(any(Context.class))).thenReturn(instanceCollection);
+
+    // Stand-in for storage that holds each search until enough are in progress
+    doAnswer(ans -> {
+      searchStarted(ans.getArgument(2));
+      return null;
+    }).when(instanceCollection)
+      .findByCql(anyString(), any(PagingParameters.class), any(Consumer.class), any(Consumer.class));
+
+    instanceLoader = new InstanceLoader(storage, vertx);
+
+    loadQuery = mock(LoadQuery.class);
+
+    when(loadQuery.getCql()).thenReturn("hrid == \"in0001234\"");
+  }
+
+  @After
+  public void tearDown() {
+    vertx.close();
+  }
+
+  @Test
+  public void manyMatchesAreInProgressWhilstWaitingForStorage() throws Exception {
+    expectedSearchesInProgress = CONCURRENT_MATCHES;
+
+    final List<CompletableFuture<LoadResult>> loads = new ArrayList<>();
+
+    for (int count = 0; count < CONCURRENT_MATCHES; count++) {
+      loads.add(instanceLoader.loadEntityAsync(loadQuery, createEventPayload()));
+    }
+
+    CompletableFuture.allOf(loads.toArray(new CompletableFuture[0]))
+      .get(10, TimeUnit.SECONDS);
+
+    loads.forEach(load -> assertThat(load.join().getValue(), is(notNullValue())));
+
+    // No thread waits for a search, so all of them are started before any complete
+    assertThat(maximumSearchesInProgress(), is(CONCURRENT_MATCHES));
+  }
+
+  @Test
+  public void eachEventHandlingThreadHasMatchInProgressWhilstWaitingForStorage()
+    throws Exception {
+
+    expectedSearchesInProgress = EVENT_HANDLING_THREADS;
+
+    final ExecutorService eventHandlingThreads
+      = Executors.newFixedThreadPool(EVENT_HANDLING_THREADS);
+
+    try {
+      final List<Future<LoadResult>> loads = new ArrayList<>();
+
+      // Matching manager waits for the loader on the thread handling the event
+      for (int count = 0; count < EVENT_HANDLING_THREADS; count++) {
+        loads.add(eventHandlingThreads.submit(
+          () -> instanceLoader.loadEntity(loadQuery, createEventPayload())));
+      }
+
+      for (Future<LoadResult> load : loads) {
+        assertThat(load.get(10, TimeUnit.SECONDS).getValue(), is(notNullValue()));
+      }
+    } finally {
+      eventHandlingThreads.shutdownNow();
+    }
+
+    // Waiting threads do not stop the Vert.x context starting the other searches
+    assertThat(maximumSearchesInProgress(), is(EVENT_HANDLING_THREADS));
+  }
+
+  private void searchStarted(Consumer<Success<MultipleRecords<Instance>>> callback) {
+    final List<Consumer<Success<MultipleRecords<Instance>>>> toRespondTo;
+
+    synchronized (searchesInProgress) {
+      searchesInProgress.add(callback);
+
+      maximumSearchesInProgress = Math.max(maximumSearchesInProgress,
+        searchesInProgress.size());
+
+      if (searchesInProgress.size() < expectedSearchesInProgress) {
+        return;
+      }
+
+      toRespondTo = new ArrayList<>(searchesInProgress);
+      searchesInProgress.clear();
+    }
+
+    toRespondTo.forEach(searchCallback -> searchCallback.accept(
+      new Success<>(new MultipleRecords<>(singletonList(
+        new Instance("ddd266ef-07ac-4117-be13-d418b8cd6902", "in0001234", "MARC",
+          "Wonderful", "12334")), 1))));
+  }
+
+  private int maximumSearchesInProgress() {
+    synchronized (searchesInProgress) {
+      return maximumSearchesInProgress;
+    }
+  }
+
+  private DataImportEventPayload createEventPayload() {
+    return new DataImportEventPayload()
+      .withOkapiUrl("http://localhost:9493")
+      .withTenant("diku")
+      .withToken("token");
+  }
+}
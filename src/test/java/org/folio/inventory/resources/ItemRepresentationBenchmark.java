@@ -0,0 +1,138 @@
+package org.folio.inventory.resources;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.folio.inventory.common.WebContext;
+import org.folio.inventory.common.domain.MultipleRecords;
+import org.folio.inventory.domain.items.Item;
+import org.folio.inventory.domain.items.ItemStatusName;
+import org.folio.inventory.domain.items.Status;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Measures rendering a page of items joined to their holdings and instances.
+ *
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=org.folio.inventory.resources.ItemRepresentationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ItemRepresentationBenchmark {
+  private static final int ITEMS_PER_HOLDING = 2;
+
+  @Param({"10", "100", "1000", "5000"})
+  public int pageSize;
+
+  private MultipleRecords<Item> items;
+  private List<JsonObject> holdings;
+  private List<JsonObject> instances;
+  private Map<String, JsonObject> materialTypes;
+  private Map<String, JsonObject> loanTypes;
+  private Map<String, JsonObject> locations;
+  private WebContext context;
+
+  @Setup
+  public void setUp() {
+    final JsonObject materialType = referenceRecord("Book");
+    final JsonObject loanType = referenceRecord("Can Circulate");
+    final JsonObject location = referenceRecord("Main Library");
+
+    materialTypes = singleRecordMap(materialType);
+    loanTypes = singleRecordMap(loanType);
+    locations = singleRecordMap(location);
+
+    holdings = new ArrayList<>();
+    instances = new ArrayList<>();
+
+    final List<Item> records = new ArrayList<>();
+
+    for (int index = 0; index < pageSize; index++) {
+      if (index % ITEMS_PER_HOLDING == 0) {
+        final String instanceId = UUID.randomUUID().toString();
+
+        instances.add(new JsonObject()
+          .put("id", instanceId)
+          .put("title", "Instance " + index)
+          .put("contributors", new JsonArray()
+            .add(new JsonObject().put("name", "Contributor " + index))));
+
+        holdings.add(new JsonObject()
+          .put("id", UUID.randomUUID().toString())
+          .put("instanceId", instanceId)
+          .put("callNumber", "CN " + index));
+      }
+
+      final String holdingId = holdings.get(holdings.size() - 1).getString("id");
+
+      records.add(new Item(UUID.randomUUID().toString(), holdingId,
+        new Status(ItemStatusName.AVAILABLE), materialType.getString("id"),
+        loanType.getString("id"), null)
+        .withPermanentLocationId(location.getString("id"))
+        .withEffectiveLocationId(location.getString("id"))
+        .withBarcode(String.valueOf(index)));
+    }
+
+    items = new MultipleRecords<>(records, records.size());
+
+    context = new WebContext(null) {
+      @Override
+      public URL absoluteUrl(String path) throws MalformedURLException {
+        return new URL("http", "localhost", 9403, path);
+      }
+    };
+  }
+
+  @Benchmark
+  public JsonObject renderPageOfItems() {
+    return new ItemRepresentation("/inventory/items")
+      .toJson(items, holdings, instances, materialTypes, loanTypes, locations,
+        context);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+      .include(ItemRepresentationBenchmark.class.getSimpleName())
+      .build()).run();
+  }
+
+  private static JsonObject referenceRecord(String name) {
+    return new JsonObject()
+      .put("id", UUID.randomUUID().toString())
+      .put("name", name);
+  }
+
+  private static Map<String, JsonObject> singleRecordMap(JsonObject record) {
+    final Map<String, JsonObject> records = new HashMap<>();
+
+    records.put(record.getString("id"), record);
+
+    return records;
+  }
+}
@@ -0,0 +1,137 @@
+package org.folio.inventory.services;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.folio.inventory.services.ChunkedMoveService.Move;
+import org.folio.inventory.support.AsyncWorkLimiter;
+import org.folio.inventory.support.CompletableFutures;
+import org.junit.Test;
+
+public class ChunkedMoveServiceTest {
+  private final List<List<String>> fetched = new ArrayList<>();
+  private final List<CompletableFuture<String>> inProgress = new ArrayList<>();
+
+  @Test
+  public void nextChunkIsOnlyFetchedWhenPreviousChunkIsMoved() {
+    final ChunkedMoveService moveService = new ChunkedMoveService(3,
+      new AsyncWorkLimiter(10, 10));
+
+    final CompletableFuture<List<String>> moved = moveService.move(ids(7),
+      Move.of(this::fetch, Function.identity(), this::pendingUpdate));
+
+    assertThat(fetched.size(), is(1));
+    assertThat(inProgress.size(), is(3));
+
+    completeAllInProgress();
+
+    assertThat(fetched.size(), is(2));
+    assertThat(inProgress.size(), is(6));
+
+    completeAllInProgress();
+
+    assertThat(fetched.get(2), is(Arrays.asList("6")));
+
+    completeAllInProgress();
+
+    assertThat(moved.join().isEmpty(), is(true));
+  }
+
+  @Test
+  public void onlyLimitedNumberOfUpdatesAreInProgress() {
+    final ChunkedMoveService moveService = new ChunkedMoveService(10,
+      new AsyncWorkLimiter(10, 2));
+
+    final CompletableFuture<List<String>> moved = moveService.move(ids(5),
+      Move.of(this::fetch, Function.identity(), this::pendingUpdate));
+
+    assertThat(inProgress.size(), is(2));
+
+    inProgress.get(0).complete(null);
+
+    assertThat(inProgress.size(), is(3));
+
+    for (int index = 1; index < 5; index++) {
+      inProgress.get(index).complete(null);
+    }
+
+    assertThat(moved.join().isEmpty(), is(true));
+  }
+
+  @Test
+  public void recordsThatCannotBeMovedAreReported() {
+    final ChunkedMoveService moveService = new ChunkedMoveService(2,
+      new AsyncWorkLimiter(10, 10));
+
+    final List<Integer> updatedCounts = new ArrayList<>();
+
+    final List<String> notUpdatedIds = moveService.move(ids(6),
+      Move.of(
+        ids -> {
+          // First chunk cannot be fetched, the second record is missing
+          if (ids.contains("0")) {
+            return CompletableFutures.failedFuture(new IllegalStateException("fetch failed"));
+          }
+
+          return completedFuture(ids.stream()
+            .filter(id -> !id.equals("3"))
+            .collect(Collectors.toList()));
+        },
+        Function.identity(),
+        id -> id.equals("5")
+          ? CompletableFutures.failedFuture(new IllegalStateException("update failed"))
+          : completedFuture(id)),
+      (updatedCount, chunkNotUpdatedIds) -> updatedCounts.add(updatedCount))
+      .join();
+
+    assertThat(notUpdatedIds, is(Arrays.asList("0", "1", "3", "5")));
+    assertThat(updatedCounts, is(Arrays.asList(0, 1, 1)));
+  }
+
+  @Test
+  public void manyRecordsCanBeMoved() {
+    final ChunkedMoveService moveService = new ChunkedMoveService(100,
+      new AsyncWorkLimiter(1, 1));
+
+    final List<String> notUpdatedIds = moveService.move(ids(10000),
+      Move.of(ids -> completedFuture(ids), Function.identity(),
+        CompletableFuture::completedFuture))
+      .join();
+
+    assertThat(notUpdatedIds.isEmpty(), is(true));
+  }
+
+  private void completeAllInProgress() {
+    // Completing the last update of a chunk starts the next chunk
+    new ArrayList<>(inProgress).forEach(update -> update.complete(null));
+  }
+
+  private CompletableFuture<List<String>> fetch(List<String> ids) {
+    fetched.add(ids);
+
+    return completedFuture(ids);
+  }
+
+  private CompletableFuture<String> pendingUpdate(String id) {
+    final CompletableFuture<String> update = new CompletableFuture<>();
+
+    inProgress.add(update);
+
+    return update;
+  }
+
+  private static List<String> ids(int count) {
+    return IntStream.range(0, count)
+      .mapToObj(String::valueOf)
+      .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,72 @@
+package org.folio.inventory.services;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import io.vertx.core.json.JsonObject;
+
+public class MoveJobsTest {
+  @Test
+  public void progressIsReportedForEachChunk() {
+    final MoveJob job = new MoveJobs(10).start("tenant", "items", 5);
+
+    job.chunkMoved(1, Collections.singletonList("2"));
+
+    JsonObject status = job.toJson();
+
+    assertThat(status.getString("status"), is("In Progress"));
+    assertThat(status.getInteger("totalRecords"), is(5));
+    assertThat(status.getInteger("done"), is(1));
+    assertThat(status.getInteger("failed"), is(1));
+    assertThat(status.getInteger("pending"), is(3));
+
+    job.chunkMoved(2, Collections.singletonList("5"));
+    job.completed();
+
+    status = job.toJson();
+
+    assertThat(status.getString("status"), is("Completed"));
+    assertThat(status.getInteger("done"), is(3));
+    assertThat(status.getInteger("failed"), is(2));
+    assertThat(status.getInteger("pending"), is(0));
+    assertThat(status.getJsonArray("nonUpdatedIds").getList(), is(Arrays.asList("2", "5")));
+  }
+
+  @Test
+  public void jobIsOnlyFoundForSameTenantAndTypeOfRecord() {
+    final MoveJobs moveJobs = new MoveJobs(10);
+
+    final MoveJob job = moveJobs.start("tenant", "items", 5);
+
+    assertThat(moveJobs.find("tenant", "items", job.getId()), is(job));
+    assertThat(moveJobs.find("other tenant", "items", job.getId()), is(nullValue()));
+    assertThat(moveJobs.find("tenant", "holdingsRecords", job.getId()), is(nullValue()));
+    assertThat(moveJobs.find("tenant", "items", "unknown"), is(nullValue()));
+  }
+
+  @Test
+  public void oldestCompletedJobsAreForgotten() {
+    final MoveJobs moveJobs = new MoveJobs(1);
+
+    final MoveJob first = moveJobs.start("tenant", "items", 1);
+    final MoveJob inProgress = moveJobs.start("tenant", "items", 1);
+    final MoveJob second = moveJobs.start("tenant", "items", 1);
+
+    first.completed();
+    second.completed();
+
+    final MoveJob third = moveJobs.start("tenant", "items", 1);
+
+    assertThat(moveJobs.find("tenant", "items", first.getId()), is(nullValue()));
+    assertThat(moveJobs.find("tenant", "items", inProgress.getId()), is(notNullValue()));
+    assertThat(moveJobs.find("tenant", "items", second.getId()), is(notNullValue()));
+    assertThat(moveJobs.find("tenant", "items", third.getId()), is(notNullValue()));
+  }
+}
@@ -0,0 +1,149 @@
+package org.folio.inventory.services;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.folio.inventory.services.SuppressFromDiscoveryOutbox.Change;
+import org.folio.inventory.support.CompletableFutures;
+import org.junit.Test;
+
+public class SuppressFromDiscoveryOutboxTest {
+  private final List<Change> sent = new ArrayList<>();
+  private final List<CompletableFuture<Void>> inProgress = new ArrayList<>();
+  private final List<Long> scheduledDelays = new ArrayList<>();
+  private final List<Runnable> scheduled = new ArrayList<>();
+
+  private final SuppressFromDiscoveryOutbox outbox = new SuppressFromDiscoveryOutbox(
+    change -> {
+      final CompletableFuture<Void> changeSent = new CompletableFuture<>();
+      sent.add(change);
+      inProgress.add(changeSent);
+      return changeSent;
+    },
+    (delay, action) -> {
+      scheduledDelays.add(delay);
+      scheduled.add(action);
+    }, 2, 3, 100);
+
+  @Test
+  public void onlyLimitedNumberOfChangesAreSentAtOnce() {
+    for (int index = 0; index < 5; index++) {
+      outbox.enqueue(change(UUID.randomUUID().toString(), true));
+    }
+
+    assertThat(sent.size(), is(2));
+    assertThat(outbox.getQueueDepth(), is(3));
+    assertThat(outbox.getInFlight(), is(2));
+
+    inProgress.get(0).complete(null);
+
+    assertThat(sent.size(), is(3));
+    assertThat(outbox.getQueueDepth(), is(2));
+    assertThat(outbox.getSent(), is(1L));
+  }
+
+  @Test
+  public void queuedChangesForTheSameInstanceAreCoalesced() {
+    final String instanceId = UUID.randomUUID().toString();
+
+    outbox.enqueue(change(UUID.randomUUID().toString(), true));
+    outbox.enqueue(change(UUID.randomUUID().toString(), true));
+
+    outbox.enqueue(change(instanceId, true));
+    outbox.enqueue(change(instanceId, false));
+    outbox.enqueue(change(instanceId, true));
+
+    assertThat(outbox.getQueueDepth(), is(1));
+    assertThat(outbox.getCoalesced(), is(2L));
+
+    inProgress.get(0).complete(null);
+
+    assertThat(sent.size(), is(3));
+    assertThat(sent.get(2).getInstanceId(), is(instanceId));
+    assertThat(sent.get(2).isSuppress(), is(true));
+  }
+
+  @Test
+  public void changeForInstanceIsNotSentUntilPreviousChangeCompletes() {
+    final String instanceId = UUID.randomUUID().toString();
+
+    outbox.enqueue(change(instanceId, true));
+    outbox.enqueue(change(instanceId, false));
+
+    assertThat(sent.size(), is(1));
+    assertThat(outbox.getQueueDepth(), is(1));
+
+    inProgress.get(0).complete(null);
+
+    assertThat(sent.size(), is(2));
+    assertThat(sent.get(1).isSuppress(), is(false));
+  }
+
+  @Test
+  public void failedChangeIsRetriedWithIncreasingDelay() {
+    outbox.enqueue(change(UUID.randomUUID().toString(), true));
+
+    inProgress.get(0).completeExceptionally(new IllegalStateException("unavailable"));
+
+    assertThat(outbox.getRetried(), is(1L));
+    assertThat(outbox.getQueueDepth(), is(1));
+
+    scheduled.get(0).run();
+
+    assertThat(sent.size(), is(2));
+
+    inProgress.get(1).completeExceptionally(new IllegalStateException("unavailable"));
+    scheduled.get(1).run();
+
+    assertThat(sent.size(), is(3));
+    assertThat(scheduledDelays, is(Arrays.asList(100L, 200L)));
+
+    inProgress.get(2).completeExceptionally(new IllegalStateException("unavailable"));
+
+    assertThat("gives up after maximum attempts", scheduled.size(), is(2));
+    assertThat(outbox.getFailed(), is(1L));
+    assertThat(outbox.getQueueDepth(), is(0));
+  }
+
+  @Test
+  public void retryIsReplacedByNewerChangeForTheSameInstance() {
+    final String instanceId = UUID.randomUUID().toString();
+
+    outbox.enqueue(change(instanceId, true));
+
+    inProgress.get(0).completeExceptionally(new IllegalStateException("unavailable"));
+
+    outbox.enqueue(change(instanceId, false));
+
+    assertThat(sent.size(), is(2));
+
+    inProgress.get(1).complete(null);
+    scheduled.get(0).run();
+
+    assertThat("retry of the older change is not sent", sent.size(), is(2));
+    assertThat(outbox.getQueueDepth(), is(0));
+  }
+
+  @Test
+  public void changeThatCannotBeStartedIsRetried() {
+    final SuppressFromDiscoveryOutbox failingOutbox = new SuppressFromDiscoveryOutbox(
+      change -> CompletableFutures.failedFuture(new IllegalStateException("failed")),
+      (delay, action) -> scheduled.add(action), 2, 3, 100);
+
+    failingOutbox.enqueue(change(UUID.randomUUID().toString(), true));
+
+    assertThat(scheduled.size(), is(1));
+    assertThat(failingOutbox.getInFlight(), is(0));
+  }
+
+  private static Change change(String instanceId, boolean suppress) {
+    return new Change("http://localhost:9130", "test_tenant", "token",
+      UUID.randomUUID().toString(), null, instanceId, suppress);
+  }
+}
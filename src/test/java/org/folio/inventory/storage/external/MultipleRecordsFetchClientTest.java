@@ -0,0 +1,165 @@
+package org.folio.inventory.storage.external;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.folio.inventory.exceptions.ExternalResourceFetchException;
+import org.folio.inventory.support.http.client.Response;
+import org.junit.Test;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+public class MultipleRecordsFetchClientTest {
+  private final List<Consumer<Response>> pendingRequests = new ArrayList<>();
+
+  private final CollectionResourceClient resourceClient = new CollectionResourceClient(null, null) {
+    @Override
+    public void getMany(String cqlQuery, Integer pageLimit, Integer pageOffset,
+      Consumer<Response> responseHandler) {
+
+      pendingRequests.add(responseHandler);
+    }
+  };
+
+  @Test
+  public void partitionsAreAsLargeAsFitInMaximumQueryLength() {
+    final List<String> ids = ids(50);
+
+    final List<String> queries = fetchClient(100, 500, 5)
+      .partition(ids, batch -> CqlQuery.exactMatchAny("id", batch));
+
+    assertThat(queries.size() > 1, is(true));
+
+    queries.forEach(query -> assertTrue(query.length() <= 500));
+
+    assertThat(String.join("", queries).split("%22").length, is(ids.size() * 2 + 1));
+  }
+
+  @Test
+  public void partitionsAreNoLargerThanMaximumPartitionSize() {
+    final List<String> queries = fetchClient(10, 100000, 5)
+      .partition(ids(25), batch -> CqlQuery.exactMatchAny("id", batch));
+
+    assertThat(queries.size(), is(3));
+  }
+
+  @Test
+  public void elementThatIsTooLongIsFetchedOnItsOwn() {
+    final List<String> queries = fetchClient(100, 10, 5)
+      .partition(ids(3), batch -> CqlQuery.exactMatchAny("id", batch));
+
+    assertThat(queries.size(), is(3));
+  }
+
+  @Test
+  public void onlyLimitedNumberOfRequestsAreInProgress() {
+    final CompletableFuture<List<JsonObject>> found = fetchClient(1, 100000, 2)
+      .find(ids(5), batch -> CqlQuery.exactMatchAny("id", batch));
+
+    assertThat(pendingRequests.size(), is(2));
+
+    respond(0);
+
+    assertThat(pendingRequests.size(), is(3));
+
+    for (int index = 1; index < 5; index++) {
+      respond(index);
+    }
+
+    assertThat(found.join().size(), is(5));
+  }
+
+  @Test
+  public void recordsAreInTheOrderOfThePartitions() {
+    final CompletableFuture<List<JsonObject>> found = fetchClient(1, 100000, 5)
+      .find(Arrays.asList("a", "b", "c"), batch -> CqlQuery.exactMatchAny("id", batch));
+
+    respond(2);
+    respond(0);
+    respond(1);
+
+    assertThat(found.join().stream()
+      .map(record -> record.getString("partition"))
+      .collect(Collectors.toList()), is(Arrays.asList("0", "1", "2")));
+  }
+
+  @Test
+  public void eachPartitionIsPassedToConsumerAsItArrives() {
+    final List<String> consumed = new ArrayList<>();
+
+    final CompletableFuture<Void> found = fetchClient(1, 100000, 5)
+      .find(Arrays.asList("a", "b", "c"), batch -> CqlQuery.exactMatchAny("id", batch),
+        records -> records.forEach(record -> consumed.add(record.getString("partition"))));
+
+    respond(2);
+
+    assertThat(consumed, is(Arrays.asList("2")));
+
+    respond(0);
+    respond(1);
+
+    found.join();
+
+    assertThat(consumed, is(Arrays.asList("2", "0", "1")));
+  }
+
+  @Test
+  public void failsWhenAnyPartitionCannotBeFetched() {
+    final CompletableFuture<List<JsonObject>> found = fetchClient(1, 100000, 5)
+      .find(Arrays.asList("a", "b"), batch -> CqlQuery.exactMatchAny("id", batch));
+
+    respond(0);
+    pendingRequests.get(1).accept(new Response(500, "Server error", "text/plain", null));
+
+    try {
+      found.join();
+    } catch (CompletionException e) {
+      assertThat(e.getCause(), instanceOf(ExternalResourceFetchException.class));
+      return;
+    }
+
+    throw new AssertionError("Expected fetch to fail");
+  }
+
+  private MultipleRecordsFetchClient fetchClient(int maximumPartitionSize,
+    int maximumQueryLength, int maximumInFlight) {
+
+    return MultipleRecordsFetchClient.builder()
+      .withCollectionResourceClient(resourceClient)
+      .withCollectionPropertyName("records")
+      .withMaximumPartitionSize(maximumPartitionSize)
+      .withMaximumQueryLength(maximumQueryLength)
+      .withMaximumInFlight(maximumInFlight)
+      .build();
+  }
+
+  private void respond(int requestIndex) {
+    final JsonObject record = new JsonObject()
+      .put("partition", String.valueOf(requestIndex));
+
+    final JsonObject body = new JsonObject()
+      .put("records", new JsonArray().add(record));
+
+    pendingRequests.get(requestIndex)
+      .accept(new Response(200, body.encode(), "application/json", null));
+  }
+
+  private static List<String> ids(int count) {
+    return IntStream.range(0, count)
+      .mapToObj(notUsed -> UUID.randomUUID().toString())
+      .collect(Collectors.toList());
+  }
+}
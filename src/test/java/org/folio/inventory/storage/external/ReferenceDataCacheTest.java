@@ -0,0 +1,213 @@
+package org.folio.inventory.storage.external;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import com.google.common.base.Ticker;
+
+import io.vertx.core.json.JsonObject;
+
+public class ReferenceDataCacheTest {
+  private final AtomicLong currentTime = new AtomicLong();
+  private final AtomicInteger fetchCount = new AtomicInteger();
+  private final AtomicInteger fetchedRecordCount = new AtomicInteger();
+
+  private final Ticker ticker = new Ticker() {
+    @Override
+    public long read() {
+      return currentTime.get();
+    }
+  };
+
+  @Test
+  public void fetchesRecordOnlyOnceWhileCached() {
+    ReferenceDataCache cache = new ReferenceDataCache(10, 60, ticker);
+
+    JsonObject first = cache.get("tenant", "/loan-types", "1", found()).join();
+    JsonObject second = cache.get("tenant", "/loan-types", "1", found()).join();
+
+    assertThat(first.getString("id"), is("1"));
+    assertThat(second.getString("id"), is("1"));
+    assertThat(fetchCount.get(), is(1));
+    assertThat(cache.hitCount(), is(1L));
+    assertThat(cache.missCount(), is(1L));
+  }
+
+  @Test
+  public void recordsAreCachedPerTenant() {
+    ReferenceDataCache cache = new ReferenceDataCache(10, 60, ticker);
+
+    cache.get("tenant", "/loan-types", "1", found()).join();
+    cache.get("other_tenant", "/loan-types", "1", found()).join();
+
+    assertThat(fetchCount.get(), is(2));
+    assertThat(cache.size(), is(2L));
+  }
+
+  @Test
+  public void recordsAreCachedPerRecordType() {
+    ReferenceDataCache cache = new ReferenceDataCache(10, 60, ticker);
+
+    cache.get("tenant", "/loan-types", "1", found()).join();
+    cache.get("tenant", "/locations", "1", found()).join();
+
+    assertThat(fetchCount.get(), is(2));
+  }
+
+  @Test
+  public void recordIsFetchedAgainAfterTimeToLive() {
+    ReferenceDataCache cache = new ReferenceDataCache(10, 60, ticker);
+
+    cache.get("tenant", "/locations", "1", found()).join();
+
+    currentTime.addAndGet(TimeUnit.SECONDS.toNanos(61));
+
+    cache.get("tenant", "/locations", "1", found()).join();
+
+    assertThat(fetchCount.get(), is(2));
+  }
+
+  @Test
+  public void leastRecentlyUsedRecordIsEvictedWhenFull() {
+    ReferenceDataCache cache = new ReferenceDataCache(1, 60, ticker);
+
+    cache.get("tenant", "/material-types", "1", found()).join();
+    cache.get("tenant", "/material-types", "2", found()).join();
+
+    assertThat(cache.evictionCount(), is(1L));
+    assertThat(cache.size(), is(1L));
+  }
+
+  @Test
+  public void recordNotFoundIsNotCached() {
+    ReferenceDataCache cache = new ReferenceDataCache(10, 60, ticker);
+
+    JsonObject first = cache.get("tenant", "/locations", "1", notFound()).join();
+
+    assertThat(first, is(nullValue()));
+    assertThat(cache.size(), is(0L));
+
+    cache.get("tenant", "/locations", "1", found()).join();
+
+    assertThat(fetchCount.get(), is(2));
+  }
+
+  @Test
+  public void canInvalidateTenant() {
+    ReferenceDataCache cache = new ReferenceDataCache(10, 60, ticker);
+
+    cache.get("tenant", "/locations", "1", found()).join();
+
+    cache.invalidateAll("tenant");
+
+    cache.get("tenant", "/locations", "1", found()).join();
+
+    assertThat(fetchCount.get(), is(2));
+  }
+
+  @Test
+  public void fetchesAllRecordsNotCachedInSingleBatch() {
+    ReferenceDataCache cache = new ReferenceDataCache(10, 60, ticker);
+
+    Map<String, JsonObject> records = cache.getAll("tenant", "/locations",
+      Arrays.asList("1", "2", "2", "3"), allFound()).join();
+
+    assertThat(records.size(), is(3));
+    assertThat(records.get("2").getString("id"), is("2"));
+    assertThat(fetchCount.get(), is(1));
+    assertThat(fetchedRecordCount.get(), is(3));
+  }
+
+  @Test
+  public void onlyFetchesRecordsNotAlreadyCachedInBatch() {
+    ReferenceDataCache cache = new ReferenceDataCache(10, 60, ticker);
+
+    cache.get("tenant", "/locations", "1", found()).join();
+
+    Map<String, JsonObject> records = cache.getAll("tenant", "/locations",
+      Arrays.asList("1", "2"), allFound()).join();
+
+    assertThat(records.size(), is(2));
+    assertThat(fetchCount.get(), is(2));
+    assertThat(fetchedRecordCount.get(), is(2));
+  }
+
+  @Test
+  public void doesNotFetchWhenAllRecordsAreCached() {
+    ReferenceDataCache cache = new ReferenceDataCache(10, 60, ticker);
+
+    cache.getAll("tenant", "/locations", Arrays.asList("1", "2"), allFound()).join();
+    cache.getAll("tenant", "/locations", Arrays.asList("2", "1"), allFound()).join();
+
+    assertThat(fetchCount.get(), is(1));
+  }
+
+  @Test
+  public void recordsNotFoundInBatchAreNotIncludedOrCached() {
+    ReferenceDataCache cache = new ReferenceDataCache(10, 60, ticker);
+
+    Map<String, JsonObject> records = cache.getAll("tenant", "/locations",
+      Arrays.asList("1", "2"), onlyFound("1")).join();
+
+    assertThat(records.size(), is(1));
+    assertThat(records.get("2"), is(nullValue()));
+    assertThat(cache.size(), is(1L));
+  }
+
+  private Function<String, CompletableFuture<JsonObject>> found() {
+    return id -> {
+      fetchCount.incrementAndGet();
+
+      return CompletableFuture.completedFuture(new JsonObject()
+        .put("id", id)
+        .put("name", "Reference record " + id));
+    };
+  }
+
+  private Function<List<String>, CompletableFuture<List<JsonObject>>> allFound() {
+    return ids -> {
+      fetchCount.incrementAndGet();
+      fetchedRecordCount.addAndGet(ids.size());
+
+      return CompletableFuture.completedFuture(ids.stream()
+        .map(id -> new JsonObject()
+          .put("id", id)
+          .put("name", "Reference record " + id))
+        .collect(Collectors.toList()));
+    };
+  }
+
+  private Function<List<String>, CompletableFuture<List<JsonObject>>> onlyFound(
+    String foundId) {
+
+    return ids -> {
+      fetchCount.incrementAndGet();
+
+      return CompletableFuture.completedFuture(ids.stream()
+        .filter(foundId::equals)
+        .map(id -> new JsonObject().put("id", id))
+        .collect(Collectors.toList()));
+    };
+  }
+
+  private Function<String, CompletableFuture<JsonObject>> notFound() {
+    return id -> {
+      fetchCount.incrementAndGet();
+
+      return CompletableFuture.completedFuture(null);
+    };
+  }
+}
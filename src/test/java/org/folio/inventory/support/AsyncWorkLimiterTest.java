@@ -0,0 +1,158 @@
+package org.folio.inventory.support;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.folio.inventory.support.AsyncWorkLimiter.Operation;
+import org.junit.Test;
+
+public class AsyncWorkLimiterTest {
+  @Test
+  public void onlyLimitedNumberOfOperationsAreInProgressForEachRequest() {
+    final AsyncWorkLimiter limiter = new AsyncWorkLimiter(10, 2);
+    final List<CompletableFuture<Integer>> inProgress = new ArrayList<>();
+
+    final CompletableFuture<List<Integer>> allCompleted
+      = limiter.runAll(pendingOperations(5, inProgress));
+
+    assertThat(inProgress.size(), is(2));
+
+    inProgress.get(1).complete(null);
+
+    assertThat(inProgress.size(), is(3));
+
+    inProgress.get(0).complete(null);
+    inProgress.get(2).complete(null);
+
+    assertThat(inProgress.size(), is(5));
+    assertThat(allCompleted.isDone(), is(false));
+
+    inProgress.get(4).complete(null);
+    inProgress.get(3).complete(null);
+
+    assertThat(allCompleted.join(), is(Arrays.asList(0, 1, 2, 3, 4)));
+    assertThat(limiter.inFlight(), is(0));
+  }
+
+  @Test
+  public void requestsTakeTurnsWhenOverallLimitIsReached() {
+    final AsyncWorkLimiter limiter = new AsyncWorkLimiter(2, 2);
+    final List<CompletableFuture<Integer>> firstInProgress = new ArrayList<>();
+    final List<CompletableFuture<Integer>> secondInProgress = new ArrayList<>();
+
+    final CompletableFuture<List<Integer>> firstCompleted
+      = limiter.runAll(pendingOperations(4, firstInProgress));
+
+    final CompletableFuture<List<Integer>> secondCompleted
+      = limiter.runAll(pendingOperations(2, secondInProgress));
+
+    assertThat(firstInProgress.size(), is(2));
+    assertThat(secondInProgress.size(), is(0));
+
+    firstInProgress.get(0).complete(null);
+
+    assertThat("waiting request should be next", secondInProgress.size(), is(1));
+
+    firstInProgress.get(1).complete(null);
+
+    assertThat(firstInProgress.size(), is(3));
+
+    secondInProgress.get(0).complete(null);
+
+    assertThat(secondInProgress.size(), is(2));
+    assertThat(limiter.inFlight(), is(2));
+
+    secondInProgress.get(1).complete(null);
+    firstInProgress.get(2).complete(null);
+    firstInProgress.get(3).complete(null);
+
+    assertThat(firstCompleted.join(), is(Arrays.asList(0, 1, 2, 3)));
+    assertThat(secondCompleted.join(), is(Arrays.asList(0, 1)));
+  }
+
+  @Test
+  public void allOperationsAreAttemptedWhenSomeFail() {
+    final AsyncWorkLimiter limiter = new AsyncWorkLimiter(10, 1);
+    final AtomicInteger started = new AtomicInteger();
+    final List<Operation<String>> operations = new ArrayList<>();
+
+    operations.add(new Operation<>("fail first", () -> {
+      started.incrementAndGet();
+      return CompletableFutures.failedFuture(new IllegalStateException("first"));
+    }));
+
+    for (int index = 0; index < 3; index++) {
+      operations.add(new Operation<>("complete", () -> {
+        started.incrementAndGet();
+        return CompletableFuture.completedFuture("completed");
+      }));
+    }
+
+    operations.add(new Operation<>("fail last", () -> {
+      started.incrementAndGet();
+      return CompletableFutures.failedFuture(new IllegalArgumentException("last"));
+    }));
+
+    final CompletableFuture<List<String>> allCompleted = limiter.runAll(operations);
+
+    assertThat(started.get(), is(5));
+    assertThat(allCompleted.isCompletedExceptionally(), is(true));
+
+    final Throwable failure = allCompleted.handle((result, cause) -> cause).join();
+
+    assertThat(failure, instanceOf(IllegalStateException.class));
+    assertThat(failure.getSuppressed().length, is(1));
+    assertThat(failure.getSuppressed()[0], instanceOf(IllegalArgumentException.class));
+  }
+
+  @Test
+  public void manyOperationsThatCompleteImmediatelyCanBeRun() {
+    final AsyncWorkLimiter limiter = new AsyncWorkLimiter(1, 1);
+    final List<Operation<Integer>> operations = new ArrayList<>();
+
+    for (int index = 0; index < 10000; index++) {
+      final int result = index;
+
+      operations.add(new Operation<>("complete",
+        () -> CompletableFuture.completedFuture(result)));
+    }
+
+    assertThat(limiter.runAll(operations).join().size(), is(10000));
+  }
+
+  @Test
+  public void noOperationsCompletesImmediately()
+    throws ExecutionException, InterruptedException {
+
+    final CompletableFuture<List<String>> allCompleted
+      = new AsyncWorkLimiter(10, 10).runAll(new ArrayList<>());
+
+    assertThat(allCompleted.get().isEmpty(), is(true));
+  }
+
+  private static List<Operation<Integer>> pendingOperations(int count,
+    List<CompletableFuture<Integer>> inProgress) {
+
+    final List<Operation<Integer>> operations = new ArrayList<>();
+
+    for (int index = 0; index < count; index++) {
+      final int result = index;
+
+      operations.add(new Operation<>("operation " + index, () -> {
+        final CompletableFuture<Integer> operation = new CompletableFuture<>();
+        inProgress.add(operation);
+        return operation.thenApply(notUsed -> result);
+      }));
+    }
+
+    return operations;
+  }
+}
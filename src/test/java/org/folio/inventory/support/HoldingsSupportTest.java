@@ -0,0 +1,61 @@
+package org.folio.inventory.support;
+
+import static org.folio.inventory.support.HoldingsSupport.holdingForItem;
+import static org.folio.inventory.support.HoldingsSupport.instanceForHolding;
+import static org.folio.inventory.support.JsonArrayHelper.indexById;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+
+import org.folio.inventory.domain.items.Item;
+import org.folio.inventory.domain.items.ItemStatusName;
+import org.folio.inventory.domain.items.Status;
+import org.junit.Test;
+
+import io.vertx.core.json.JsonObject;
+
+public class HoldingsSupportTest {
+  @Test
+  public void canJoinItemToHoldingAndInstance() {
+    String instanceId = UUID.randomUUID().toString();
+    String holdingId = UUID.randomUUID().toString();
+
+    Map<String, JsonObject> holdingsById = indexById(Arrays.asList(
+      new JsonObject().put("id", UUID.randomUUID().toString()),
+      new JsonObject().put("id", holdingId).put("instanceId", instanceId)));
+
+    Map<String, JsonObject> instancesById = indexById(Arrays.asList(
+      new JsonObject().put("id", instanceId),
+      new JsonObject().put("id", UUID.randomUUID().toString())));
+
+    JsonObject holding = holdingForItem(item(holdingId), holdingsById).orElse(null);
+
+    assertThat(holding.getString("id"), is(holdingId));
+    assertThat(instanceForHolding(holding, instancesById)
+      .map(instance -> instance.getString("id")).orElse(null), is(instanceId));
+  }
+
+  @Test
+  public void noHoldingWhenItemHasNoHoldingId() {
+    Map<String, JsonObject> holdingsById = indexById(Arrays.asList(
+      new JsonObject().put("id", UUID.randomUUID().toString())));
+
+    assertThat(holdingForItem(item(null), holdingsById).isPresent(), is(false));
+  }
+
+  @Test
+  public void noInstanceWhenHoldingIsMissing() {
+    Map<String, JsonObject> instancesById = indexById(Arrays.asList(
+      new JsonObject().put("id", UUID.randomUUID().toString())));
+
+    assertThat(instanceForHolding(null, instancesById).isPresent(), is(false));
+  }
+
+  private Item item(String holdingId) {
+    return new Item(UUID.randomUUID().toString(), holdingId,
+      new Status(ItemStatusName.AVAILABLE), null, null, null);
+  }
+}
@@ -0,0 +1,153 @@
+package org.folio.inventory.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.folio.inventory.domain.Metadata;
+import org.folio.inventory.domain.instances.Contributor;
+import org.folio.inventory.domain.instances.Identifier;
+import org.folio.inventory.domain.instances.Instance;
+import org.folio.inventory.domain.instances.Note;
+import org.folio.inventory.domain.instances.Publication;
+import org.folio.inventory.domain.instances.titles.PrecedingSucceedingTitle;
+import org.folio.inventory.support.http.JsonEncoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Compares creating representations of a page of instances (and encoding
+ * the page) by encoding and parsing each nested record (as previously used)
+ * with writing the fields of each record directly.
+ *
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=org.folio.inventory.support.InstanceRepresentationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InstanceRepresentationBenchmark {
+  @Param({"10", "100", "1000"})
+  public int pageSize;
+
+  private List<Instance> page;
+
+  @Setup
+  public void setUp() {
+    page = new ArrayList<>();
+
+    for (int index = 0; index < pageSize; index++) {
+      page.add(instance(index));
+    }
+  }
+
+  @Benchmark
+  public Buffer encodedAndParsed() {
+    final JsonArray representations = new JsonArray();
+
+    page.forEach(instance -> representations.add(encodedAndParsed(instance)));
+
+    return JsonEncoder.encode(new JsonObject()
+      .put("instances", representations)
+      .put("totalRecords", pageSize));
+  }
+
+  @Benchmark
+  public Buffer writtenDirectly() {
+    final JsonArray representations = new JsonArray();
+
+    page.forEach(instance -> representations.add(InstanceRepresentation.writeInto(
+      new JsonObject(), instance, instance.getParentInstances(),
+      instance.getChildInstances(), instance.getPrecedingTitles(),
+      instance.getSucceedingTitles())));
+
+    return JsonEncoder.encode(new JsonObject()
+      .put("instances", representations)
+      .put("totalRecords", pageSize));
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+      .include(InstanceRepresentationBenchmark.class.getSimpleName())
+      .build()).run();
+  }
+
+  /**
+   * How the representation was previously created, with nested records that were
+   * not lists being encoded and parsed
+   */
+  private static JsonObject encodedAndParsed(Instance instance) {
+    final JsonObject representation = new JsonObject()
+      .put("id", instance.getId())
+      .put("hrid", instance.getHrid())
+      .put(Instance.SOURCE_KEY, instance.getSource())
+      .put(Instance.TITLE_KEY, instance.getTitle())
+      .put(Instance.PARENT_INSTANCES_KEY, instance.getParentInstances())
+      .put(Instance.CHILD_INSTANCES_KEY, instance.getChildInstances())
+      .put(Instance.ALTERNATIVE_TITLES_KEY, instance.getAlternativeTitles())
+      .put(Instance.IDENTIFIERS_KEY, instance.getIdentifiers())
+      .put(Instance.CONTRIBUTORS_KEY, instance.getContributors())
+      .put(Instance.SUBJECTS_KEY, instance.getSubjects())
+      .put(Instance.PUBLICATION_KEY, instance.getPublication())
+      .put(Instance.INSTANCE_TYPE_ID_KEY, instance.getInstanceTypeId())
+      .put(Instance.LANGUAGES_KEY, instance.getLanguages())
+      .put(Instance.NOTES_KEY, instance.getNotes())
+      .put(Instance.DISCOVERY_SUPPRESS_KEY, instance.getDiscoverySuppress())
+      .put(Instance.METADATA_KEY, new JsonObject(Json.encode(instance.getMetadata())))
+      .put(Instance.TAGS_KEY, new JsonObject(Json.encode(new JsonObject()
+        .put(Instance.TAG_LIST_KEY, new JsonArray(instance.getTags())))));
+
+    final JsonArray precedingTitles = new JsonArray();
+    instance.getPrecedingTitles().forEach(title -> precedingTitles.add(title.toPrecedingTitleJson()));
+
+    return representation.put(Instance.PRECEDING_TITLES_KEY, precedingTitles);
+  }
+
+  private static Instance instance(int index) {
+    final String userId = UUID.randomUUID().toString();
+
+    return new Instance(UUID.randomUUID().toString(), String.format("in%08d", index),
+      "FOLIO", "Long Way to a Small, Angry Planet " + index, UUID.randomUUID().toString())
+      .setIdentifiers(Collections.singletonList(
+        new Identifier(UUID.randomUUID().toString(), "9781473619777")))
+      .setContributors(Collections.singletonList(new Contributor(
+        UUID.randomUUID().toString(), "Chambers, Becky", null, null, true)))
+      .setSubjects(Collections.singletonList("Science fiction"))
+      .setPublication(Collections.singletonList(
+        new Publication("Hodder & Stoughton", "London", "2015", null)))
+      .setLanguages(Collections.singletonList("eng"))
+      .setNotes(Collections.singletonList(
+        new Note(UUID.randomUUID().toString(), "First published in 2014", false)))
+      .setDiscoverySuppress(false)
+      .setMetadata(new Metadata("2020-06-01T10:00:00.000+0000", userId,
+        "2020-06-02T10:00:00.000+0000", userId))
+      .setTags(Collections.singletonList("science-fiction"))
+      .setPrecedingTitles(Collections.singletonList(PrecedingSucceedingTitle.from(
+        new JsonObject()
+          .put("id", UUID.randomUUID().toString())
+          .put("title", "A Closed and Common Orbit")
+          .put("precedingInstanceId", UUID.randomUUID().toString()))));
+  }
+}
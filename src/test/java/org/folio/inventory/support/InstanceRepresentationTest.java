@@ -0,0 +1,63 @@
+package org.folio.inventory.support;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.UUID;
+
+import org.folio.inventory.domain.Metadata;
+import org.folio.inventory.domain.instances.Contributor;
+import org.folio.inventory.domain.instances.Identifier;
+import org.folio.inventory.domain.instances.Instance;
+import org.folio.inventory.domain.instances.InstanceRelationshipToParent;
+import org.junit.Test;
+
+import io.vertx.core.json.JsonObject;
+
+public class InstanceRepresentationTest {
+  @Test
+  public void nestedRecordsAreWrittenAsJsonObjects() {
+    final String userId = UUID.randomUUID().toString();
+    final String parentId = UUID.randomUUID().toString();
+
+    final Instance instance = new Instance(UUID.randomUUID().toString(), "in00000001",
+      "FOLIO", "Long Way to a Small, Angry Planet", UUID.randomUUID().toString())
+      .setIdentifiers(Collections.singletonList(new Identifier("isbn", "9781473619777")))
+      .setContributors(Collections.singletonList(
+        new Contributor("personal", "Chambers, Becky", null, null, true)))
+      .setMetadata(new Metadata("2020-06-01T10:00:00.000+0000", userId, null, null))
+      .setTags(Collections.singletonList("science-fiction"));
+
+    final JsonObject representation = InstanceRepresentation.writeInto(
+      new JsonObject(), instance,
+      Collections.singletonList(new InstanceRelationshipToParent(
+        UUID.randomUUID().toString(), parentId, "multipart")),
+      new ArrayList<>(), null, null);
+
+    assertThat(representation.getString("title"), is("Long Way to a Small, Angry Planet"));
+
+    final JsonObject metadata = representation.getJsonObject(Instance.METADATA_KEY);
+
+    assertThat(metadata.getString(Metadata.CREATED_BY_USER_ID_KEY), is(userId));
+    assertThat(metadata.containsKey(Metadata.UPDATED_DATE_KEY), is(true));
+    assertThat(metadata.getString(Metadata.UPDATED_DATE_KEY), is(nullValue()));
+
+    assertThat(representation.getJsonArray(Instance.IDENTIFIERS_KEY)
+      .getJsonObject(0).getString(Identifier.VALUE_KEY), is("9781473619777"));
+
+    assertThat(representation.getJsonArray(Instance.CONTRIBUTORS_KEY)
+      .getJsonObject(0).getBoolean(Contributor.PRIMARY_KEY), is(true));
+
+    assertThat(representation.getJsonArray(Instance.PARENT_INSTANCES_KEY)
+      .getJsonObject(0).getString(InstanceRelationshipToParent.SUPER_INSTANCE_ID_KEY),
+      is(parentId));
+
+    assertThat(representation.getJsonObject(Instance.TAGS_KEY)
+      .getJsonArray(Instance.TAG_LIST_KEY).getString(0), is("science-fiction"));
+
+    assertThat(representation.containsKey(Instance.PRECEDING_TITLES_KEY), is(false));
+  }
+}
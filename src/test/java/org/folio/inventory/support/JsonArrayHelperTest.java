@@ -0,0 +1,26 @@
+package org.folio.inventory.support;
+
+import static org.folio.inventory.support.JsonArrayHelper.indexById;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.Test;
+
+import io.vertx.core.json.JsonObject;
+
+public class JsonArrayHelperTest {
+  @Test
+  public void firstRecordIsKeptWhenIdsAreDuplicated() {
+    JsonObject first = new JsonObject().put("id", "1").put("callNumber", "first");
+    JsonObject second = new JsonObject().put("id", "1").put("callNumber", "second");
+    JsonObject noId = new JsonObject().put("callNumber", "none");
+
+    Map<String, JsonObject> recordsById = indexById(Arrays.asList(first, second, noId));
+
+    assertThat(recordsById.size(), is(1));
+    assertThat(recordsById.get("1").getString("callNumber"), is("first"));
+  }
+}
@@ -0,0 +1,63 @@
+package org.folio.inventory.support.http;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+public class JsonEncoderTest {
+  private final JsonObject record = new JsonObject()
+    .put("id", "e3cb8a29-5ed9-4b63-8dbd-0c2b1b0d2f4c")
+    .put("title", "Le Petit Prince – Ænid")
+    .put("contributors", new JsonArray()
+      .add(new JsonObject().put("name", "Saint-Exupéry, Antoine de")));
+
+  @After
+  public void tearDown() {
+    JsonEncoder.usePrettyPrinting(false);
+  }
+
+  @Test
+  public void encodesCompactlyByDefault() {
+    Buffer encoded = JsonEncoder.encode(record);
+
+    assertThat(encoded.toString(), is(record.encode()));
+    assertThat(encoded.toString(), not(containsString("\n")));
+  }
+
+  @Test
+  public void encodesUsingUtf8() {
+    Buffer encoded = JsonEncoder.encode(record);
+
+    assertThat(encoded.toJsonObject(), is(record));
+    assertThat(encoded.length(), is(record.encode().getBytes(
+      StandardCharsets.UTF_8).length));
+  }
+
+  @Test
+  public void canPrettyPrintWhenSwitchedOn() {
+    JsonEncoder.usePrettyPrinting(true);
+
+    Buffer encoded = JsonEncoder.encode(record);
+
+    assertThat(encoded.toString(), is(record.encodePrettily()));
+  }
+
+  @Test
+  public void canEncodeIntoExistingBuffer() {
+    Buffer target = Buffer.buffer().appendString("[");
+
+    JsonEncoder.encodeInto(target, record);
+
+    assertThat(target.appendString("]").toJsonArray().getJsonObject(0), is(record));
+  }
+}
@@ -0,0 +1,115 @@
+package org.folio.inventory.support.http;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.folio.inventory.domain.items.Item;
+import org.folio.inventory.domain.items.ItemStatusName;
+import org.folio.inventory.domain.items.Status;
+import org.folio.inventory.support.ItemUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.json.Json;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Compares pretty printing bodies to a string (as previously used for storage
+ * requests and API responses) with compact encoding directly into a buffer.
+ *
+ * The encoded size of each batch is printed during set up.
+ *
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=org.folio.inventory.support.http.JsonEncodingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonEncodingBenchmark {
+  @Param({"item", "instance"})
+  public String recordType;
+
+  @Param({"1", "100", "1000"})
+  public int batchSize;
+
+  private JsonObject batch;
+
+  @Setup
+  public void setUp() {
+    final JsonArray records = new JsonArray();
+
+    for (int index = 0; index < batchSize; index++) {
+      records.add("item".equals(recordType) ? item(index) : instance(index));
+    }
+
+    batch = new JsonObject()
+      .put("item".equals(recordType) ? "items" : "instances", records)
+      .put("totalRecords", batchSize);
+
+    System.out.println(String.format(
+      "%s batch of %s: pretty printed %s bytes, compact %s bytes",
+      recordType, batchSize, prettyPrintedToBuffer().length(),
+      compactIntoBuffer().length()));
+  }
+
+  @Benchmark
+  public Buffer prettyPrintedToBuffer() {
+    return Buffer.buffer(Json.encodePrettily(batch), "UTF-8");
+  }
+
+  @Benchmark
+  public Buffer compactIntoBuffer() {
+    return JsonEncoder.encode(batch);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+      .include(JsonEncodingBenchmark.class.getSimpleName())
+      .build()).run();
+  }
+
+  private static JsonObject item(int index) {
+    return ItemUtil.mapToJson(new Item(UUID.randomUUID().toString(),
+      UUID.randomUUID().toString(), new Status(ItemStatusName.AVAILABLE),
+      UUID.randomUUID().toString(), UUID.randomUUID().toString(), null)
+      .withBarcode(String.format("%08d", index))
+      .withPermanentLocationId(UUID.randomUUID().toString())
+      .withEffectiveLocationId(UUID.randomUUID().toString()));
+  }
+
+  private static JsonObject instance(int index) {
+    return new JsonObject()
+      .put("id", UUID.randomUUID().toString())
+      .put("hrid", String.format("in%08d", index))
+      .put("source", "FOLIO")
+      .put("title", "Long Way to a Small, Angry Planet " + index)
+      .put("instanceTypeId", UUID.randomUUID().toString())
+      .put("identifiers", new JsonArray()
+        .add(new JsonObject()
+          .put("identifierTypeId", UUID.randomUUID().toString())
+          .put("value", "9781473619777")))
+      .put("contributors", new JsonArray()
+        .add(new JsonObject()
+          .put("contributorNameTypeId", UUID.randomUUID().toString())
+          .put("name", "Chambers, Becky")))
+      .put("subjects", new JsonArray().add("Science fiction"))
+      .put("languages", new JsonArray().add("eng"));
+  }
+}
@@ -0,0 +1,72 @@
+package org.folio.inventory.support.http.client;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.folio.inventory.support.http.client.ConnectionPoolMetrics.PooledRequest;
+import org.junit.Test;
+
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.json.JsonObject;
+
+public class ConnectionPoolMetricsTest {
+  @Test
+  public void requestsBeyondCapacityAreQueued() {
+    ConnectionPoolMetrics metrics = new ConnectionPoolMetrics(2);
+
+    PooledRequest first = metrics.requestStarted();
+    metrics.requestStarted();
+    metrics.requestStarted();
+
+    JsonObject utilisation = metrics.toJson();
+
+    assertThat(utilisation.getInteger("inFlight"), is(3));
+    assertThat(utilisation.getInteger("queueDepth"), is(1));
+    assertThat(utilisation.getLong("requests"), is(3L));
+    assertThat(utilisation.getLong("queuedRequests"), is(1L));
+
+    first.complete();
+
+    utilisation = metrics.toJson();
+
+    assertThat(utilisation.getInteger("inFlight"), is(2));
+    assertThat(utilisation.getInteger("queueDepth"), is(0));
+    assertThat(utilisation.getInteger("maximumQueueDepth"), is(1));
+  }
+
+  @Test
+  public void requestIsOnlyCompletedOnce() {
+    ConnectionPoolMetrics metrics = new ConnectionPoolMetrics(2);
+
+    PooledRequest request = metrics.requestStarted();
+
+    request.completeBefore(response -> { }).handle("response");
+    request.completeBefore(failure -> { }).handle("failure");
+
+    assertThat(metrics.toJson().getInteger("inFlight"), is(0));
+  }
+
+  @Test
+  public void capacityIncludesPipelinedRequests() {
+    HttpClientOptions options = new HttpClientOptions()
+      .setMaxPoolSize(10)
+      .setPipelining(true)
+      .setPipeliningLimit(5);
+
+    assertThat(StorageHttpClientOptions.requestCapacity(options), is(50));
+  }
+
+  @Test
+  public void optionsCanBeConfigured() {
+    HttpClientOptions options = StorageHttpClientOptions.fromConfig(new JsonObject()
+      .put(StorageHttpClientOptions.MAXIMUM_POOL_SIZE_CONFIG_KEY, 20)
+      .put(StorageHttpClientOptions.KEEP_ALIVE_CONFIG_KEY, false)
+      .put(StorageHttpClientOptions.IDLE_TIMEOUT_CONFIG_KEY, 30));
+
+    assertThat(options.getMaxPoolSize(), is(20));
+    assertThat(options.isKeepAlive(), is(false));
+    assertThat(options.isPipelining(), is(false));
+    assertThat(options.getIdleTimeout(), is(30));
+    assertThat(StorageHttpClientOptions.requestCapacity(options), is(20));
+  }
+}
@@ -0,0 +1,60 @@
+package org.folio.inventory.support.http.client;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.Test;
+
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClientResponse;
+import io.vertx.core.json.JsonObject;
+
+public class ResponseTest {
+  @Test
+  public void parsesJsonFromReceivedBody() {
+    JsonObject record = new JsonObject().put("id", "1").put("name", "Élan");
+
+    Response response = Response.from(okResponse(), Buffer.buffer(record.encode()));
+
+    assertThat(response.getJson(), is(record));
+    assertThat(response.getBody(), is(record.encode()));
+    assertThat(response.getContentType(), is("application/json"));
+  }
+
+  @Test
+  public void parsesJsonOnlyOnce() {
+    Response response = Response.from(okResponse(),
+      Buffer.buffer(new JsonObject().put("id", "1").encode()));
+
+    assertThat(response.getJson(), sameInstance(response.getJson()));
+  }
+
+  @Test
+  public void emptyBodyIsEmptyJson() {
+    Response response = Response.from(okResponse(), Buffer.buffer());
+
+    assertThat(response.hasBody(), is(false));
+    assertThat(response.getBody(), is(""));
+    assertThat(response.getJson(), is(new JsonObject()));
+  }
+
+  @Test
+  public void canBeCreatedFromString() {
+    Response response = new Response(200, "{\"id\":\"1\"}", "application/json", null);
+
+    assertThat(response.hasBody(), is(true));
+    assertThat(response.getJson().getString("id"), is("1"));
+  }
+
+  private HttpClientResponse okResponse() {
+    HttpClientResponse response = mock(HttpClientResponse.class);
+
+    when(response.statusCode()).thenReturn(200);
+    when(response.getHeader("Content-Type")).thenReturn("application/json");
+
+    return response;
+  }
+}
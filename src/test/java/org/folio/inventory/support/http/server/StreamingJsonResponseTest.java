@@ -0,0 +1,107 @@
+package org.folio.inventory.support.http.server;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpServer;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.unit.Async;
+import io.vertx.ext.unit.TestContext;
+import io.vertx.ext.unit.junit.VertxUnitRunner;
+
+@RunWith(VertxUnitRunner.class)
+public class StreamingJsonResponseTest {
+  private Vertx vertx;
+  private HttpServer server;
+  private Consumer<HttpServerResponse> respond;
+
+  @Before
+  public void setUp(TestContext testContext) {
+    vertx = Vertx.vertx();
+
+    server = vertx.createHttpServer()
+      .requestHandler(request -> respond.accept(request.response()))
+      .listen(0, testContext.asyncAssertSuccess());
+  }
+
+  @After
+  public void tearDown(TestContext testContext) {
+    vertx.close(testContext.asyncAssertSuccess());
+  }
+
+  @Test
+  public void shouldWriteAllRecordsUsingChunkedEncoding(TestContext testContext) {
+    List<Integer> records = IntStream.range(0, 5000)
+      .boxed()
+      .collect(Collectors.toList());
+
+    respond = response -> StreamingJsonResponse.success(response, "items",
+      records, index -> new JsonObject().put("id", String.valueOf(index)), 10000);
+
+    Async async = testContext.async();
+
+    vertx.createHttpClient().getNow(server.actualPort(), "localhost", "/", response -> {
+      testContext.assertEquals(200, response.statusCode());
+      testContext.assertEquals("chunked", response.getHeader("Transfer-Encoding"));
+
+      response.bodyHandler(body -> {
+        JsonObject json = body.toJsonObject();
+
+        testContext.assertEquals(5000, json.getJsonArray("items").size());
+        testContext.assertEquals("0", json.getJsonArray("items").getJsonObject(0).getString("id"));
+        testContext.assertEquals("4999", json.getJsonArray("items").getJsonObject(4999).getString("id"));
+        testContext.assertEquals(10000, json.getInteger("totalRecords"));
+
+        async.complete();
+      });
+    });
+  }
+
+  @Test
+  public void shouldWriteValidJsonWhenNoRecords(TestContext testContext) {
+    respond = response -> StreamingJsonResponse.success(response, "instances",
+      Collections.<JsonObject>emptyList(), record -> record, 0);
+
+    Async async = testContext.async();
+
+    vertx.createHttpClient().getNow(server.actualPort(), "localhost", "/", response ->
+      response.bodyHandler(body -> {
+        JsonObject json = body.toJsonObject();
+
+        testContext.assertTrue(json.getJsonArray("instances").isEmpty());
+        testContext.assertEquals(0, json.getInteger("totalRecords"));
+
+        async.complete();
+      }));
+  }
+
+  @Test
+  public void shouldWriteOtherPropertiesAfterTotalRecords(TestContext testContext) {
+    respond = response -> StreamingJsonResponse.success(response, "items",
+      Collections.singletonList(new JsonObject().put("id", "1")), record -> record, 1,
+      new JsonObject().put("nextCursor", "abc"));
+
+    Async async = testContext.async();
+
+    vertx.createHttpClient().getNow(server.actualPort(), "localhost", "/", response ->
+      response.bodyHandler(body -> {
+        JsonObject json = body.toJsonObject();
+
+        testContext.assertEquals(1, json.getJsonArray("items").size());
+        testContext.assertEquals(1, json.getInteger("totalRecords"));
+        testContext.assertEquals("abc", json.getString("nextCursor"));
+
+        async.complete();
+      }));
+  }
+}
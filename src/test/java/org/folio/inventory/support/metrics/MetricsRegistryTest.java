@@ -0,0 +1,105 @@
+package org.folio.inventory.support.metrics;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import io.vertx.core.http.HttpMethod;
+
+public class MetricsRegistryTest {
+  @Test
+  public void requestsForDifferentRecordsAreRecordedTogether() {
+    MetricsRegistry registry = new MetricsRegistry();
+
+    registry.recordInboundRequest("GET", "/inventory/items/" + UUID.randomUUID(),
+      200, TimeUnit.MILLISECONDS.toNanos(3));
+
+    registry.recordInboundRequest("GET", "/inventory/items/" + UUID.randomUUID(),
+      500, TimeUnit.MILLISECONDS.toNanos(30));
+
+    assertThat(registry.getInboundRequests().size(), is(1));
+
+    RequestMetrics metrics = registry.getInboundRequests().iterator().next();
+
+    assertThat(metrics.getPath(), is("/inventory/items/{id}"));
+    assertThat(metrics.getCount(), is(2L));
+    assertThat(metrics.getErrors(), is(1L));
+  }
+
+  @Test
+  public void latencyIsRecordedInHistogramBuckets() {
+    MetricsRegistry registry = new MetricsRegistry();
+
+    registry.recordInboundRequest("GET", "/inventory/instances", 200,
+      TimeUnit.MILLISECONDS.toNanos(3));
+
+    registry.recordInboundRequest("GET", "/inventory/instances", 200,
+      TimeUnit.MILLISECONDS.toNanos(300));
+
+    String text = registry.toPrometheusText();
+
+    assertThat(text, containsString(
+      "inventory_http_server_requests_seconds_bucket{method=\"GET\",path=\"/inventory/instances\",le=\"0.005\"} 1"));
+
+    assertThat(text, containsString(
+      "inventory_http_server_requests_seconds_bucket{method=\"GET\",path=\"/inventory/instances\",le=\"0.5\"} 2"));
+
+    assertThat(text, containsString(
+      "inventory_http_server_requests_seconds_count{method=\"GET\",path=\"/inventory/instances\"} 2"));
+  }
+
+  @Test
+  public void numberOfPathsIsBounded() {
+    MetricsRegistry registry = new MetricsRegistry();
+
+    for (int index = 0; index < MetricsRegistry.MAXIMUM_PATHS + 10; index++) {
+      registry.outboundRequestStarted(HttpMethod.GET,
+        "http://localhost:9130/storage-" + index);
+    }
+
+    assertThat(registry.getOutboundRequests().size(),
+      is(MetricsRegistry.MAXIMUM_PATHS + 1));
+  }
+
+  @Test
+  public void metricsFromSourcesOfTheSameKindAreAddedTogether() {
+    MetricsRegistry registry = new MetricsRegistry();
+
+    registry.register(() -> Arrays.asList(
+      Metric.gauge("example_active", "Example gauge", 2),
+      Metric.counter("example_wait_seconds_total", "Example counter", 0.5)));
+
+    registry.register(() -> Arrays.asList(
+      Metric.gauge("example_active", "Example gauge", 3),
+      Metric.counter("example_wait_seconds_total", "Example counter", 1.0)));
+
+    String text = registry.toPrometheusText();
+
+    assertThat(text, containsString(
+      "# TYPE example_active gauge\nexample_active 5\n"));
+
+    assertThat(text, containsString(
+      "# TYPE example_wait_seconds_total counter\nexample_wait_seconds_total 1.5\n"));
+  }
+
+  @Test
+  public void metricsFromUnregisteredSourcesAreNotIncluded() {
+    MetricsRegistry registry = new MetricsRegistry();
+
+    MetricsSource source = () -> Collections.singletonList(
+      Metric.gauge("example_active", "Example gauge", 2));
+
+    registry.register(source);
+    registry.unregister(source);
+
+    assertThat(registry.toPrometheusText(), not(containsString("example_active")));
+  }
+}
@@ -0,0 +1,41 @@
+package org.folio.inventory.support.metrics;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.junit.Test;
+
+public class RequestPathsTest {
+  @Test
+  public void hostAndQueryAreRemoved() {
+    assertThat(RequestPaths.normalise(
+      "http://localhost:9130/item-storage/items?query=id%3D%3D(1)&limit=30"),
+      is("/item-storage/items"));
+  }
+
+  @Test
+  public void idsAreReplaced() {
+    assertThat(RequestPaths.normalise(
+      "http://localhost:9130/holdings-storage/holdings/e3a0b4d4-8c1b-4ea4-9ea0-4a1b0e8a6d2f"),
+      is("/holdings-storage/holdings/{id}"));
+
+    assertThat(RequestPaths.normalise(
+      "/inventory/items/E3A0B4D4-8C1B-4EA4-9EA0-4A1B0E8A6D2F/mark-missing"),
+      is("/inventory/items/{id}/mark-missing"));
+
+    assertThat(RequestPaths.normalise("/inventory/ingest/mods/status/12"),
+      is("/inventory/ingest/mods/status/{id}"));
+  }
+
+  @Test
+  public void namedSegmentsAreKept() {
+    assertThat(RequestPaths.normalise("/isbn/convertTo13"), is("/isbn/convertTo13"));
+    assertThat(RequestPaths.normalise("/inventory/items/"), is("/inventory/items/"));
+  }
+
+  @Test
+  public void rootForMissingPath() {
+    assertThat(RequestPaths.normalise("http://localhost:9130"), is("/"));
+    assertThat(RequestPaths.normalise(""), is("/"));
+  }
+}
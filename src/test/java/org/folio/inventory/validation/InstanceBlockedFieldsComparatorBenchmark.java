@@ -0,0 +1,113 @@
+package org.folio.inventory.validation;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.folio.inventory.config.InventoryConfigurationImpl;
+import org.folio.inventory.domain.instances.Contributor;
+import org.folio.inventory.domain.instances.Identifier;
+import org.folio.inventory.domain.instances.Instance;
+import org.folio.inventory.domain.instances.Note;
+import org.folio.inventory.domain.instances.Publication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import io.vertx.core.json.JsonObject;
+
+/**
+ * Compares detecting changes to blocked fields by representing both instances
+ * as JSON (as previously used) with comparing properties of the instances.
+ *
+ * The unchanged case has to compare every blocked field, the changed case
+ * differs in the title.
+ *
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ *   -Dexec.mainClass=org.folio.inventory.validation.InstanceBlockedFieldsComparatorBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InstanceBlockedFieldsComparatorBenchmark {
+  @Param({"unchanged", "changed"})
+  public String update;
+
+  private final Set<String> blockedFields
+    = new InventoryConfigurationImpl().getInstanceBlockedFields();
+
+  private final InstanceBlockedFieldsComparator comparator
+    = new InstanceBlockedFieldsComparator(blockedFields);
+
+  private Instance existingInstance;
+  private Instance updatedInstance;
+
+  @Setup
+  public void setUp() {
+    final String id = UUID.randomUUID().toString();
+    final String instanceTypeId = UUID.randomUUID().toString();
+
+    existingInstance = instance(id, "Long Way to a Small, Angry Planet", instanceTypeId);
+
+    updatedInstance = instance(id, "unchanged".equals(update)
+      ? "Long Way to a Small, Angry Planet"
+      : "A Closed and Common Orbit", instanceTypeId);
+  }
+
+  @Benchmark
+  public boolean representedAsJson() {
+    final JsonObject existingInstanceJson = JsonObject.mapFrom(existingInstance);
+    final JsonObject updatedInstanceJson = JsonObject.mapFrom(updatedInstance);
+    final Map<String, Object> existingBlockedFields = new HashMap<>();
+    final Map<String, Object> updatedBlockedFields = new HashMap<>();
+
+    for (String blockedField : blockedFields) {
+      existingBlockedFields.put(blockedField, existingInstanceJson.getValue(blockedField));
+      updatedBlockedFields.put(blockedField, updatedInstanceJson.getValue(blockedField));
+    }
+
+    return !existingBlockedFields.equals(updatedBlockedFields);
+  }
+
+  @Benchmark
+  public boolean comparedProperties() {
+    return comparator.anyChanged(existingInstance, updatedInstance);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+      .include(InstanceBlockedFieldsComparatorBenchmark.class.getSimpleName())
+      .build()).run();
+  }
+
+  private static Instance instance(String id, String title, String instanceTypeId) {
+    return new Instance(id, "in00000001", "MARC", title, instanceTypeId)
+      .setIdentifiers(Collections.singletonList(
+        new Identifier("8261054f-be78-422d-bd51-4ed9f33c3422", "9781473619777")))
+      .setContributors(Collections.singletonList(new Contributor(
+        "2b94c631-fca9-4892-a730-03ee529ffe2a", "Chambers, Becky", null, null, true)))
+      .setSubjects(Collections.singletonList("Science fiction"))
+      .setPublication(Collections.singletonList(
+        new Publication("Hodder & Stoughton", "London", "2015", null)))
+      .setLanguages(Collections.singletonList("eng"))
+      .setNotes(Collections.singletonList(
+        new Note("6a2533a7-4de2-4e64-8466-074c2fa9308c", "First published in 2014", false)));
+  }
+}
@@ -0,0 +1,118 @@
+package org.folio.inventory.validation;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.UUID;
+
+import org.folio.inventory.config.InventoryConfigurationImpl;
+import org.folio.inventory.domain.instances.Contributor;
+import org.folio.inventory.domain.instances.Identifier;
+import org.folio.inventory.domain.instances.Instance;
+import org.folio.inventory.domain.instances.titles.PrecedingSucceedingTitle;
+import org.junit.Test;
+
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+
+public class InstanceBlockedFieldsComparatorTest {
+  private final InstanceBlockedFieldsComparator comparator
+    = new InstanceBlockedFieldsComparator(
+      new InventoryConfigurationImpl().getInstanceBlockedFields());
+
+  private final String id = UUID.randomUUID().toString();
+  private final String instanceTypeId = UUID.randomUUID().toString();
+
+  @Test
+  public void unchangedWhenBlockedFieldsAreEqual() {
+    assertThat(comparator.anyChanged(instance(), instance()), is(false));
+  }
+
+  @Test
+  public void unchangedWhenOnlyFieldsThatAreNotBlockedChange() {
+    assertThat(comparator.anyChanged(instance(),
+      instance().setDiscoverySuppress(true).setStatusId(UUID.randomUUID().toString())),
+      is(false));
+  }
+
+  @Test
+  public void changedWhenTitleChanges() {
+    assertThat(comparator.anyChanged(instance(),
+      new Instance(id, "in00000001", "MARC", "A Closed and Common Orbit", instanceTypeId)),
+      is(true));
+  }
+
+  @Test
+  public void changedWhenPropertyOfNestedRecordChanges() {
+    assertThat(comparator.anyChanged(instance(), instance()
+      .setContributors(Collections.singletonList(
+        new Contributor("personal", "Chambers, Becky", null, null, false)))),
+      is(true));
+  }
+
+  @Test
+  public void changedWhenNestedRecordIsAdded() {
+    assertThat(comparator.anyChanged(instance(), instance()
+      .setIdentifiers(Arrays.asList(
+        new Identifier("isbn", "9781473619777"),
+        new Identifier("isbn", "9781473619784")))),
+      is(true));
+  }
+
+  @Test
+  public void changedWhenListIsRemoved() {
+    assertThat(comparator.anyChanged(instance(), instance().setSubjects(null)),
+      is(true));
+  }
+
+  @Test
+  public void changedWhenPrecedingTitleChanges() {
+    final PrecedingSucceedingTitle existingTitle = PrecedingSucceedingTitle.from(
+      new JsonObject()
+        .put("id", "1")
+        .put("title", "Record Of A Spaceborn Few")
+        .put("identifiers", new JsonArray()));
+
+    final PrecedingSucceedingTitle updatedTitle = PrecedingSucceedingTitle.from(
+      new JsonObject()
+        .put("id", "1")
+        .put("title", "The Galaxy, and the Ground Within")
+        .put("identifiers", new JsonArray()));
+
+    assertThat(comparator.anyChanged(
+      instance().setPrecedingTitles(Collections.singletonList(existingTitle)),
+      instance().setPrecedingTitles(Collections.singletonList(existingTitle))),
+      is(false));
+
+    assertThat(comparator.anyChanged(
+      instance().setPrecedingTitles(Collections.singletonList(existingTitle)),
+      instance().setPrecedingTitles(Collections.singletonList(updatedTitle))),
+      is(true));
+  }
+
+  @Test
+  public void fieldWithoutSpecificComparisonIsComparedAsJson() {
+    final InstanceBlockedFieldsComparator statusComparator
+      = new InstanceBlockedFieldsComparator(
+        new HashSet<>(Collections.singletonList(Instance.STATUS_ID_KEY)));
+
+    assertThat(statusComparator.anyChanged(instance().setStatusId("available"),
+      instance().setStatusId("available")), is(false));
+
+    assertThat(statusComparator.anyChanged(instance().setStatusId("available"),
+      instance().setStatusId("withdrawn")), is(true));
+  }
+
+  private Instance instance() {
+    return new Instance(id, "in00000001", "MARC", "Long Way to a Small, Angry Planet",
+      instanceTypeId)
+      .setIdentifiers(Collections.singletonList(new Identifier("isbn", "9781473619777")))
+      .setContributors(Collections.singletonList(
+        new Contributor("personal", "Chambers, Becky", null, null, true)))
+      .setSubjects(new ArrayList<>(Collections.singletonList("Science fiction")));
+  }
+}
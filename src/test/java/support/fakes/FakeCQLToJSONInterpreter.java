@@ -99,7 +99,8 @@ public class FakeCQLToJSONInterpreter {
             String.join(", ", split)));
 
           String searchField = split[0]
-            .replaceAll("\"", "");
+            .replaceAll("\"", "")
+            .replaceAll("\\(", "");
 
           String searchTerm = split[1]
             .replaceAll("\"", "")
@@ -142,6 +143,9 @@ public class FakeCQLToJSONInterpreter {
         printDiagnostics(() -> "Either term or field are null, aborting filtering");
         return true;
       }
+      else if (field.equals("cql.allRecords")) {
+        return true;
+      }
       else {
         propertyValue = getPropertyValue(record, field);
 
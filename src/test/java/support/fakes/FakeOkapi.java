@@ -1,9 +1,14 @@
 package support.fakes;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.Future;
 import io.vertx.core.http.HttpServer;
 import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
 import support.fakes.processors.StorageConstraintsProcessors;
 import support.fakes.processors.StorageRecordPreProcessors;
 
@@ -12,12 +17,44 @@ public class FakeOkapi extends AbstractVerticle {
   private static final String address =
     String.format("http://localhost:%s", PORT_TO_USE);
 
+  private static final List<String> requestsMade = new CopyOnWriteArrayList<>();
+  private static final List<TimedRequest> timedRequestsMade = new CopyOnWriteArrayList<>();
+  private static volatile long requestDelayMilliseconds = 0;
+
   private HttpServer server;
 
   public static String getAddress() {
     return address;
   }
 
+  /**
+   * Paths (without query) of the requests received since the last call to
+   * {@link #clearRequestsMade()}
+   */
+  public static List<String> getRequestsMade() {
+    return new ArrayList<>(requestsMade);
+  }
+
+  /**
+   * Requests received since the last call to {@link #clearRequestsMade()},
+   * with when each was received and when its response was sent
+   */
+  public static List<TimedRequest> getTimedRequestsMade() {
+    return new ArrayList<>(timedRequestsMade);
+  }
+
+  public static void clearRequestsMade() {
+    requestsMade.clear();
+    timedRequestsMade.clear();
+  }
+
+  /**
+   * Delays handling of every request, to stand in for slower storage modules
+   */
+  public static void setRequestDelay(long delayMilliseconds) {
+    requestDelayMilliseconds = delayMilliseconds;
+  }
+
   public void start(Future<Void> startFuture) {
     System.out.println("Starting fake modules");
 
@@ -25,6 +62,8 @@ public class FakeOkapi extends AbstractVerticle {
 
     this.server = vertx.createHttpServer();
 
+    router.route().handler(this::recordRequest);
+
     registerFakeInstanceStorageModule(router);
     registerFakeHoldingStorageModule(router);
     registerFakeItemsStorageModule(router);
@@ -67,6 +106,23 @@ public class FakeOkapi extends AbstractVerticle {
     }
   }
 
+  private void recordRequest(RoutingContext routingContext) {
+    requestsMade.add(routingContext.request().path());
+
+    final TimedRequest timedRequest = new TimedRequest(routingContext.request().path());
+
+    timedRequestsMade.add(timedRequest);
+    routingContext.addBodyEndHandler(notUsed -> timedRequest.responded());
+
+    final long delay = requestDelayMilliseconds;
+
+    if (delay > 0) {
+      vertx.setTimer(delay, timerId -> routingContext.next());
+    } else {
+      routingContext.next();
+    }
+  }
+
   private void registerFakeInstanceStorageModule(Router router) {
     FakeStorageModule fakeInstanceStorageModule = new FakeStorageModuleBuilder()
       .withRecordName("instance")
@@ -255,4 +311,36 @@ public class FakeOkapi extends AbstractVerticle {
       .withRequiredProperties("moduleId", "subscriptionDefinitions")
       .create().register(router);
   }
+
+  public static class TimedRequest {
+    private final String path;
+    private final long receivedAt = System.nanoTime();
+    private volatile long respondedAt = Long.MAX_VALUE;
+
+    private TimedRequest(String path) {
+      this.path = path;
+    }
+
+    private void responded() {
+      respondedAt = System.nanoTime();
+    }
+
+    public String getPath() {
+      return path;
+    }
+
+    /**
+     * @return whether either request was received before the response to
+     * the other was sent, meaning the client did not wait for one before
+     * making the other
+     */
+    public boolean overlaps(TimedRequest other) {
+      return receivedAt < other.respondedAt && other.receivedAt < respondedAt;
+    }
+
+    @Override
+    public String toString() {
+      return path;
+    }
+  }
 }